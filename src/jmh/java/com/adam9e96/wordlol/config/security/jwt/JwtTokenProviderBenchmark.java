@@ -0,0 +1,60 @@
+package com.adam9e96.wordlol.config.security.jwt;
+
+import com.adam9e96.wordlol.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 JWT 인증 경로 벤치마크
+ * <ul>
+ *     <li>validateToken: 서명/만료 검증만 (HMAC 계산 + JSON 파싱)</li>
+ *     <li>getAuthentication: 검증된 토큰 캐시를 거치는 실제 필터 경로</li>
+ *     <li>getAuthenticationUncached: 캐시 크기 0 으로 매번 파싱하는 경우</li>
+ * </ul>
+ * 사용자 저장소는 리프레시 토큰에만 쓰이므로 null 로 생성합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET_KEY = "VGhpc0lzQVNlY3VyZVNlY3JldEtleUZvckp3dEJlbmNobWFya1JlcXVpcmVkMzJCeXRlcw==";
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = new JwtTokenProvider(properties(10_000), null, new SimpleMeterRegistry());
+        uncachedProvider = new JwtTokenProvider(properties(0), null, new SimpleMeterRegistry());
+        accessToken = cachedProvider.createTokenFromEmail(1L, "bench@wordlol.com", Role.USER).getAccessToken();
+    }
+
+    private static JwtProperties properties(long cacheSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey(SECRET_KEY);
+        properties.setAccessTokenValidityInMs(TimeUnit.HOURS.toMillis(1));
+        properties.setRefreshTokenValidityInMs(TimeUnit.DAYS.toMillis(30));
+        properties.setVerifiedTokenCacheSize(cacheSize);
+        return properties;
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return cachedProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return cachedProvider.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthenticationUncached() {
+        return uncachedProvider.getAuthentication(accessToken);
+    }
+}
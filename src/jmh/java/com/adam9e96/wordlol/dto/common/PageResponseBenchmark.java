@@ -0,0 +1,44 @@
+package com.adam9e96.wordlol.dto.common;
+
+import com.adam9e96.wordlol.dto.response.WordResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이징 응답 생성 벤치마크
+ * <p>
+ * 단어 목록/검색 API 와 같이 PageImpl 을 만든 뒤 PageResponse 로 감싸는 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PageResponseBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private Pageable pageable;
+    private List<WordResponse> content;
+
+    @Setup
+    public void setUp() {
+        pageable = PageRequest.of(3, pageSize);
+        content = new ArrayList<>(pageSize);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < pageSize; i++) {
+            content.add(new WordResponse((long) i + 1, "vocabulary" + i, "뜻" + i, "힌트" + i, i % 5 + 1, now, now));
+        }
+    }
+
+    @Benchmark
+    public PageResponse<WordResponse> pageResponse() {
+        return new PageResponse<>(new PageImpl<>(content, pageable, 10_000));
+    }
+}
@@ -0,0 +1,45 @@
+package com.adam9e96.wordlol.mapper.entity;
+
+import com.adam9e96.wordlol.dto.response.WordResponse;
+import com.adam9e96.wordlol.entity.Word;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct 엔티티 -> DTO 목록 변환 벤치마크 (페이지 크기별)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class WordEntityMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private WordEntityMapper wordEntityMapper;
+    private List<Word> words;
+
+    @Setup
+    public void setUp() {
+        wordEntityMapper = Mappers.getMapper(WordEntityMapper.class);
+        words = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            words.add(Word.builder()
+                    .id((long) i + 1)
+                    .vocabulary("vocabulary" + i)
+                    .meaning("뜻" + i + ", 다른 뜻" + i)
+                    .hint("힌트" + i)
+                    .difficulty(i % 5 + 1)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<WordResponse> toDtoList() {
+        return wordEntityMapper.toDtoList(words);
+    }
+}
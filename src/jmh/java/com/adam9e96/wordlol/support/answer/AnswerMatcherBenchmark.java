@@ -0,0 +1,72 @@
+package com.adam9e96.wordlol.support.answer;
+
+import com.adam9e96.wordlol.entity.Word;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정답 확인(WordServiceImpl 의 validateAnswer) 벤치마크
+ * <p>
+ * 이전 방식(쉼표로 나눈 뒤 equalsIgnoreCase)과 AnswerMatcher 를 정답, 오타, 오답 입력으로 비교합니다.
+ * compileAndMatch 는 캐시가 비어 있을 때(단어를 처음 확인하거나 뜻이 바뀐 직후)의 비용입니다.
+ * levenshtein 은 오타 비교 한 번(BandedLevenshtein)의 비용입니다.
+ * <p>
+ * 호출당 할당량은 {@code ./gradlew jmh -PjmhIncludes=AnswerMatcher -PjmhProfilers=gc} 로 확인합니다. (gc.alloc.rate.norm)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AnswerMatcherBenchmark {
+
+    private static final String MEANING = "달리다, 운영하다 (회사를), 작동하다; 출마하다/흐르다";
+
+    @Param({"exact", "typo", "wrong"})
+    private String input;
+
+    private AnswerMatcherProperties properties;
+    private AnswerMatcher answerMatcher;
+    private Word word;
+    private String answer;
+
+    @Setup
+    public void setUp() {
+        properties = new AnswerMatcherProperties();
+        answerMatcher = new AnswerMatcher(properties);
+        word = Word.builder()
+                .id(1L)
+                .vocabulary("run")
+                .meaning(MEANING)
+                .difficulty(1)
+                .build();
+        answer = switch (input) {
+            case "exact" -> " 운영하다 ";
+            case "typo" -> "작동하디";
+            default -> "걸어가다";
+        };
+    }
+
+    @Benchmark
+    public boolean legacySplit() {
+        return Arrays.stream(MEANING.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equalsIgnoreCase(answer.trim()));
+    }
+
+    @Benchmark
+    public boolean answerMatcher() {
+        return answerMatcher.matches(word, answer);
+    }
+
+    @Benchmark
+    public int levenshtein() {
+        return BandedLevenshtein.distance("작동하다", AnswerNormalizer.normalize(answer), properties.getMaxEditDistance());
+    }
+
+    @Benchmark
+    public boolean compileAndMatch() {
+        return AnswerSet.compile(MEANING).matches(AnswerNormalizer.normalize(answer),
+                properties.getMaxEditDistance(), properties.getMinFuzzyLength());
+    }
+}
@@ -0,0 +1,153 @@
+package com.adam9e96.wordlol.support.random;
+
+import com.adam9e96.wordlol.repository.mybatis.WordMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 랜덤 단어 추출 벤치마크: ORDER BY RAND() LIMIT n 과 WordIdSampler 비교
+ * <p>
+ * 사용자 한 명이 단어 rows 개를 가진 경우 랜덤 단어 API 한 번에 해당하는 작업을 측정합니다.
+ * <ul>
+ *     <li>orderByRand: 사용자 단어 전체에 난수를 붙여 정렬한 뒤 앞의 n 개 조회 (이전 findRandomWordsByUserId 와 같은 SQL)</li>
+ *     <li>sampler: 메모리의 ID 배열에서 n 개를 뽑은 뒤 PK 로 단어 조회 (WordServiceImpl 의 샘플러 경로)</li>
+ *     <li>samplerCold: 캐시가 비어 있을 때 ID 배열을 처음 만드는 비용까지 포함한 sampler</li>
+ * </ul>
+ * DB 는 H2 인메모리이므로 실제 MariaDB 보다 ORDER BY RAND() 가 유리하게 측정됩니다. (디스크 I/O, filesort 없음)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class WordIdSamplerBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final int SAMPLE_SIZE = 5;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private Connection connection;
+    private WordIdSampler wordIdSampler;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:word-id-sampler-benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE word (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL, "
+                    + "vocabulary VARCHAR(100) NOT NULL, meaning VARCHAR(100) NOT NULL)");
+            statement.execute("CREATE INDEX idx_word_user_id ON word (user_id)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO word (id, user_id, vocabulary, meaning) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setLong(1, i);
+                insert.setLong(2, USER_ID);
+                insert.setString(3, "word" + i);
+                insert.setString(4, "뜻" + i);
+                insert.addBatch();
+                if (i % INSERT_BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        wordIdSampler = new WordIdSampler(idsOnlyMapper(connection));
+        // 캐시를 미리 채워 sampler 는 메모리 추출 + PK 조회만 측정
+        wordIdSampler.size(USER_ID);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> orderByRand() throws SQLException {
+        try (PreparedStatement page = connection.prepareStatement(
+                "SELECT id, vocabulary, meaning FROM word WHERE user_id = ? ORDER BY RAND() LIMIT ?")) {
+            page.setLong(1, USER_ID);
+            page.setInt(2, SAMPLE_SIZE);
+            return readIds(page);
+        }
+    }
+
+    @Benchmark
+    public List<Long> sampler() throws SQLException {
+        return findByIds(wordIdSampler.sample(USER_ID, SAMPLE_SIZE));
+    }
+
+    @Benchmark
+    public List<Long> samplerCold() throws SQLException {
+        wordIdSampler.invalidate(USER_ID);
+        return findByIds(wordIdSampler.sample(USER_ID, SAMPLE_SIZE));
+    }
+
+    private List<Long> findByIds(List<Long> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = ids.stream().map(id -> "?").collect(Collectors.joining(","));
+        try (PreparedStatement page = connection.prepareStatement(
+                "SELECT id, vocabulary, meaning FROM word WHERE user_id = ? AND id IN (" + placeholders + ")")) {
+            page.setLong(1, USER_ID);
+            for (int i = 0; i < ids.size(); i++) {
+                page.setLong(i + 2, ids.get(i));
+            }
+            return readIds(page);
+        }
+    }
+
+    private static List<Long> readIds(PreparedStatement statement) throws SQLException {
+        List<Long> ids = new ArrayList<>(SAMPLE_SIZE);
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * ID 배열 구성에 쓰이는 findIdsByUserId 만 H2 로 구현한 WordMapper (나머지 메서드는 지원하지 않음)
+     */
+    private static WordMapper idsOnlyMapper(Connection connection) {
+        return (WordMapper) Proxy.newProxyInstance(WordMapper.class.getClassLoader(), new Class<?>[]{WordMapper.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findIdsByUserId" -> findIdsByUserId(connection, (Long) args[0]);
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "IdsOnlyWordMapper";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static List<Long> findIdsByUserId(Connection connection, Long userId) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id FROM word WHERE user_id = ? ORDER BY id")) {
+            select.setLong(1, userId);
+            List<Long> ids = new ArrayList<>();
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+            return ids;
+        }
+    }
+}
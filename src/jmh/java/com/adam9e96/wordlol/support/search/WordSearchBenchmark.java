@@ -0,0 +1,254 @@
+package com.adam9e96.wordlol.support.search;
+
+import com.adam9e96.wordlol.entity.User;
+import com.adam9e96.wordlol.entity.Word;
+import com.adam9e96.wordlol.repository.mybatis.WordMapper;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 단어 검색 벤치마크: LIKE '%keyword%' 검색과 Lucene n-gram 인덱스 검색 비교
+ * <p>
+ * 사용자 한 명이 단어 100,000개를 가진 경우 검색 API 한 번에 해당하는 작업을 측정합니다.
+ * <ul>
+ *     <li>like: 전체 수 COUNT + 페이지 조회 (WordMapper 의 countSearchResults, searchWords 와 같은 SQL)</li>
+ *     <li>index: 인덱스로 전체 수와 페이지 ID 를 구한 뒤 PK 로 단어 조회 (WordServiceImpl 의 인덱스 경로)</li>
+ * </ul>
+ * DB 는 H2 인메모리이므로 실제 MariaDB 보다 LIKE 가 유리하게 측정됩니다. (디스크 I/O 없음)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class WordSearchBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final int WORD_COUNT = 100_000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String[] PARTS = {"re", "con", "tion", "pre", "ment", "able", "in", "ex", "port", "form",
+            "ject", "dis", "ness", "ful", "struct", "al", "ive", "sub", "trans", "ly"};
+    private static final String[] SYLLABLES = {"하다", "가", "나", "다", "사", "람", "물", "건", "운", "영",
+            "작", "동", "생", "각", "마", "음", "학", "교", "시", "간"};
+
+    @Param({"tion", "하다", "structment"})
+    private String keyword;
+
+    private Path indexPath;
+    private Connection connection;
+    private WordSearchIndex wordSearchIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        List<Word> words = generateWords();
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:word-search-benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE word (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL, "
+                    + "vocabulary VARCHAR(100) NOT NULL, meaning VARCHAR(100) NOT NULL)");
+            statement.execute("CREATE INDEX idx_word_user_id ON word (user_id)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO word (id, user_id, vocabulary, meaning) VALUES (?, ?, ?, ?)")) {
+            for (Word word : words) {
+                insert.setLong(1, word.getId());
+                insert.setLong(2, USER_ID);
+                insert.setString(3, word.getVocabulary());
+                insert.setString(4, word.getMeaning());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        indexPath = Files.createTempDirectory("word-index-benchmark");
+        WordSearchIndexProperties properties = new WordSearchIndexProperties();
+        properties.setPath(indexPath.toString());
+        wordSearchIndex = new WordSearchIndex(scanOnlyMapper(words), properties);
+        wordSearchIndex.start();
+        // 빈 인덱스이므로 백그라운드 재구성이 끝날 때까지 대기
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(5);
+        while (!wordSearchIndex.isReady()) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("검색 인덱스 재구성이 끝나지 않았습니다.");
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException, IOException {
+        wordSearchIndex.stop();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+        try (Stream<Path> paths = Files.walk(indexPath)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Long> like() throws SQLException {
+        long total;
+        try (PreparedStatement count = connection.prepareStatement(
+                "SELECT COUNT(*) FROM word WHERE user_id = ? "
+                        + "AND (vocabulary LIKE CONCAT('%', ?, '%') OR meaning LIKE CONCAT('%', ?, '%'))")) {
+            count.setLong(1, USER_ID);
+            count.setString(2, keyword);
+            count.setString(3, keyword);
+            try (ResultSet rs = count.executeQuery()) {
+                rs.next();
+                total = rs.getLong(1);
+            }
+        }
+        try (PreparedStatement page = connection.prepareStatement(
+                "SELECT id, vocabulary, meaning FROM word WHERE user_id = ? "
+                        + "AND (vocabulary LIKE CONCAT('%', ?, '%') OR meaning LIKE CONCAT('%', ?, '%')) "
+                        + "ORDER BY id DESC LIMIT ? OFFSET 0")) {
+            page.setLong(1, USER_ID);
+            page.setString(2, keyword);
+            page.setString(3, keyword);
+            page.setInt(4, PAGE_SIZE);
+            return readIds(page, total);
+        }
+    }
+
+    @Benchmark
+    public List<Long> index() throws SQLException {
+        SearchHits hits = wordSearchIndex.search(USER_ID, keyword, 0, PAGE_SIZE).orElseThrow();
+        if (hits.ids().isEmpty()) {
+            return List.of();
+        }
+        String placeholders = hits.ids().stream().map(id -> "?").collect(Collectors.joining(","));
+        try (PreparedStatement page = connection.prepareStatement(
+                "SELECT id, vocabulary, meaning FROM word WHERE user_id = ? AND id IN (" + placeholders + ")")) {
+            page.setLong(1, USER_ID);
+            for (int i = 0; i < hits.ids().size(); i++) {
+                page.setLong(i + 2, hits.ids().get(i));
+            }
+            return readIds(page, hits.total());
+        }
+    }
+
+    private static List<Long> readIds(PreparedStatement statement, long total) throws SQLException {
+        List<Long> ids = new ArrayList<>(PAGE_SIZE + 1);
+        ids.add(total);
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    private static List<Word> generateWords() {
+        Random random = new Random(42);
+        User user = User.builder().id(USER_ID).build();
+        List<Word> words = new ArrayList<>(WORD_COUNT);
+        for (int i = 1; i <= WORD_COUNT; i++) {
+            words.add(Word.builder()
+                    .id((long) i)
+                    .vocabulary(join(random, PARTS, 2 + random.nextInt(3), ""))
+                    .meaning(join(random, SYLLABLES, 2 + random.nextInt(4), "") + ", "
+                            + join(random, SYLLABLES, 2 + random.nextInt(3), ""))
+                    .difficulty(1 + random.nextInt(5))
+                    .user(user)
+                    .build());
+        }
+        return words;
+    }
+
+    private static String join(Random random, String[] parts, int count, String delimiter) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(delimiter);
+            }
+            builder.append(parts[random.nextInt(parts.length)]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 인덱스 재구성에 쓰이는 scanForIndex 만 구현한 WordMapper (나머지 메서드는 지원하지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    private static WordMapper scanOnlyMapper(List<Word> words) {
+        return (WordMapper) Proxy.newProxyInstance(WordMapper.class.getClassLoader(), new Class<?>[]{WordMapper.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "scanForIndex" -> {
+                        }
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        case "toString" -> {
+                            return "ScanOnlyWordMapper";
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    }
+                    Long afterId = (Long) args[1];
+                    ResultHandler<Word> handler = (ResultHandler<Word>) args[2];
+                    ListResultContext context = new ListResultContext();
+                    for (Word word : words) {
+                        if (afterId == null || word.getId() > afterId) {
+                            context.next(word);
+                            handler.handleResult(context);
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    private static final class ListResultContext implements ResultContext<Word> {
+        private Word current;
+        private int count;
+
+        void next(Word word) {
+            current = word;
+            count++;
+        }
+
+        @Override
+        public Word getResultObject() {
+            return current;
+        }
+
+        @Override
+        public int getResultCount() {
+            return count;
+        }
+
+        @Override
+        public boolean isStopped() {
+            return false;
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.adam9e96.wordlol.validator;
+
+import com.adam9e96.wordlol.common.constants.Constants;
+import com.adam9e96.wordlol.dto.request.WordRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 단어 등록 검증 벤치마크
+ * <p>
+ * validateVocabulary 의 String.matches 는 호출마다 VOCABULARY_PATTERN 을 컴파일합니다.
+ * precompiledPattern 은 같은 검사를 미리 컴파일한 Pattern 으로 수행한 기준값입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class WordValidatorBenchmark {
+
+    private static final Pattern VOCABULARY = Pattern.compile(Constants.Validation.VOCABULARY_PATTERN);
+
+    @Param({"apple", "state-of-the-art", "look forward to"})
+    private String vocabulary;
+
+    private WordValidator wordValidator;
+    private WordRequest request;
+
+    @Setup
+    public void setUp() {
+        wordValidator = new WordValidator();
+        request = new WordRequest(null, vocabulary, "사과, 능금", "빨간 과일", 2);
+    }
+
+    @Benchmark
+    public WordRequest validate() {
+        wordValidator.validate(request);
+        return request;
+    }
+
+    @Benchmark
+    public String validateVocabulary() {
+        wordValidator.validateVocabulary(vocabulary);
+        return vocabulary;
+    }
+
+    @Benchmark
+    public boolean precompiledPattern() {
+        return VOCABULARY.matcher(vocabulary).matches();
+    }
+}
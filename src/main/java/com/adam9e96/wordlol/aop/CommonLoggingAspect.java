@@ -1,8 +1,8 @@
 package com.adam9e96.wordlol.aop;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,12 +12,26 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 통합 로깅을 위한 AOP(Aspect-Oriented Programming) 컴포넌트입니다.
- * Controller 와 Service 계층의 메서드 실행을 로깅합니다.
+ * Controller 와 Service 계층의 메서드 실행을 샘플링해서 추적합니다.
+ * <ul>
+ *     <li>클래스 이름 접두사별 샘플링 비율에 따라 일부 호출만 파라미터와 반환값을 기록합니다. (기본 0)</li>
+ *     <li>slowThresholdMs 이상 걸린 호출은 샘플링과 관계없이 기록합니다.</li>
+ *     <li>파라미터와 반환값은 maxPayloadLength 글자까지만 직렬화하고 나머지는 직렬화하지 않습니다.</li>
+ *     <li>메시지 구성과 로그 출력은 {@link MethodTraceWriter} 의 백그라운드 스레드가 합니다.</li>
+ *     <li>이 클래스의 로그 레벨을 /actuator/loggers 로 바꿔 실행 중에 조절합니다.
+ *     OFF/WARN 이면 추적하지 않고, TRACE 이면 모든 호출을 기록합니다.</li>
+ * </ul>
  */
 @Slf4j
 @Aspect
@@ -26,6 +40,11 @@ import java.util.stream.Collectors;
 public class CommonLoggingAspect {
 
     private final ObjectMapper objectMapper;
+    private final MethodTraceProperties properties;
+    private final MethodTraceWriter traceWriter;
+
+    // 선언 클래스 이름 -> 샘플링 비율 (클래스마다 한 번만 계산)
+    private final Map<String, Double> sampleRateCache = new ConcurrentHashMap<>();
 
     @Pointcut("execution(* com.adam9e96.wordlol.controller..*(..))")
     private void controllerMethods() {
@@ -40,77 +59,150 @@ public class CommonLoggingAspect {
 
     @Around("controllerMethods() || serviceMethods()")
     public Object logMethodExecution(ProceedingJoinPoint joinPoint) throws Throwable {
-        // 메서드 이름 가져오기
-        String methodName = joinPoint.getSignature().getName();
-        // 클래스 이름 가져오기
-        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
-        // 클래스 이름에 따라 타입 설정 (Controller 또는 Service)
-        String type = className.contains("Controller") ? "Controller" : "Service";
-        // 요청 파라미터 로깅
-        String params = convertToJson(joinPoint.getArgs());
-
-        log.info("""
-                [{} Layer] ▶️ 메서드 시작 ====================
-                >> 위치: {}.{}
-                >> 파라미터: {}
-                """, type, className, methodName, params);
-
-        long startTime = System.currentTimeMillis();
-        Object result = joinPoint.proceed();
-        long executionTime = System.currentTimeMillis() - startTime;
-
-        // 결과 데이터 로깅
-        String resultStr = convertToJson(result);
-
-        log.info("""
-                [{} Layer] ⬅️ 메서드 종료 ====================
-                >> 위치: {}.{}
-                >> 실행시간: {}ms
-                >> 반환값: {}
-                """, type, className, methodName, executionTime, resultStr);
+        // 추적이 꺼져 있으면 레벨 확인 한 번으로 끝
+        if (!log.isInfoEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        String className = joinPoint.getSignature().getDeclaringTypeName();
+        boolean sampled = log.isTraceEnabled() || isSampled(className);
+        long slowThresholdNs = TimeUnit.MILLISECONDS.toNanos(properties.getSlowThresholdMs());
+        if (!sampled && slowThresholdNs <= 0) {
+            return joinPoint.proceed();
+        }
+
+        long startTime = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            long elapsed = System.nanoTime() - startTime;
+            if (sampled || isSlow(elapsed, slowThresholdNs)) {
+                submit(joinPoint, elapsed, null, e, isSlow(elapsed, slowThresholdNs));
+            }
+            throw e;
+        }
+
+        long elapsed = System.nanoTime() - startTime;
+        if (sampled || isSlow(elapsed, slowThresholdNs)) {
+            submit(joinPoint, elapsed, result, null, isSlow(elapsed, slowThresholdNs));
+        }
         return result;
     }
 
+    private boolean isSampled(String className) {
+        double rate = sampleRateCache.computeIfAbsent(className, this::resolveSampleRate);
+        return rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    // 가장 긴 접두사가 일치하는 설정을 사용
+    private double resolveSampleRate(String className) {
+        String matched = null;
+        for (String prefix : properties.getSampleRates().keySet()) {
+            if (className.startsWith(prefix) && (matched == null || prefix.length() > matched.length())) {
+                matched = prefix;
+            }
+        }
+        return matched != null ? properties.getSampleRates().get(matched) : properties.getDefaultSampleRate();
+    }
+
+    private static boolean isSlow(long elapsedNs, long slowThresholdNs) {
+        return slowThresholdNs > 0 && elapsedNs >= slowThresholdNs;
+    }
+
+    // 파라미터와 반환값은 호출 스레드에서 길이 제한을 두고 직렬화 (엔티티 등을 다른 스레드에서 읽지 않도록)
+    private void submit(ProceedingJoinPoint joinPoint, long elapsedNs, Object result, Throwable error, boolean slow) {
+        String simpleName = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        // 클래스 이름에 따라 타입 설정 (Controller 또는 Service)
+        String layer = simpleName.contains("Controller") ? "Controller" : "Service";
+        traceWriter.submit(new TraceEvent(
+                layer,
+                simpleName,
+                joinPoint.getSignature().getName(),
+                elapsedNs,
+                capture(joinPoint.getArgs()),
+                error == null ? capture(result) : null,
+                error != null ? error.getClass().getSimpleName() + ": " + error.getMessage() : null,
+                slow));
+    }
+
     /**
-     * JSON 변환 함수 - 변환 실패 시 기본 toString() 사용
-     * HttpSession과 HttpServletRequest 같은 직렬화하기 어려운 객체는 특별히 처리
+     * JSON 변환 함수 - 최대 길이까지만 직렬화하고, 실패하면 클래스 이름만 기록
+     * HttpSession, HttpServletRequest/Response, 스트림 같은 직렬화하기 어려운 객체는 특별히 처리
      */
-    private String convertToJson(Object object) {
+    private String capture(Object object) {
         if (object == null) {
             return "null";
         }
-
-        // HttpSession이나 HttpServletRequest 객체 처리
-        if (object instanceof HttpSession || object instanceof HttpServletRequest) {
+        if (object instanceof Object[] array) {
+            for (Object item : array) {
+                if (isServletObject(item)) {
+                    return "[HTTP 세션/요청 객체를 포함한 배열 - JSON 변환 생략]";
+                }
+            }
+        } else if (isServletObject(object)) {
             return "[HTTP 세션/요청 객체 - JSON 변환 생략]";
         }
 
-        // 배열이나 컬렉션 객체를 감지하고 내부 요소가 복잡한 객체면 특별 처리
-        if (object.getClass().isArray()) {
-            Object[] array = (Object[]) object;
+        LimitedWriter writer = new LimitedWriter(properties.getMaxPayloadLength());
+        try {
+            objectMapper.writeValue(writer, object);
+        } catch (IOException | RuntimeException e) {
+            if (!writer.isTruncated()) {
+                return "[" + object.getClass().getSimpleName() + " - JSON 변환 실패]";
+            }
+        }
+        return writer.toString();
+    }
 
-            // 배열 내 요소가 HttpSession이나 HttpServletRequest인지 확인
-            boolean hasComplexObjects = Arrays.stream(array)
-                    .anyMatch(item -> item instanceof HttpSession || item instanceof HttpServletRequest);
+    // 직렬화 과정에서 getter 호출만으로 응답 스트림을 열거나 본문을 읽을 수 있는 객체
+    private boolean isServletObject(Object object) {
+        return object instanceof HttpSession
+                || object instanceof HttpServletRequest
+                || object instanceof HttpServletResponse
+                || object instanceof InputStream
+                || object instanceof OutputStream;
+    }
 
-            if (hasComplexObjects) {
-                return "[HTTP 세션/요청 객체를 포함한 배열 - JSON 변환 생략]";
-            }
+    /**
+     * 최대 길이에 도달하면 예외로 직렬화를 멈추는 Writer (큰 페이지 응답도 앞부분만 직렬화)
+     */
+    private static final class LimitedWriter extends Writer {
+        private final StringBuilder buffer;
+        private final int limit;
+        private boolean truncated;
+
+        LimitedWriter(int limit) {
+            this.limit = limit;
+            this.buffer = new StringBuilder(Math.min(limit, 256));
         }
 
-        try {
-            return objectMapper.writeValueAsString(object);
-        } catch (JsonProcessingException e) {
-            log.warn("JSON 변환 실패: {}", e.getMessage());
-
-            // 배열인 경우 각 요소의 toString()을 사용하여 문자열로 변환
-            if (object.getClass().isArray()) {
-                return Arrays.stream((Object[]) object)
-                        .map(item -> item != null ? item.toString() : "null")
-                        .collect(Collectors.joining(", ", "[", "]"));
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            int remaining = limit - buffer.length();
+            if (length > remaining) {
+                buffer.append(chars, offset, Math.max(remaining, 0));
+                truncated = true;
+                throw new IOException("추적 길이 제한 도달");
             }
+            buffer.append(chars, offset, length);
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
 
-            return object.toString();
+        @Override
+        public String toString() {
+            return truncated ? buffer + "...(생략)" : buffer.toString();
         }
     }
-}
\ No newline at end of file
+}
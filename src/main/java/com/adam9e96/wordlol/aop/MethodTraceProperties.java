@@ -0,0 +1,24 @@
+package com.adam9e96.wordlol.aop;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Controller/Service 메서드 추적 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "tracing.method")
+@Getter
+@Setter
+public class MethodTraceProperties {
+    private double defaultSampleRate = 0.0; // sample-rates 에 없는 클래스의 샘플링 비율 (0.0 ~ 1.0)
+    private Map<String, Double> sampleRates = new LinkedHashMap<>(); // 패키지/클래스 이름 접두사별 샘플링 비율 (가장 긴 접두사 우선)
+    private long slowThresholdMs = 500; // 이 시간 이상 걸린 호출은 샘플링과 관계없이 기록 (0 이하면 사용 안 함)
+    private int maxPayloadLength = 512; // 파라미터, 반환값을 기록할 최대 글자 수
+    private int queueCapacity = 1024; // 기록 대기 큐 크기 (가득 차면 버림)
+}
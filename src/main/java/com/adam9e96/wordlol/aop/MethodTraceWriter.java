@@ -0,0 +1,119 @@
+package com.adam9e96.wordlol.aop;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메서드 추적 기록기
+ * <p>
+ * 호출 스레드는 큐에 넣기만 하고, 메시지 구성과 로그 출력은 백그라운드 스레드가 합니다.
+ * 큐가 가득 차면 기다리지 않고 버리며 method.trace.dropped 로 개수를 셉니다.
+ * 출력은 {@link CommonLoggingAspect} 로거를 사용하므로 로그 레벨을 한 곳에서 조절할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class MethodTraceWriter implements SmartLifecycle {
+
+    private static final Logger TRACE_LOG = LoggerFactory.getLogger(CommonLoggingAspect.class);
+
+    private final BlockingQueue<TraceEvent> queue;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public MethodTraceWriter(MethodTraceProperties properties, MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        Gauge.builder("method.trace.queue.depth", queue, BlockingQueue::size)
+                .description("출력 대기 중인 메서드 추적 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("method.trace.dropped")
+                .description("큐가 가득 차 버린 메서드 추적 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 추적을 기록 큐에 넣습니다. 대기하지 않습니다.
+     */
+    void submit(TraceEvent event) {
+        if (!queue.offer(event)) {
+            droppedCounter.increment();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::runWriteLoop, "method-trace-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+        }
+        List<TraceEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(this::write);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runWriteLoop() {
+        while (running) {
+            try {
+                TraceEvent event = queue.poll(1, TimeUnit.SECONDS);
+                if (event != null) {
+                    write(event);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("메서드 추적 출력 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void write(TraceEvent event) {
+        double elapsedMs = event.elapsedNs() / 1_000_000.0;
+        String marker = event.slow() ? "🐢 느린 호출" : "▶️ 샘플";
+        if (event.error() != null) {
+            TRACE_LOG.warn("""
+                    [{} Layer] {} ====================
+                    >> 위치: {}.{}
+                    >> 실행시간: {}ms
+                    >> 파라미터: {}
+                    >> 예외: {}
+                    """, event.layer(), marker, event.className(), event.methodName(),
+                    String.format("%.2f", elapsedMs), event.params(), event.error());
+            return;
+        }
+        TRACE_LOG.info("""
+                [{} Layer] {} ====================
+                >> 위치: {}.{}
+                >> 실행시간: {}ms
+                >> 파라미터: {}
+                >> 반환값: {}
+                """, event.layer(), marker, event.className(), event.methodName(),
+                String.format("%.2f", elapsedMs), event.params(), event.result());
+    }
+}
@@ -0,0 +1,17 @@
+package com.adam9e96.wordlol.aop;
+
+/**
+ * 메서드 추적 한 건 (호출 스레드에서 만든 뒤 기록 스레드가 출력)
+ *
+ * @param layer      Controller 또는 Service
+ * @param className  클래스 이름
+ * @param methodName 메서드 이름
+ * @param elapsedNs  실행 시간 (ns)
+ * @param params     파라미터 (길이 제한, 수집하지 않았으면 null)
+ * @param result     반환값 (길이 제한, 수집하지 않았으면 null)
+ * @param error      발생한 예외 (없으면 null)
+ * @param slow       느린 호출 기준을 넘었는지 여부
+ */
+record TraceEvent(String layer, String className, String methodName, long elapsedNs,
+                  String params, String result, String error, boolean slow) {
+}
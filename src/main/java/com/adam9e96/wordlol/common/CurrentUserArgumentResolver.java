@@ -1,12 +1,12 @@
 package com.adam9e96.wordlol.common;
 
-import com.adam9e96.wordlol.config.security.jwt.JwtTokenProvider;
+import com.adam9e96.wordlol.config.security.jwt.AuthUser;
 import com.adam9e96.wordlol.dto.common.CurrentUser;
 import com.adam9e96.wordlol.entity.User;
-import com.adam9e96.wordlol.repository.jpa.UserRepository;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -17,8 +17,7 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @Component
 public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
@@ -31,12 +30,11 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
 
-        HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-        String token = jwtTokenProvider.resolveToken(request);
+        // JWT 필터에서 이미 토큰을 검증하고 인증 정보를 저장했으므로 토큰을 다시 파싱하지 않음
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String email = jwtTokenProvider.getEmailFromToken(token);
-            return userRepository.findByEmail(email).orElse(null);
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser) {
+            return currentUserProvider.getCurrentUser();
         }
 
         return null;
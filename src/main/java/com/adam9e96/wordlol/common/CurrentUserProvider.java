@@ -0,0 +1,146 @@
+package com.adam9e96.wordlol.common;
+
+import com.adam9e96.wordlol.config.security.jwt.AuthUser;
+import com.adam9e96.wordlol.entity.User;
+import com.adam9e96.wordlol.repository.jpa.UserRepository;
+import com.adam9e96.wordlol.support.cache.ChangeStamps;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 현재 인증된 사용자 정보를 제공하는 컴포넌트
+ * <p>
+ * 사용자 ID는 JWT 필터가 SecurityContext 에 저장한 {@link AuthUser} 에서 바로 읽습니다 (DB 조회 없음).
+ * 엔티티 연관관계 설정에는 {@link #getCurrentUserReference()} 로 얻은 프록시를 사용하고,
+ * 이름, 프로필 사진처럼 User 엔티티 전체가 필요한 경우에만 {@link #getCurrentUser()} 를 사용합니다.
+ * 이때 조회 결과는 크기와 만료 시간이 제한된 캐시에 보관됩니다.
+ */
+@Slf4j
+@Component
+public class CurrentUserProvider {
+
+    // 캐시에 보관할 최대 사용자 수
+    private static final long MAXIMUM_SIZE = 10_000;
+    // 캐시 항목 만료 시간
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final UserRepository userRepository;
+
+    // 사용자 ID -> User 엔티티 (준영속 상태)
+    private final Cache<Long, User> userCache;
+    // 이메일 -> 사용자 ID (uid 클레임이 없는 이전 토큰 처리용)
+    private final Cache<String, Long> userIdByEmailCache;
+    // 조회 도중 evict 된 사용자를 다시 캐시에 넣지 않기 위한 스탬프
+    private final ChangeStamps changeStamps = new ChangeStamps();
+
+    public CurrentUserProvider(UserRepository userRepository) {
+        this.userRepository = userRepository;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(TIME_TO_LIVE)
+                .build();
+        this.userIdByEmailCache = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(TIME_TO_LIVE)
+                .build();
+    }
+
+    /**
+     * 현재 로그인한 사용자의 ID를 가져옵니다.
+     *
+     * @return 현재 인증된 사용자 ID
+     * @throws RuntimeException 인증된 사용자를 찾을 수 없는 경우
+     */
+    public Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new RuntimeException("인증된 사용자를 찾을 수 없습니다.");
+        }
+
+        // 1. 토큰의 uid 클레임으로 만든 principal 이면 바로 반환
+        if (authentication.getPrincipal() instanceof AuthUser authUser && authUser.id() != null) {
+            return authUser.id();
+        }
+
+        // 2. uid 클레임이 없는 이전 토큰은 이메일로 한 번만 조회하고 캐시
+        String email = authentication.getName();
+        Long userId = userIdByEmailCache.getIfPresent(email);
+        if (userId == null) {
+            // 조회는 캐시 잠금 밖에서 실행 (로더 안에서 JDBC 를 기다리면 가상 스레드의 캐리어까지 막힘)
+            userId = userRepository.findByEmail(email).map(User::getId).orElse(null);
+            if (userId != null) {
+                userIdByEmailCache.asMap().putIfAbsent(email, userId);
+            }
+        }
+        if (userId == null) {
+            throw new RuntimeException("인증된 사용자를 찾을 수 없습니다.");
+        }
+        return userId;
+    }
+
+    /**
+     * 현재 로그인한 사용자의 엔티티 참조(프록시)를 가져옵니다.
+     * 연관관계 설정이나 ID 기반 조회 조건에만 사용하며, 필드에 접근하지 않는 한 쿼리가 발생하지 않습니다.
+     *
+     * @return 현재 인증된 사용자의 참조
+     */
+    public User getCurrentUserReference() {
+        return userRepository.getReferenceById(getCurrentUserId());
+    }
+
+    /**
+     * 현재 로그인한 사용자의 엔티티 전체를 가져옵니다.
+     * 캐시에 없을 때만 DB를 조회하며, 반환되는 엔티티는 준영속 상태이므로 지연 로딩 컬렉션에 접근하면 안 됩니다.
+     *
+     * @return 현재 인증된 사용자
+     * @throws RuntimeException 인증된 사용자를 찾을 수 없는 경우
+     */
+    public User getCurrentUser() {
+        return getUser(getCurrentUserId());
+    }
+
+    /**
+     * ID로 사용자 엔티티를 가져옵니다. (캐시 우선)
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 엔티티
+     * @throws RuntimeException 사용자를 찾을 수 없는 경우
+     */
+    public User getUser(Long userId) {
+        User user = userCache.getIfPresent(userId);
+        if (user == null) {
+            // 조회는 캐시 잠금 밖에서 실행, 동시에 조회한 경우 먼저 넣은 쪽을 사용
+            long stamp = changeStamps.stamp(userId);
+            User loaded = userRepository.findById(userId).orElse(null);
+            if (loaded != null) {
+                user = Objects.requireNonNullElse(userCache.asMap().putIfAbsent(userId, loaded), loaded);
+                if (user == loaded && changeStamps.changedSince(userId, stamp)) {
+                    userCache.asMap().remove(userId, loaded);
+                }
+            }
+        }
+        if (user == null) {
+            throw new RuntimeException("인증된 사용자를 찾을 수 없습니다.");
+        }
+        return user;
+    }
+
+    /**
+     * 사용자 정보가 변경되었을 때 캐시에서 제거합니다.
+     *
+     * @param user 변경된 사용자
+     */
+    public void evict(User user) {
+        changeStamps.touch(user.getId());
+        userCache.invalidate(user.getId());
+        userIdByEmailCache.invalidate(user.getEmail());
+        log.debug("사용자 캐시 제거: {}", user.getId());
+    }
+}
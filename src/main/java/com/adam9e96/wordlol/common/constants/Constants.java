@@ -28,11 +28,49 @@ public final class Constants {
         public static final String WORD_CHECK = "/check";
         public static final String WORD_LIST = "/list";
         public static final String WORD_SEARCH = "/search";
+        public static final String WORD_LIST_CURSOR = WORD_LIST + "/cursor";
+        public static final String WORD_SEARCH_CURSOR = WORD_SEARCH + "/cursor";
+        public static final String WORD_IMPORT = "/import";
+        public static final String WORD_EXPORT = "/export";
         public static final String WORD_BOOKS = BASE_API_PATH + "/wordbooks";
         public static final String WORD_BOOKS_ID = "/{id}";
         public static final String WORD_BOOKS_WORDS = "/{id}/words";
         public static final String WORD_BOOKS_STUDY = "/{id}/study";
+        public static final String WORD_BOOKS_STUDY_SESSIONS = WORD_BOOKS_STUDY + "/sessions";
+        public static final String WORD_BOOKS_STUDY_SESSION = WORD_BOOKS_STUDY_SESSIONS + "/{sessionId}";
+        public static final String WORD_BOOKS_EXPORT = "/{id}/export";
         public static final String WORD_BOOKS_CATEGORY = "/category/{category}/words";
+        public static final String WORD_BOOKS_CATEGORY_EXPORT = "/category/{category}/export";
+    }
+
+    /**
+     * 학습 모드 관련 상수
+     */
+    public static final class StudyMode {
+        private StudyMode() {
+            throw new AssertionError("StudyMode 클래스는 인스턴스화할 수 없습니다.");
+        }
+
+        // 균등 무작위 출제 (기본값)
+        public static final String RANDOM = "random";
+        // 간격 반복(SM-2) 복습 일정에 따른 출제
+        public static final String SRS = "srs";
+    }
+
+    /**
+     * Hibernate 2차 캐시 영역(region) 이름
+     */
+    public static final class CacheRegion {
+        private CacheRegion() {
+            throw new AssertionError("CacheRegion 클래스는 인스턴스화할 수 없습니다.");
+        }
+
+        // 엔티티 영역
+        public static final String USER = "user";
+        public static final String WORD_BOOK = "word-book";
+        // 조회 쿼리 결과 영역
+        public static final String USER_BY_EMAIL = "user-by-email";
+        public static final String WORD_BOOKS_BY_USER = "word-books-by-user";
     }
 
     /**
@@ -0,0 +1,86 @@
+package com.adam9e96.wordlol.config;
+
+import com.adam9e96.wordlol.common.constants.Constants;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정 (User, WordBook 엔티티와 조회 쿼리 결과)
+ * <p>
+ * 로컬 JCache 구현체(Caffeine)의 CacheManager 를 만들어 Hibernate 에 넘깁니다.
+ * 영역마다 최대 항목 수와 만료 시간을 entity-cache.regions 로 설정하고,
+ * 여기에 없는 영역을 쓰려고 하면 시작할 때 실패하도록 합니다 (missing_cache_strategy=fail).
+ * <ul>
+ *     <li>적중, 실패, 저장 횟수: hibernate.second.level.cache.*, hibernate.query.cache.* (Hibernate 통계)</li>
+ *     <li>영역별 제거(eviction) 횟수와 크기: cache.evictions, cache.gets 등 (cache 태그 = 영역 이름)</li>
+ * </ul>
+ * users, word_book 테이블은 JPA 로만 변경해야 합니다. MyBatis 로 직접 변경하면 캐시가 갱신되지 않습니다.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    // 설정 가능한 영역 (쿼리 결과 기본 영역 포함)
+    private static final List<String> REGIONS = List.of(
+            Constants.CacheRegion.USER,
+            Constants.CacheRegion.WORD_BOOK,
+            Constants.CacheRegion.USER_BY_EMAIL,
+            Constants.CacheRegion.WORD_BOOKS_BY_USER,
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(EntityCacheProperties properties) {
+        // 컨텍스트마다 별도의 provider 를 사용 (테스트처럼 한 JVM 에 컨텍스트가 여러 개여도 서로 닫지 않도록)
+        CachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        for (String region : REGIONS) {
+            EntityCacheProperties.Region settings = properties.getRegion(region);
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(settings.getMaximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(settings.getTimeToLive().toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+
+        // 테이블별 마지막 변경 시각: 쿼리 캐시 무효화 판단에 쓰이므로 제거하거나 만료시키지 않음 (테이블 수만큼만 보관)
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernateProperties(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // 적중률 메트릭(hibernate-micrometer)에 필요
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    public MeterBinder entityCacheMetrics(CacheManager entityCacheManager) {
+        return registry -> {
+            for (String region : entityCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, entityCacheManager.getCache(region));
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.adam9e96.wordlol.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 영역(region)별 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "entity-cache")
+@Getter
+@Setter
+public class EntityCacheProperties {
+    private Region defaults = new Region(); // 따로 설정하지 않은 영역에 사용
+    private Map<String, Region> regions = new LinkedHashMap<>(); // 영역 이름 -> 설정
+
+    public Region getRegion(String name) {
+        return regions.getOrDefault(name, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Region {
+        private long maximumSize = 10_000; // 최대 항목 수 (넘으면 오래 쓰이지 않은 항목부터 제거)
+        private Duration timeToLive = Duration.ofMinutes(30); // 저장 후 만료 시간
+    }
+}
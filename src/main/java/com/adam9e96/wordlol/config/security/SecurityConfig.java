@@ -97,6 +97,9 @@ public class SecurityConfig {
                         "/api/v1/auth/**",
                         "/access-denied"
                 ).permitAll()
+                // 운영용 actuator 엔드포인트는 관리자만 접근
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 // API 요청에 대한 세밀한 권한 설정
                 .requestMatchers(HttpMethod.GET, "/api/v1/words/public/**").permitAll()
                 // 뷰 페이지 경로들은 모두 인증 필요
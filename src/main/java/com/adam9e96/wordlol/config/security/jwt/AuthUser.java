@@ -0,0 +1,22 @@
+package com.adam9e96.wordlol.config.security.jwt;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * JWT 클레임만으로 구성되는 경량 인증 주체(principal)
+ * <p>
+ * 필터 단계에서 토큰의 uid, sub, auth 클레임을 그대로 담아 SecurityContext 에 저장합니다.
+ * 서비스 계층은 이 객체에서 사용자 ID를 바로 꺼내 쓰므로 요청마다 users 테이블을 조회할 필요가 없습니다.
+ * getName()은 기존과 동일하게 이메일을 반환합니다.
+ *
+ * @param id    사용자 ID (uid 클레임, uid 클레임이 없는 이전 토큰은 null)
+ * @param email 사용자 이메일 (sub 클레임)
+ * @param role  권한 키 (auth 클레임, 예: ROLE_USER)
+ */
+public record AuthUser(Long id, String email, String role) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * JWT 토큰 기반 인증을 처리하는 필터
@@ -40,19 +41,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         log.info("3단계 : 추출된 토큰: {}", token != null ? "토큰 있음" : "토큰 없음");
 
-        // 2. 토큰 검증
-        // 토큰이 유효한 경우 인증 정보 설정
+        // 2. 토큰 검증과 인증 정보 추출 (한 번의 파싱, 이미 검증한 토큰은 캐시 사용)
         // 올바른 서명인지, 만료 여부, 적절한 토큰 구조인지 확인
-        if (jwtTokenProvider.validateToken(token)) {
-            try {
-                // 유효한 토큰이라면 토큰에서 인증 정보 추출
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
-                // SecurityContext 에 인증 정보 저장
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.info("4단계 : Security Context 에 '{}' 인증 정보를 저장했습니다.", authentication.getName());
-            } catch (Exception e) {
-                log.error("인증 처리 중 오류 발생: {}", e.getMessage());
-            }
+        Optional<VerifiedToken> verified = jwtTokenProvider.verify(token);
+        if (verified.isPresent()) {
+            // 같은 요청 안에서 다시 검증하지 않도록 요청 속성에 보관
+            request.setAttribute(JwtTokenProvider.VERIFIED_TOKEN_ATTRIBUTE, verified.get());
+            Authentication authentication = verified.get().toAuthentication();
+            // SecurityContext 에 인증 정보 저장
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            log.info("4단계 : Security Context 에 '{}' 인증 정보를 저장했습니다.", authentication.getName());
         }
 
         // 다음 필터로 요청 전달
@@ -13,5 +13,6 @@ public class JwtProperties {
     private String secretKey;
     private long accessTokenValidityInMs; // 1시간
     private long refreshTokenValidityInMs; // 30일
+    private long verifiedTokenCacheSize = 10_000; // 검증을 마친 액세스 토큰을 보관할 최대 개수
 
 }
@@ -3,9 +3,14 @@ package com.adam9e96.wordlol.config.security.jwt;
 import com.adam9e96.wordlol.dto.common.TokenInfo;
 import com.adam9e96.wordlol.enums.Role;
 import com.adam9e96.wordlol.repository.jpa.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
@@ -13,32 +18,58 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * JWT를 생성하고, 검증하고 인증 정보를 추출하는 작업을 처리하는 클래스
+ * <p>
+ * 파서는 한 번만 만들어 재사용하며(스레드 안전), 검증을 마친 액세스 토큰은 토큰의 SHA-256 다이제스트를 키로
+ * 토큰 만료 시각까지 캐시합니다. 같은 토큰으로 들어오는 이후 요청은 HMAC 검증과 JSON 디코딩을 건너뜁니다.
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
+    // 권한 정보 클레임 이름
+    public static final String AUTHORITIES_CLAIM = "auth";
+    // 사용자 ID 클레임 이름
+    public static final String USER_ID_CLAIM = "uid";
+    // 필터에서 검증한 토큰을 담아 두는 요청 속성 이름
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = JwtTokenProvider.class.getName() + ".VERIFIED_TOKEN";
+
     private final Key key;
+    private final JwtParser jwtParser;
     private final JwtProperties jwtProperties;
     private final UserRepository userRepository;
+    // 토큰 다이제스트 -> 검증 결과 (항목마다 토큰 만료 시각에 제거)
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    public JwtTokenProvider(JwtProperties jwtProperties, UserRepository userRepository) {
+    public JwtTokenProvider(JwtProperties jwtProperties, UserRepository userRepository, MeterRegistry meterRegistry) {
         this.jwtProperties = jwtProperties;
         this.userRepository = userRepository;
         this.key = initializeKey(jwtProperties.getSecretKey());
+        this.jwtParser = Jwts.parser()
+                .verifyWith((SecretKey) key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified.tokens");
     }
 
     private Key initializeKey(String secretKey) {
@@ -79,7 +110,7 @@ public class JwtTokenProvider {
         // 마지막으로 compact() 메서드를 호출하여 최종 JWT 문자열을 생성합니다
         String accessToken = Jwts.builder()
                 .subject(authentication.getName())
-                .claim("auth", authorities)
+                .claim(AUTHORITIES_CLAIM, authorities)
                 .expiration(accessTokenValidity)
                 .signWith(key)  // 최신 API는 기본적으로 HS256 알고리즘 사용
                 .compact();
@@ -117,22 +148,64 @@ public class JwtTokenProvider {
     // JWT 토큰에서 인증 정보 조회
     // OAuth 로그인을 통해 이메일과 역할을 이용해 토큰을 생성하는 메서드
     public Authentication getAuthentication(String token) {
-        // 토큰 복호화
-        Claims claims = parseClaims(token);
+        return verify(token)
+                .map(VerifiedToken::toAuthentication)
+                .orElseThrow(() -> new JwtException("유효하지 않은 액세스 토큰입니다."));
+    }
 
-        if (claims.get("auth") == null) {
-            throw new JwtException("권한 정보가 없는 토큰입니다.");
+    /**
+     * 액세스 토큰을 검증하고 인증에 필요한 내용을 꺼냅니다. (서명, 만료 검증과 클레임 추출을 한 번에)
+     * 이미 검증한 토큰이면 캐시된 결과를 돌려줍니다.
+     *
+     * @param token 액세스 토큰
+     * @return 검증 결과 (토큰이 없거나, 유효하지 않거나, 권한 클레임이 없으면 빈 값)
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return Optional.of(cached);
         }
 
-        // 클레임에서 권한 정보 가져오기
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get("auth").toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .toList();
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            Object auth = claims.get(AUTHORITIES_CLAIM);
+            if (auth == null || claims.getExpiration() == null) {
+                // 리프레시 토큰처럼 권한 정보가 없는 토큰은 인증에 쓰지 않음
+                log.warn("권한 정보가 없는 토큰으로 인증을 시도했습니다.");
+                return Optional.empty();
+            }
 
-        // UserDetails 객체를 만들어서 Authentication 리턴
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+            // 클레임만으로 경량 principal 생성 (DB 조회 없음)
+            // uid 클레임이 없는 이전 토큰은 id 가 null 이며, 이 경우 CurrentUserProvider 가 이메일로 ID를 찾습니다
+            List<GrantedAuthority> authorities = Arrays.stream(auth.toString().split(","))
+                    .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                    .toList();
+            AuthUser principal = new AuthUser(getUserId(claims), claims.getSubject(), auth.toString());
+            VerifiedToken verified = new VerifiedToken(principal, authorities, claims.getExpiration().getTime());
+            verifiedTokens.put(digest, verified);
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            logInvalidToken(e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 요청의 액세스 토큰 검증 결과를 가져옵니다.
+     * 인증 필터가 저장한 요청 속성을 먼저 사용하고, 없으면 토큰을 찾아 검증합니다.
+     *
+     * @param request HTTP 요청
+     * @return 검증 결과 (로그인하지 않았거나 토큰이 유효하지 않으면 빈 값)
+     */
+    public Optional<VerifiedToken> getVerifiedToken(HttpServletRequest request) {
+        if (request.getAttribute(VERIFIED_TOKEN_ATTRIBUTE) instanceof VerifiedToken verified) {
+            return Optional.of(verified);
+        }
+        return verify(resolveToken(request));
     }
 
     // 토큰 유효성 검증
@@ -147,23 +220,26 @@ public class JwtTokenProvider {
     // .getPayload()를 호출 하지 않음
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith((SecretKey) key)
-                    .build()
-                    .parseSignedClaims(token);
+            jwtParser.parseSignedClaims(token);
             return true;
-        } catch (SecurityException | MalformedJwtException e) {
+        } catch (Exception e) {
+            logInvalidToken(e);
+        }
+        return false;
+    }
+
+    private void logInvalidToken(Exception e) {
+        if (e instanceof SecurityException || e instanceof MalformedJwtException) {
             log.error("잘못된 JWT 서명입니다: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
+        } else if (e instanceof ExpiredJwtException) {
             log.error("만료된 JWT 토큰입니다: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
+        } else if (e instanceof UnsupportedJwtException) {
             log.error("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
+        } else if (e instanceof IllegalArgumentException) {
             log.error("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
-        } catch (Exception e) {
+        } else {
             log.error("JWT 토큰 검증 중 알 수 없는 오류 발생: {}", e.getMessage());
         }
-        return false;
     }
 
 
@@ -203,9 +279,7 @@ public class JwtTokenProvider {
     // }
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith((SecretKey) key) // 서명 검증에 사용할 키 설정
-                    .build()// 파서 구성 완료
+            return jwtParser
                     .parseSignedClaims(token) // 서명된 토큰 파싱
                     .getPayload(); // 페이로드(클레임) 추출
         } catch (ExpiredJwtException e) {
@@ -222,7 +296,8 @@ public class JwtTokenProvider {
     //액세스 토큰: 사용자 인증에 사용 (만료 기간: 1시간)
     //리프레시 토큰: 액세스 토큰 갱신에 사용 (만료 기간: 30일)
     //두 토큰을 포함한 TokenInfo 객체를 반환합니다.
-    public TokenInfo createTokenFromEmail(String email, Role role) {
+    //액세스 토큰에는 uid 클레임으로 사용자 ID를 함께 담아, 이후 요청에서 사용자 조회 없이 ID를 사용할 수 있게 합니다.
+    public TokenInfo createTokenFromEmail(Long userId, String email, Role role) {
         long now = (new Date()).getTime();
         Date accessTokenValidity = new Date(now + jwtProperties.getAccessTokenValidityInMs());
         Date refreshTokenValidity = new Date(now + jwtProperties.getRefreshTokenValidityInMs());
@@ -230,7 +305,8 @@ public class JwtTokenProvider {
         // 액세스 토큰 생성
         String accessToken = Jwts.builder()
                 .subject(email)
-                .claim("auth", role.getKey())
+                .claim(USER_ID_CLAIM, userId)
+                .claim(AUTHORITIES_CLAIM, role.getKey())
                 .expiration(accessTokenValidity)
                 .signWith(key)
                 .compact();
@@ -269,6 +345,43 @@ public class JwtTokenProvider {
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자가 없습니다: " + email));
 
         // 새로운 액세스 토큰 생성( 리프레시 토큰도 갱신됨)
-        return createTokenFromEmail(email, user.getRole());
+        return createTokenFromEmail(user.getId(), email, user.getRole());
+    }
+
+    // 클레임에서 사용자 ID 추출 (uid 클레임이 없으면 null)
+    private Long getUserId(Claims claims) {
+        Object userId = claims.get(USER_ID_CLAIM);
+        if (userId instanceof Number number) {
+            return number.longValue();
+        }
+        return null;
+    }
+
+    // 캐시 키: 원본 토큰 대신 고정 길이 다이제스트를 보관
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 캐시 항목을 토큰의 만료 시각에 제거
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package com.adam9e96.wordlol.config.security.jwt;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+
+/**
+ * 서명과 만료 시간 검증을 마친 액세스 토큰의 내용
+ * <p>
+ * 검증 결과 캐시와 요청 속성(request attribute)에 보관되며, 요청마다 새 {@link Authentication} 을 만들어 씁니다.
+ *
+ * @param principal   토큰 클레임으로 만든 인증 주체
+ * @param authorities 권한 목록
+ * @param expiresAt   만료 시각 (epoch ms)
+ */
+public record VerifiedToken(AuthUser principal, List<GrantedAuthority> authorities, long expiresAt) {
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAt <= nowMillis;
+    }
+
+    public Authentication toAuthentication() {
+        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    }
+}
@@ -50,8 +50,8 @@ public class CustomOAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHa
             User user = userRepository.findByEmail(email)
                     .orElseThrow(() -> new IllegalArgumentException("해당 사용자가 없습니다: " + email));
 
-            // JWT 토큰 생성 (이메일과 사용자 역할을 기반으로 생성)
-            TokenInfo tokenInfo = jwtTokenProvider.createTokenFromEmail(email, user.getRole());
+            // JWT 토큰 생성 (사용자 ID, 이메일, 사용자 역할을 기반으로 생성)
+            TokenInfo tokenInfo = jwtTokenProvider.createTokenFromEmail(user.getId(), email, user.getRole());
 
             // JWT 토큰을 HttpOnly 쿠키로 설정
             addTokenCookies(response, tokenInfo);
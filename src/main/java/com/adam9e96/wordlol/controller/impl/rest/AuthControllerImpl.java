@@ -1,12 +1,13 @@
 package com.adam9e96.wordlol.controller.impl.rest;
 
+import com.adam9e96.wordlol.common.CurrentUserProvider;
+import com.adam9e96.wordlol.config.security.jwt.AuthUser;
 import com.adam9e96.wordlol.config.security.jwt.JwtTokenProvider;
 import com.adam9e96.wordlol.controller.interfaces.rest.AuthController;
 import com.adam9e96.wordlol.dto.common.TokenInfo;
 import com.adam9e96.wordlol.dto.response.TokenResponse;
 import com.adam9e96.wordlol.dto.response.UserInfoResponse;
 import com.adam9e96.wordlol.entity.User;
-import com.adam9e96.wordlol.repository.jpa.UserRepository;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -14,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -34,7 +36,7 @@ import java.util.Map;
 public class AuthControllerImpl implements AuthController {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     // 로그인 성공 후 jwt 발급은 성공핸들러에서 처리
 
@@ -88,20 +90,16 @@ public class AuthControllerImpl implements AuthController {
     @GetMapping("/me")
     @Override
     public ResponseEntity<UserInfoResponse> getCurrentUser(HttpServletRequest request) {
-        String token = jwtTokenProvider.resolveToken(request);
+        // JWT 필터가 토큰을 검증하고 저장한 인증 정보를 사용 (토큰 재파싱 없음)
+        AuthUser authUser = getAuthUser();
 
-        if (token == null || !jwtTokenProvider.validateToken(token)) {
+        if (authUser == null) {
             log.warn("유효한 토큰이 없어 사용자 정보 조회 실패");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
         try {
-            String email = jwtTokenProvider.getEmailFromToken(token);
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> {
-                        log.warn("토큰의 이메일({})에 해당하는 사용자가 없습니다.", email);
-                        return new RuntimeException("사용자를 찾을 수 없습니다");
-                    });
+            User user = currentUserProvider.getCurrentUser();
 
             UserInfoResponse userInfo = new UserInfoResponse(
                     user.getId(),
@@ -111,7 +109,7 @@ public class AuthControllerImpl implements AuthController {
                     user.getRole().getKey()
             );
 
-            log.info("사용자 정보 조회 성공: {}", email);
+            log.info("사용자 정보 조회 성공: {}", authUser.email());
             return ResponseEntity.ok(userInfo);
         } catch (Exception e) {
             log.error("사용자 정보 조회 중 오류 발생", e);
@@ -130,24 +128,21 @@ public class AuthControllerImpl implements AuthController {
     @Override
     public ResponseEntity<Map<String, Object>> getAuthStatus(HttpServletRequest request) {
         Map<String, Object> response = new HashMap<>();
-        String token = jwtTokenProvider.resolveToken(request);
+        AuthUser authUser = getAuthUser();
 
-        boolean isAuthenticated = token != null && jwtTokenProvider.validateToken(token);
+        boolean isAuthenticated = authUser != null;
         response.put("authenticated", isAuthenticated);
 
         if (isAuthenticated) {
             try {
-                String email = jwtTokenProvider.getEmailFromToken(token);
-                userRepository.findByEmail(email)
-                        .ifPresent(user -> {
-                            Map<String, Object> userInfo = new HashMap<>();
-                            userInfo.put("id", user.getId());
-                            userInfo.put("email", user.getEmail());
-                            userInfo.put("name", user.getName());
-                            userInfo.put("picture", user.getPicture());
-                            userInfo.put("role", user.getRole().getKey());
-                            response.put("userInfo", userInfo);
-                        });
+                User user = currentUserProvider.getCurrentUser();
+                Map<String, Object> userInfo = new HashMap<>();
+                userInfo.put("id", user.getId());
+                userInfo.put("email", user.getEmail());
+                userInfo.put("name", user.getName());
+                userInfo.put("picture", user.getPicture());
+                userInfo.put("role", user.getRole().getKey());
+                response.put("userInfo", userInfo);
             } catch (Exception e) {
                 log.error("사용자 정보 조회 중 오류 발생: {}", e.getMessage());
             }
@@ -181,6 +176,19 @@ public class AuthControllerImpl implements AuthController {
         return ResponseEntity.ok(responseData);
     }
 
+    /**
+     * SecurityContext 에서 JWT 인증 주체를 가져옵니다.
+     *
+     * @return 인증 주체 또는 인증되지 않은 경우 null
+     */
+    private AuthUser getAuthUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser;
+        }
+        return null;
+    }
+
     /**
      * 지정된 쿠키를 삭제합니다.
      *
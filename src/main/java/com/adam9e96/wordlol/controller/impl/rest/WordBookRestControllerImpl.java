@@ -6,13 +6,19 @@ import com.adam9e96.wordlol.dto.request.WordBookRequest;
 import com.adam9e96.wordlol.dto.response.*;
 import com.adam9e96.wordlol.enums.Category;
 import com.adam9e96.wordlol.service.interfaces.WordBookService;
+import com.adam9e96.wordlol.support.etag.ConditionalResponses;
+import com.adam9e96.wordlol.support.exporter.WordExportFormat;
+import com.adam9e96.wordlol.support.exporter.WordExporter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Locale;
 
 @Slf4j
 @RestController
@@ -20,6 +26,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WordBookRestControllerImpl implements WordBookRestController {
     private final WordBookService wordBookService;
+    private final ConditionalResponses conditionalResponses;
 
     @Override
     @PostMapping
@@ -31,8 +38,19 @@ public class WordBookRestControllerImpl implements WordBookRestController {
     @Override
     @GetMapping(Constants.ApiPath.WORD_BOOKS_WORDS)
     public ResponseEntity<List<WordResponse>> getWordBookWords(@PathVariable("id") Long id) {
-        List<WordResponse> responses = wordBookService.findWordsByWordBookId(id);
-        return ResponseEntity.ok().body(responses);
+        return conditionalResponses.ok(() -> wordBookService.findWordsByWordBookId(id));
+    }
+
+    @Override
+    @GetMapping(Constants.ApiPath.WORD_BOOKS_EXPORT)
+    public ResponseEntity<StreamingResponseBody> exportWordBookWords(
+            @PathVariable("id") Long id,
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @RequestParam(name = "afterId", required = false) Long afterId,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        WordExportFormat exportFormat = WordExportFormat.from(format);
+        StreamingResponseBody body = wordBookService.exportWords(id, exportFormat, afterId);
+        return WordExporter.toResponse(body, exportFormat, WordExporter.acceptsGzip(acceptEncoding), "wordbook-" + id);
     }
 
     // JS에서 URL 경로를 지워버리는 버그있음 작동은 잘됨
@@ -44,13 +62,25 @@ public class WordBookRestControllerImpl implements WordBookRestController {
                 wordBookService.getAllWordsFromWordBooksByCategory(category));
     }
 
+    @Override
+    @GetMapping(Constants.ApiPath.WORD_BOOKS_CATEGORY_EXPORT)
+    public ResponseEntity<StreamingResponseBody> exportWordsByCategory(
+            @PathVariable("category") Category category,
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @RequestParam(name = "afterId", required = false) Long afterId,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        WordExportFormat exportFormat = WordExportFormat.from(format);
+        StreamingResponseBody body = wordBookService.exportWordsByCategory(category, exportFormat, afterId);
+        return WordExporter.toResponse(body, exportFormat, WordExporter.acceptsGzip(acceptEncoding),
+                "category-" + category.name().toLowerCase(Locale.ROOT));
+    }
+
     // 단어장 목록 조회용 (리스트 페이지에서 사용)
     // createAt, updatedAt은 추구 필터링 기능을 위해 넘겨줌
     @Override
     @GetMapping
     public ResponseEntity<List<WordBookListResponse>> getWordBooks() {
-        List<WordBookListResponse> response = wordBookService.findAllWordBookList();
-        return ResponseEntity.ok(response);
+        return conditionalResponses.ok(wordBookService::findAllWordBookList);
     }
 
     @Override
@@ -70,16 +100,15 @@ public class WordBookRestControllerImpl implements WordBookRestController {
     @Override
     @GetMapping(Constants.ApiPath.WORD_BOOKS_ID)
     public ResponseEntity<WordBookDetailResponse> getWordBook(@PathVariable("id") Long id) {
-        WordBookDetailResponse response = wordBookService.findWordBookById(id);
-        return ResponseEntity.ok().body(response);
+        return conditionalResponses.ok(() -> wordBookService.findWordBookById(id));
     }
 
     @Override
     @PutMapping(Constants.ApiPath.WORD_BOOKS_ID)
-    public ResponseEntity<WordBookResponse> updateWordBook(
+    public ResponseEntity<WordBookUpdateResponse> updateWordBook(
             @PathVariable("id") Long id,
             @Valid @RequestBody WordBookRequest request) {
-        WordBookResponse response = wordBookService.updateWordBookById(id, request);
+        WordBookUpdateResponse response = wordBookService.updateWordBookById(id, request);
         return ResponseEntity.ok().body(response);
     }
 
@@ -91,4 +120,25 @@ public class WordBookRestControllerImpl implements WordBookRestController {
         return ResponseEntity.ok(response);
     }
 
+    @Override
+    @PostMapping(Constants.ApiPath.WORD_BOOKS_STUDY_SESSIONS)
+    public ResponseEntity<StudySessionResponse> startStudySession(
+            @PathVariable("id") Long id,
+            @RequestParam(name = "pageSize", required = false) Integer pageSize) {
+        StudySessionResponse response = wordBookService.startStudySession(id, pageSize);
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    @GetMapping(Constants.ApiPath.WORD_BOOKS_STUDY_SESSION)
+    public ResponseEntity<StudySessionResponse> getStudySessionCards(
+            @PathVariable("id") Long id,
+            @PathVariable("sessionId") String sessionId,
+            @RequestParam(name = "offset", required = false) Integer offset,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "position", required = false) Integer position) {
+        StudySessionResponse response = wordBookService.findStudySessionCards(id, sessionId, offset, limit, position);
+        return ResponseEntity.ok(response);
+    }
+
 }
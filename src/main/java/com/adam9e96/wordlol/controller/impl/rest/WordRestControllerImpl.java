@@ -1,7 +1,9 @@
 package com.adam9e96.wordlol.controller.impl.rest;
 
+import com.adam9e96.wordlol.common.CurrentUserProvider;
 import com.adam9e96.wordlol.common.constants.Constants;
 import com.adam9e96.wordlol.controller.interfaces.rest.WordRestController;
+import com.adam9e96.wordlol.dto.common.CursorPageResponse;
 import com.adam9e96.wordlol.dto.common.PageResponse;
 import com.adam9e96.wordlol.dto.request.AnswerRequest;
 import com.adam9e96.wordlol.dto.request.WordRequest;
@@ -9,16 +11,25 @@ import com.adam9e96.wordlol.dto.request.WordSearchRequest;
 import com.adam9e96.wordlol.dto.response.*;
 import com.adam9e96.wordlol.service.interfaces.StudyProgressService;
 import com.adam9e96.wordlol.service.interfaces.WordService;
-import jakarta.servlet.http.HttpSession;
+import com.adam9e96.wordlol.support.etag.ConditionalResponses;
+import com.adam9e96.wordlol.support.exporter.WordExportFormat;
+import com.adam9e96.wordlol.support.exporter.WordExporter;
+import com.adam9e96.wordlol.support.importer.WordImportFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +42,8 @@ public class WordRestControllerImpl implements WordRestController {
 
     private final WordService wordService;
     private final StudyProgressService studyProgressService;
+    private final CurrentUserProvider currentUserProvider;
+    private final ConditionalResponses conditionalResponses;
 
     @Override
     @PostMapping
@@ -53,11 +66,34 @@ public class WordRestControllerImpl implements WordRestController {
         return ResponseEntity.ok(response);
     }
 
+    @Override
+    @PostMapping(value = Constants.ApiPath.WORD_IMPORT,
+            consumes = {"application/x-ndjson", "text/csv"}, produces = "application/x-ndjson")
+    public void importWords(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        WordImportFormat format = WordImportFormat.fromContentType(request.getContentType());
+
+        // 본문을 버퍼링하지 않고 읽으면서 행별 결과를 바로 응답에 기록
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        wordService.importWords(format, request.getInputStream(), response.getOutputStream());
+    }
+
+    @Override
+    @GetMapping(Constants.ApiPath.WORD_EXPORT)
+    public ResponseEntity<StreamingResponseBody> exportWords(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @RequestParam(name = "afterId", required = false) Long afterId,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        WordExportFormat exportFormat = WordExportFormat.from(format);
+        StreamingResponseBody body = wordService.exportWords(exportFormat, afterId);
+        return WordExporter.toResponse(body, exportFormat, WordExporter.acceptsGzip(acceptEncoding), "words");
+    }
+
     @Override
     @GetMapping(Constants.ApiPath.WORD_ID)
     public ResponseEntity<WordResponse> getWord(@PathVariable("id") Long id) {
-        WordResponse response = wordService.findById(id);
-        return ResponseEntity.ok(response);
+        // 데이터 버전이 같으면 단어를 조회하지 않고 304 응답
+        return conditionalResponses.ok(() -> wordService.findById(id));
     }
 
     @Override
@@ -76,15 +112,18 @@ public class WordRestControllerImpl implements WordRestController {
 
     @Override
     @GetMapping(Constants.ApiPath.WORD_RANDOM)
-    public ResponseEntity<WordStudyResponse> getRandomWord() {
-        WordStudyResponse response = wordService.findRandomWord();
+    public ResponseEntity<WordStudyResponse> getRandomWord(
+            @RequestParam(name = "mode", required = false) String mode) {
+        WordStudyResponse response = Constants.StudyMode.SRS.equalsIgnoreCase(mode)
+                ? wordService.findNextReviewWord()
+                : wordService.findRandomWord();
         return ResponseEntity.ok(response);
     }
 
     @Override
     @PostMapping(Constants.ApiPath.WORD_CHECK)
-    public ResponseEntity<AnswerResponse> checkAnswer(@Valid @RequestBody AnswerRequest request, HttpSession session) {
-        AnswerResponse response = wordService.checkAnswer(request, session);
+    public ResponseEntity<AnswerResponse> checkAnswer(@Valid @RequestBody AnswerRequest request) {
+        AnswerResponse response = wordService.checkAnswer(request);
 //        log.info("정답 확인 결과: {}", response.toString());
 
         return ResponseEntity.ok().body(response);
@@ -110,9 +149,8 @@ public class WordRestControllerImpl implements WordRestController {
 
     @Override
     @GetMapping("/streak")
-    public Map<String, Integer> getCurrentStreak(HttpSession session) {
-        String sessionId = session.getId();
-        int currentPerfectRun = studyProgressService.getCurrentPerfectRun(sessionId);
+    public Map<String, Integer> getCurrentStreak() {
+        int currentPerfectRun = studyProgressService.getCurrentPerfectRun(currentUserProvider.getCurrentUserId());
         return Map.of("perfectRun", currentPerfectRun);
     }
 
@@ -158,6 +196,16 @@ public class WordRestControllerImpl implements WordRestController {
         return ResponseEntity.ok(response);
     }
 
+    @Override
+    @GetMapping(Constants.ApiPath.WORD_LIST_CURSOR)
+    public ResponseEntity<CursorPageResponse<WordResponse>> getWordsWithCursor(
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        // (user_id, id DESC) 순서로 after 다음부터 조회 (OFFSET, COUNT 없음)
+        CursorPageResponse<WordResponse> response = wordService.findAllWithCursor(after, size);
+        return ResponseEntity.ok(response);
+    }
+
     @Override
     @GetMapping(Constants.ApiPath.WORD_SEARCH)
     public ResponseEntity<PageResponse<WordResponse>> searchWords(
@@ -172,4 +220,16 @@ public class WordRestControllerImpl implements WordRestController {
         return ResponseEntity.ok(response);
     }
 
+    @Override
+    @GetMapping(Constants.ApiPath.WORD_SEARCH_CURSOR)
+    public ResponseEntity<CursorPageResponse<WordResponse>> searchWordsWithCursor(
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+
+        WordSearchRequest searchRequest = new WordSearchRequest(keyword);
+        CursorPageResponse<WordResponse> response = wordService.searchWordsWithCursor(searchRequest, after, size);
+        return ResponseEntity.ok(response);
+    }
+
 }
@@ -22,9 +22,8 @@ public class LoginViewControllerImpl implements LoginViewController {
     @Override
     @GetMapping("/")
     public String home(HttpServletRequest request) {
-        String token = jwtTokenProvider.resolveToken(request);
-
-        if (token != null && jwtTokenProvider.validateToken(token)) {
+        // 인증 필터가 검증해 둔 결과를 사용 (토큰을 다시 파싱하지 않음)
+        if (jwtTokenProvider.getVerifiedToken(request).isPresent()) {
             return "redirect:/word/dashboard";  // 로그인한 경우 대시보드로
         } else {
             return "views/common/welcome";  // 로그인하지 않은 경우 소개 페이지로
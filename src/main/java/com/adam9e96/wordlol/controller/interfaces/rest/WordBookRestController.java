@@ -6,6 +6,8 @@ import com.adam9e96.wordlol.dto.response.WordBookDetailResponse;
 import com.adam9e96.wordlol.dto.response.WordBookListResponse;
 import com.adam9e96.wordlol.dto.response.WordBookResponse;
 import com.adam9e96.wordlol.dto.response.WordBookStudyResponse;
+import com.adam9e96.wordlol.dto.response.WordBookUpdateResponse;
+import com.adam9e96.wordlol.dto.response.StudySessionResponse;
 import com.adam9e96.wordlol.enums.Category;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,8 +16,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -52,6 +56,7 @@ public interface WordBookRestController {
     @Operation(summary = "단어장 내 단어 목록 조회", description = "단어장에 포함된 단어 목록을 조회합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "단어 목록 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 와 일치 (변경 없음)"),
             @ApiResponse(responseCode = "404", description = "단어장을 찾을 수 없음")
     })
     @GetMapping("/{id}/words")
@@ -59,6 +64,31 @@ public interface WordBookRestController {
             @Parameter(description = "조회할 단어장의 ID", required = true)
             @PathVariable("id") Long id);
 
+    /**
+     * 단어장의 단어를 NDJSON 또는 CSV 로 내보냅니다.
+     *
+     * @param id             단어장 ID
+     * @param format         내보내기 형식 (ndjson 또는 csv)
+     * @param afterId        이 ID 이후의 단어부터 내보내기
+     * @param acceptEncoding gzip 을 포함하면 압축해서 응답
+     * @return 스트리밍 응답
+     */
+    @Operation(summary = "단어장 단어 내보내기", description = "단어장의 단어를 NDJSON 또는 CSV 로 스트리밍 내보냅니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+            @ApiResponse(responseCode = "404", description = "단어장을 찾을 수 없음")
+    })
+    @GetMapping("/{id}/export")
+    ResponseEntity<StreamingResponseBody> exportWordBookWords(
+            @Parameter(description = "내보낼 단어장의 ID", required = true)
+            @PathVariable("id") Long id,
+            @Parameter(description = "내보내기 형식 (ndjson 또는 csv)", example = "ndjson")
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @Parameter(description = "이 ID 이후의 단어부터 내보내기 (이어받기)")
+            @RequestParam(name = "afterId", required = false) Long afterId,
+            @Parameter(hidden = true)
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding);
+
     /**
      * 특정 카테고리의 모든 단어장에 포함된 단어 목록을 조회합니다.
      *
@@ -75,6 +105,31 @@ public interface WordBookRestController {
             @Parameter(description = "조회할 카테고리", required = true)
             @PathVariable("category") Category category);
 
+    /**
+     * 특정 카테고리의 모든 단어장에 포함된 단어를 NDJSON 또는 CSV 로 스트리밍 내보냅니다.
+     * 단어가 많아도 메모리 사용량이 일정하며, 연결이 끊기면 마지막으로 받은 ID 를 afterId 로 넘겨 이어받습니다.
+     *
+     * @param category       카테고리
+     * @param format         ndjson 또는 csv
+     * @param afterId        이 ID 이후의 단어부터 내보내기
+     * @param acceptEncoding gzip 을 포함하면 압축해서 응답
+     * @return 스트리밍 응답
+     */
+    @Operation(summary = "카테고리별 단어 내보내기", description = "특정 카테고리에 속한 모든 단어장의 단어를 NDJSON 또는 CSV 로 스트리밍 내보냅니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 성공")
+    })
+    @GetMapping("/category/{category}/export")
+    ResponseEntity<StreamingResponseBody> exportWordsByCategory(
+            @Parameter(description = "내보낼 카테고리", required = true)
+            @PathVariable("category") Category category,
+            @Parameter(description = "내보내기 형식 (ndjson 또는 csv)", example = "ndjson")
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @Parameter(description = "이 ID 이후의 단어부터 내보내기 (이어받기)")
+            @RequestParam(name = "afterId", required = false) Long afterId,
+            @Parameter(hidden = true)
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding);
+
     /**
      * 모든 단어장 목록을 조회합니다.
      *
@@ -83,6 +138,7 @@ public interface WordBookRestController {
     @Operation(summary = "단어장 목록 조회", description = "등록된 모든 단어장 목록을 조회합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "단어장 목록 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 와 일치 (변경 없음)"),
             @ApiResponse(responseCode = "404", description = "단어장이 없음")
     })
     @GetMapping
@@ -130,6 +186,7 @@ public interface WordBookRestController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "단어장 조회 성공",
                     content = @Content(schema = @Schema(implementation = WordBookDetailResponse.class))),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 와 일치 (변경 없음)"),
             @ApiResponse(responseCode = "404", description = "단어장을 찾을 수 없음")
     })
     @GetMapping("/{id}")
@@ -142,16 +199,16 @@ public interface WordBookRestController {
      *
      * @param id      수정할 단어장의 ID
      * @param request 수정할 단어장 정보
-     * @return 수정된 단어장 정보
+     * @return 수정된 단어장 정보와 단어 변경 내역
      */
-    @Operation(summary = "단어장 수정", description = "단어장을 수정합니다")
+    @Operation(summary = "단어장 수정", description = "단어장을 수정합니다. 바뀐 단어만 반영하고 변경 내역(유지/수정/추가/삭제 수)을 반환합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "단어장 수정 성공",
-                    content = @Content(schema = @Schema(implementation = WordBookResponse.class))),
+                    content = @Content(schema = @Schema(implementation = WordBookUpdateResponse.class))),
             @ApiResponse(responseCode = "404", description = "단어장을 찾을 수 없음")
     })
     @PutMapping("/{id}")
-    ResponseEntity<WordBookResponse> updateWordBook(
+    ResponseEntity<WordBookUpdateResponse> updateWordBook(
             @Parameter(description = "수정할 단어장의 ID", required = true)
             @PathVariable("id") Long id,
             @Parameter(description = "수정할 단어장 정보", required = true)
@@ -172,4 +229,53 @@ public interface WordBookRestController {
     ResponseEntity<List<WordBookStudyResponse>> getWordBookStudyData(
             @Parameter(description = "조회할 단어장의 ID", required = true)
             @PathVariable("id") Long id);
+
+    /**
+     * 단어장 학습 세션을 시작합니다.
+     *
+     * @param id       단어장 ID
+     * @param pageSize 한 번에 받을 카드 수
+     * @return 세션 ID 와 첫 페이지의 카드
+     */
+    @Operation(summary = "단어장 학습 세션 시작", description = "서버에서 단어 순서를 섞은 학습 세션을 만들고 첫 페이지의 카드를 반환합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "학습 세션 시작 성공"),
+            @ApiResponse(responseCode = "404", description = "단어장을 찾을 수 없거나 단어가 없음")
+    })
+    @PostMapping("/{id}/study/sessions")
+    ResponseEntity<StudySessionResponse> startStudySession(
+            @Parameter(description = "학습할 단어장의 ID", required = true)
+            @PathVariable("id") Long id,
+            @Parameter(description = "한 번에 받을 카드 수", example = "20")
+            @RequestParam(name = "pageSize", required = false) Integer pageSize);
+
+    /**
+     * 학습 세션의 카드를 조회합니다.
+     * offset 이 없으면 마지막으로 기록된 학습 위치부터 반환합니다.
+     *
+     * @param id        단어장 ID
+     * @param sessionId 학습 세션 ID
+     * @param offset    페이지 시작 위치
+     * @param limit     받을 카드 수
+     * @param position  현재 학습 위치 (재접속 시 이어서 학습하기 위해 기록)
+     * @return 요청한 구간의 카드
+     */
+    @Operation(summary = "단어장 학습 세션 카드 조회", description = "학습 세션의 카드를 페이지 단위로 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "카드 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 offset"),
+            @ApiResponse(responseCode = "404", description = "학습 세션이 만료되었거나 존재하지 않음")
+    })
+    @GetMapping("/{id}/study/sessions/{sessionId}")
+    ResponseEntity<StudySessionResponse> getStudySessionCards(
+            @Parameter(description = "단어장 ID", required = true)
+            @PathVariable("id") Long id,
+            @Parameter(description = "학습 세션 ID", required = true)
+            @PathVariable("sessionId") String sessionId,
+            @Parameter(description = "페이지 시작 위치 (생략하면 마지막 학습 위치)")
+            @RequestParam(name = "offset", required = false) Integer offset,
+            @Parameter(description = "받을 카드 수", example = "20")
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @Parameter(description = "현재 학습 위치")
+            @RequestParam(name = "position", required = false) Integer position);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.adam9e96.wordlol.controller.interfaces.rest;
 
+import com.adam9e96.wordlol.dto.common.CursorPageResponse;
 import com.adam9e96.wordlol.dto.common.PageResponse;
 import com.adam9e96.wordlol.dto.request.AnswerRequest;
 import com.adam9e96.wordlol.dto.request.WordRequest;
@@ -11,11 +12,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -58,6 +63,44 @@ public interface WordRestController {
             @Parameter(description = "등록할 단어 목록", required = true)
             @Valid @RequestBody List<WordRequest> requests);
 
+    /**
+     * NDJSON 또는 CSV 본문에서 단어를 스트리밍으로 가져옵니다.
+     * 본문을 청크 단위로 읽어 저장하며, 행별 결과를 NDJSON 으로 바로 내보냅니다.
+     *
+     * @param request  단어 파일 본문 (application/x-ndjson 또는 text/csv)
+     * @param response 행별 결과 (application/x-ndjson, 마지막 줄은 전체 결과)
+     */
+    @Operation(summary = "단어 가져오기", description = "NDJSON 또는 CSV 본문에서 단어를 스트리밍으로 가져옵니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "행별 결과를 NDJSON 으로 반환"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식")
+    })
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"}, produces = "application/x-ndjson")
+    void importWords(HttpServletRequest request, HttpServletResponse response) throws IOException;
+
+    /**
+     * 현재 사용자의 모든 단어를 NDJSON 또는 CSV 로 내보냅니다.
+     * 단어를 ID 오름차순으로 스트리밍하며, 끊긴 경우 마지막으로 받은 ID 를 afterId 로 넘겨 이어받을 수 있습니다.
+     *
+     * @param format         내보내기 형식 (ndjson 또는 csv)
+     * @param afterId        이 ID 이후의 단어부터 내보내기
+     * @param acceptEncoding gzip 을 포함하면 압축해서 응답
+     * @return 스트리밍 응답
+     */
+    @Operation(summary = "단어 내보내기", description = "단어를 NDJSON 또는 CSV 로 스트리밍 내보냅니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식")
+    })
+    @GetMapping("/export")
+    ResponseEntity<StreamingResponseBody> exportWords(
+            @Parameter(description = "내보내기 형식 (ndjson 또는 csv)", example = "ndjson")
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @Parameter(description = "이 ID 이후의 단어부터 내보내기 (이어받기)")
+            @RequestParam(name = "afterId", required = false) Long afterId,
+            @Parameter(hidden = true)
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding);
+
     /**
      * ID로 단어를 조회합니다.
      *
@@ -68,6 +111,7 @@ public interface WordRestController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "단어 조회 성공",
                     content = @Content(schema = @Schema(implementation = WordResponse.class))),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 와 일치 (변경 없음)"),
             @ApiResponse(responseCode = "404", description = "단어를 찾을 수 없음")
     })
     @GetMapping("/{id}")
@@ -113,23 +157,26 @@ public interface WordRestController {
 
     /**
      * 랜덤 단어를 조회합니다.
+     * mode=srs 이면 간격 반복 복습 일정에 따라 다음 복습 단어를 조회합니다.
      *
+     * @param mode 학습 모드 (random: 무작위, srs: 간격 반복)
      * @return 랜덤으로 선택된 단어 정보
      */
-    @Operation(summary = "랜덤 단어 조회", description = "학습을 위한 랜덤 단어를 조회합니다")
+    @Operation(summary = "랜덤 단어 조회", description = "학습을 위한 랜덤 단어를 조회합니다. mode=srs 이면 복습 일정에 따라 조회합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "랜덤 단어 조회 성공",
                     content = @Content(schema = @Schema(implementation = WordResponse.class))),
             @ApiResponse(responseCode = "404", description = "단어를 찾을 수 없음")
     })
     @GetMapping("/random")
-    ResponseEntity<WordStudyResponse> getRandomWord();
+    ResponseEntity<WordStudyResponse> getRandomWord(
+            @Parameter(description = "학습 모드 (random, srs)")
+            @RequestParam(name = "mode", required = false) String mode);
 
     /**
      * 단어 학습 시 정답을 확인합니다.
      *
      * @param request 제출한 답변 정보
-     * @param session 사용자 세션
      * @return 정답 여부 및 연속 정답 수
      */
     @Operation(summary = "정답 확인", description = "학습 중인 단어의 정답을 확인합니다")
@@ -142,8 +189,7 @@ public interface WordRestController {
     @PostMapping("/check")
     ResponseEntity<AnswerResponse> checkAnswer(
             @Parameter(description = "확인할 답변 정보", required = true)
-            @Valid @RequestBody AnswerRequest request,
-            HttpSession session);
+            @Valid @RequestBody AnswerRequest request);
 
     @GetMapping("/check-duplicate")
     ResponseEntity<Map<String, Boolean>> checkVocabularyDuplicate(
@@ -171,7 +217,6 @@ public interface WordRestController {
     /**
      * 현재 연속 정답 수를 조회합니다.
      *
-     * @param session 사용자 세션
      * @return 현재 연속 정답 수
      */
     @Operation(summary = "연속 정답 수 조회", description = "현재 사용자의 연속 정답 수를 조회합니다")
@@ -179,7 +224,7 @@ public interface WordRestController {
             @ApiResponse(responseCode = "200", description = "연속 정답 수 조회 성공")
     })
     @GetMapping("/streak")
-    Map<String, Integer> getCurrentStreak(HttpSession session);
+    Map<String, Integer> getCurrentStreak();
 
     /**
      * 오늘의 추천 단어 목록을 조회합니다.
@@ -213,6 +258,26 @@ public interface WordRestController {
             @Parameter(description = "페이지 크기", example = "20")
             @RequestParam(name = "size", defaultValue = "20") int size);
 
+    /**
+     * 단어 목록을 커서 기반으로 조회합니다. 무한 스크롤에 사용하며 전체 개수는 제공하지 않습니다.
+     *
+     * @param after 이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size  페이지 크기
+     * @return 커서 기반 단어 목록
+     */
+    @Operation(summary = "단어 목록 커서 조회", description = "단어 목록을 커서(keyset) 기반으로 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "단어 목록 조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    @GetMapping("/list/cursor")
+    ResponseEntity<CursorPageResponse<WordResponse>> getWordsWithCursor(
+            @Parameter(description = "이전 응답의 nextCursor")
+            @RequestParam(name = "after", required = false) String after,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(name = "size", defaultValue = "20") int size);
+
     /**
      * 단어를 검색합니다.
      *
@@ -234,4 +299,27 @@ public interface WordRestController {
             @RequestParam(name = "page", defaultValue = "0") int page,
             @Parameter(description = "페이지 크기", example = "20")
             @RequestParam(name = "size", defaultValue = "20") int size);
-}
\ No newline at end of file
+
+    /**
+     * 단어를 커서 기반으로 검색합니다. 무한 스크롤에 사용하며 전체 개수는 제공하지 않습니다.
+     *
+     * @param keyword 검색 키워드
+     * @param after   이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size    페이지 크기
+     * @return 커서 기반 검색 결과
+     */
+    @Operation(summary = "단어 커서 검색", description = "키워드로 단어를 커서(keyset) 기반으로 검색합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "단어 검색 성공",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    @GetMapping("/search/cursor")
+    ResponseEntity<CursorPageResponse<WordResponse>> searchWordsWithCursor(
+            @Parameter(description = "검색 키워드")
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @Parameter(description = "이전 응답의 nextCursor")
+            @RequestParam(name = "after", required = false) String after,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(name = "size", defaultValue = "20") int size);
+}
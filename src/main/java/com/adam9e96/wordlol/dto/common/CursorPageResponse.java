@@ -0,0 +1,75 @@
+package com.adam9e96.wordlol.dto.common;
+
+import com.adam9e96.wordlol.exception.validation.ValidationException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * <p>
+ * 전체 개수를 세지 않고, 마지막 항목 다음부터 이어서 조회할 수 있는 불투명한 커서만 반환합니다.
+ * 다음 페이지는 {@code after=nextCursor} 로 요청합니다.
+ */
+@Getter
+public class CursorPageResponse<T> {
+    private static final String CURSOR_PREFIX = "id:";
+    // 요청한 크기가 없거나 0 이하일 때의 페이지 크기
+    public static final int DEFAULT_SIZE = 20;
+    // 한 번에 요청할 수 있는 최대 페이지 크기
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CursorPageResponse(List<T> content, int size, Long lastId) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = lastId != null ? encodeCursor(lastId) : null;
+        this.hasNext = lastId != null;
+    }
+
+    /**
+     * 요청한 페이지 크기를 1 ~ {@value #MAX_SIZE} 범위로 맞춥니다. 0 이하면 {@value #DEFAULT_SIZE} 를 사용합니다.
+     *
+     * @param size 요청한 페이지 크기
+     * @return 조회에 사용할 페이지 크기
+     */
+    public static int clampSize(int size) {
+        return size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * 마지막 항목의 ID 를 커서 문자열로 변환합니다.
+     */
+    public static String encodeCursor(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열에서 ID 를 꺼냅니다.
+     *
+     * @param cursor 커서 (null 또는 빈 값이면 첫 페이지)
+     * @return 마지막으로 받은 항목의 ID, 첫 페이지면 null
+     * @throws ValidationException 잘못된 커서인 경우
+     */
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new ValidationException("잘못된 커서입니다.");
+            }
+            return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.adam9e96.wordlol.dto.response;
+
+// 학습 세션의 카드 (position: 덱 안의 위치)
+public record StudyCardResponse(
+        int position,
+        Long id,
+        String vocabulary,
+        String meaning,
+        String hint,
+        Integer difficulty
+) {
+}
@@ -0,0 +1,16 @@
+package com.adam9e96.wordlol.dto.response;
+
+import java.util.List;
+
+// 학습 세션의 카드 한 페이지
+public record StudySessionResponse(
+        String sessionId,
+        Long wordBookId,
+        int total, // 덱의 전체 카드 수
+        int offset, // 이 페이지의 시작 위치
+        int position, // 이어서 학습할 위치 (마지막으로 기록된 학습 위치)
+        List<StudyCardResponse> cards, // 삭제된 단어는 빠지므로 position 이 연속되지 않을 수 있음
+        Integer nextOffset, // 다음 페이지의 시작 위치 (마지막 페이지면 null)
+        Integer prefetchAt // 이 위치의 카드를 보여줄 때 다음 페이지를 미리 요청 (마지막 페이지면 null)
+) {
+}
@@ -0,0 +1,21 @@
+package com.adam9e96.wordlol.dto.response;
+
+import com.adam9e96.wordlol.enums.Category;
+
+import java.time.LocalDateTime;
+
+// 단어장 수정 응답 DTO (단어 변경 내역 포함)
+public record WordBookUpdateResponse(
+        Long id,
+        String name,
+        String description,
+        Category category,
+        int wordCount,
+        int unchangedWords, // 바뀌지 않은 단어 수
+        int modifiedWords, // 수정된 단어 수
+        int addedWords, // 추가된 단어 수
+        int removedWords, // 삭제된 단어 수
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
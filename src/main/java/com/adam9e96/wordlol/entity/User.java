@@ -1,17 +1,22 @@
 package com.adam9e96.wordlol.entity;
 
+import com.adam9e96.wordlol.common.constants.Constants;
 import com.adam9e96.wordlol.enums.Role;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.CacheRegion.USER)
 @Getter
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,45 @@
+package com.adam9e96.wordlol.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 사용자별 오늘의 단어 (하루 동안 고정)
+ * <p>
+ * 야간 작업(DailyWordGenerator)이 미리 골라 두며, 값은 MyBatis(DailyPickMapper)로만 갱신합니다.
+ * 단어가 삭제되어도 행은 남으며, 조회 시 word 와 조인해 걸러냅니다.
+ */
+@Entity
+@Table(name = "user_daily_pick")
+@IdClass(UserDailyPick.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserDailyPick {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "pick_date")
+    private LocalDate pickDate;
+
+    @Id
+    @Column(name = "pick_order")
+    private int pickOrder; // 표시 순서
+
+    @Column(name = "word_id", nullable = false)
+    private Long wordId;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate pickDate;
+        private int pickOrder;
+    }
+}
@@ -0,0 +1,46 @@
+package com.adam9e96.wordlol.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일일 학습 통계 (study_history 집계)
+ * <p>
+ * 학습 기록을 저장할 때 함께 증가하며, 값은 MyBatis(DailyStatsMapper)로만 갱신합니다.
+ * study_history 에서 언제든 다시 만들 수 있습니다.
+ */
+@Entity
+@Table(name = "user_daily_stats")
+@IdClass(UserDailyStats.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserDailyStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(name = "answers", nullable = false)
+    private int answers; // 제출한 답 수
+
+    @Column(name = "correct", nullable = false)
+    private int correct; // 정답 수
+
+    @Column(name = "words", nullable = false)
+    private int words; // 학습한 서로 다른 단어 수
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate statDate;
+    }
+}
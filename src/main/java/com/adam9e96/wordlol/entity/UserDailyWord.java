@@ -0,0 +1,39 @@
+package com.adam9e96.wordlol.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 사용자가 하루 동안 학습한 단어 (일일 통계의 서로 다른 단어 수 계산용)
+ */
+@Entity
+@Table(name = "user_daily_word")
+@IdClass(UserDailyWord.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserDailyWord {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Id
+    @Column(name = "word_id")
+    private Long wordId;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate statDate;
+        private Long wordId;
+    }
+}
@@ -12,18 +12,29 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Getter
 public class UserStudyProgress {
+    // 사용자 기준 행의 sessionId 접두사 (기존 NOT NULL 제약 유지용)
+    private static final String USER_SESSION_PREFIX = "user:";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(nullable = false, unique = true)
-    private String sessionId; // userId 대신 sessionId 사용
+    private String sessionId; // 이전 세션 기반 기록 호환용
+    @Column(unique = true)
+    private Long userId;
     private int perfectRun;
     private LocalDateTime lastStudyDate;
 
-    public void update(String sessionId, int perfectRun, LocalDateTime lastStudyDate) {
-        this.sessionId = sessionId;
+    /**
+     * 사용자 기준 학습 진행 상황을 생성합니다.
+     */
+    public static UserStudyProgress forUser(Long userId, int perfectRun, LocalDateTime lastStudyDate) {
+        return new UserStudyProgress(null, USER_SESSION_PREFIX + userId, userId, perfectRun, lastStudyDate);
+    }
+
+    public void update(int perfectRun, LocalDateTime lastStudyDate) {
         this.perfectRun = perfectRun;
         this.lastStudyDate = lastStudyDate;
     }
-}
\ No newline at end of file
+}
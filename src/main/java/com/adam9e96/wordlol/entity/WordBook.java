@@ -1,8 +1,11 @@
 package com.adam9e96.wordlol.entity;
 
+import com.adam9e96.wordlol.common.constants.Constants;
 import com.adam9e96.wordlol.enums.Category;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,6 +15,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "word_book")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.CacheRegion.WORD_BOOK)
 @Getter
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,14 @@
+package com.adam9e96.wordlol.event;
+
+/**
+ * 단어장 정보가 변경되었음을 알리는 이벤트
+ * <p>
+ * WordBookServiceImpl 에서 단어장이 생성/수정/삭제된 후 발행됩니다.
+ * 단어가 바뀌지 않고 이름, 설명, 카테고리만 수정된 경우에는 {@link WordChangedEvent} 가 발행되지 않으므로,
+ * 단어장 목록/상세 응답에 의존하는 파생 상태(ETag 버전 등)는 이 이벤트도 함께 받아야 합니다.
+ *
+ * @param userId     단어장 소유자 ID
+ * @param wordBookId 단어장 ID
+ */
+public record WordBookChangedEvent(Long userId, Long wordBookId) {
+}
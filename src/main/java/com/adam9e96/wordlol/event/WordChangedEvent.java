@@ -0,0 +1,53 @@
+package com.adam9e96.wordlol.event;
+
+import java.util.List;
+
+/**
+ * 사용자의 단어 집합이 변경되었음을 알리는 이벤트
+ * <p>
+ * WordServiceImpl, WordBookServiceImpl 에서 단어가 생성/수정/삭제된 후 발행되며,
+ * 단어 ID 목록이나 개수처럼 메모리에 유지되는 파생 상태(랜덤 샘플러 등)를 갱신하는 데 사용됩니다.
+ * 일괄 저장처럼 생성된 ID를 알 수 없는 경우 wordIds 는 비어 있고 count 만 채워집니다.
+ *
+ * @param userId  단어 소유자 ID
+ * @param type    변경 유형
+ * @param wordIds 변경된 단어 ID 목록 (알 수 없으면 빈 목록)
+ * @param count   변경된 단어 수
+ */
+public record WordChangedEvent(Long userId, ChangeType type, List<Long> wordIds, int count) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        // 변경 내용을 정확히 알 수 없는 경우 (파생 상태를 다시 만들어야 함)
+        RESET
+    }
+
+    public static WordChangedEvent created(Long userId, List<Long> wordIds) {
+        return new WordChangedEvent(userId, ChangeType.CREATED, List.copyOf(wordIds), wordIds.size());
+    }
+
+    public static WordChangedEvent created(Long userId, int count) {
+        return new WordChangedEvent(userId, ChangeType.CREATED, List.of(), count);
+    }
+
+    public static WordChangedEvent updated(Long userId, List<Long> wordIds) {
+        return new WordChangedEvent(userId, ChangeType.UPDATED, List.copyOf(wordIds), wordIds.size());
+    }
+
+    public static WordChangedEvent deleted(Long userId, List<Long> wordIds) {
+        return new WordChangedEvent(userId, ChangeType.DELETED, List.copyOf(wordIds), wordIds.size());
+    }
+
+    public static WordChangedEvent reset(Long userId) {
+        return new WordChangedEvent(userId, ChangeType.RESET, List.of(), 0);
+    }
+
+    /**
+     * 변경된 단어 ID 목록을 알고 있는지 여부
+     */
+    public boolean hasWordIds() {
+        return type != ChangeType.RESET && wordIds.size() == count;
+    }
+}
@@ -0,0 +1,13 @@
+package com.adam9e96.wordlol.exception.wordbook;
+
+import com.adam9e96.wordlol.exception.base.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class StudySessionNotFoundException extends BaseException {
+    private static final String MESSAGE = "학습 세션이 만료되었거나 존재하지 않습니다.";
+    private static final String CODE = "STUDY-SESSION-404";
+
+    public StudySessionNotFoundException(String sessionId) {
+        super(HttpStatus.NOT_FOUND, String.format("%s sessionId: %s", MESSAGE, sessionId), CODE);
+    }
+}
@@ -1,7 +1,6 @@
 package com.adam9e96.wordlol.mapper.entity;
 
 import com.adam9e96.wordlol.dto.response.WordBookDetailResponse;
-import com.adam9e96.wordlol.dto.response.WordBookListResponse;
 import com.adam9e96.wordlol.dto.response.WordBookResponse;
 import com.adam9e96.wordlol.dto.response.WordBookStudyResponse;
 import com.adam9e96.wordlol.entity.Word;
@@ -21,7 +20,4 @@ public interface WordBookEntityMapper {
     @Mapping(target = "wordCount", expression = "java(wordBook.getWords().size())")
     WordBookResponse toResponse(WordBook wordBook);
 
-    @Mapping(target = "wordCount", expression = "java(wordBook.getWords().size())")
-    WordBookListResponse toListDto(WordBook wordBook);
-
 }
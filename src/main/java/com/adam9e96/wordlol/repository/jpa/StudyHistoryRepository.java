@@ -3,6 +3,7 @@ package com.adam9e96.wordlol.repository.jpa;
 import com.adam9e96.wordlol.entity.StudyHistory;
 import com.adam9e96.wordlol.entity.User;
 import com.adam9e96.wordlol.entity.Word;
+import com.adam9e96.wordlol.support.srs.StudyOutcome;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -38,4 +39,13 @@ public interface StudyHistoryRepository extends JpaRepository<StudyHistory, Long
     // 최근 N일간 학습한 단어 ID 목록 조회
     @Query("SELECT sh.word.id FROM StudyHistory sh WHERE sh.user.id = :userId AND sh.studyTime > :since ORDER BY sh.studyTime DESC")
     List<Long> findRecentlyStudiedWordIds(Long userId, LocalDateTime since);
+
+    // 최근 학습 기록이 있는 사용자 ID 목록 (오늘의 단어 야간 작업 대상)
+    @Query("SELECT DISTINCT sh.user.id FROM StudyHistory sh WHERE sh.studyTime > :since")
+    List<Long> findActiveUserIds(LocalDateTime since);
+
+    // 복습 일정 재구성을 위한 사용자의 전체 학습 결과 (시간순, 엔티티 로딩 없음)
+    @Query("SELECT new com.adam9e96.wordlol.support.srs.StudyOutcome(sh.word.id, sh.isCorrect, sh.studyTime) " +
+            "FROM StudyHistory sh WHERE sh.user.id = :userId ORDER BY sh.studyTime, sh.id")
+    List<StudyOutcome> findOutcomesByUserId(Long userId);
 }
\ No newline at end of file
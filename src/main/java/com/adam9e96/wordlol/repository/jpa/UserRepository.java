@@ -1,10 +1,19 @@
 package com.adam9e96.wordlol.repository.jpa;
 
+import com.adam9e96.wordlol.common.constants.Constants;
 import com.adam9e96.wordlol.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    // 결과(사용자 ID)는 쿼리 캐시에, 사용자는 엔티티 캐시에 보관 (users 가 JPA 로 변경되면 무효화)
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = Constants.CacheRegion.USER_BY_EMAIL)
+    })
     Optional<User> findByEmail(String email);
 }
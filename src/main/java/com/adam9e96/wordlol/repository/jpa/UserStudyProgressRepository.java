@@ -4,9 +4,13 @@ import com.adam9e96.wordlol.entity.UserStudyProgress;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserStudyProgressRepository extends JpaRepository<UserStudyProgress, Long> {
-    Optional<UserStudyProgress> findBySessionId(String sessionId);
+    Optional<UserStudyProgress> findByUserId(Long userId);
+
+    List<UserStudyProgress> findByUserIdIn(Collection<Long> userIds);
 }
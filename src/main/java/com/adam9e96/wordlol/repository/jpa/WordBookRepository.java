@@ -1,9 +1,16 @@
 package com.adam9e96.wordlol.repository.jpa;
 
+import com.adam9e96.wordlol.common.constants.Constants;
+import com.adam9e96.wordlol.dto.response.WordBookListResponse;
+import com.adam9e96.wordlol.dto.response.WordBookResponse;
 import com.adam9e96.wordlol.entity.User;
 import com.adam9e96.wordlol.entity.WordBook;
 import com.adam9e96.wordlol.enums.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,7 +18,28 @@ import java.util.List;
 @Repository
 public interface WordBookRepository extends JpaRepository<WordBook, Long> {
 
-    List<WordBook> findByUser(User user);
-
     List<WordBook> findByUserAndCategory(User user, Category category);
+
+    // 단어장 목록: 단어 수를 GROUP BY 로 함께 집계 (단어 엔티티를 로딩하지 않는 쿼리 한 번)
+    // 결과는 쿼리 캐시에 보관 (word_book 이 JPA 로 변경되면 Hibernate 가, 단어가 변경되면 WordBookListCacheEvictor 가 무효화)
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = Constants.CacheRegion.WORD_BOOKS_BY_USER)
+    })
+    @Query("SELECT new com.adam9e96.wordlol.dto.response.WordBookListResponse(" +
+            "wb.id, wb.name, wb.description, wb.category, CAST(COUNT(w.id) AS Integer), wb.createdAt, wb.updatedAt) " +
+            "FROM WordBook wb LEFT JOIN wb.words w " +
+            "WHERE wb.user.id = :userId " +
+            "GROUP BY wb.id, wb.name, wb.description, wb.category, wb.createdAt, wb.updatedAt " +
+            "ORDER BY wb.id")
+    List<WordBookListResponse> findListByUserId(Long userId);
+
+    // 카테고리별 단어장 목록: 단어 수를 GROUP BY 로 함께 집계 (단어 엔티티를 로딩하지 않는 쿼리 한 번)
+    @Query("SELECT new com.adam9e96.wordlol.dto.response.WordBookResponse(" +
+            "wb.id, wb.name, wb.description, wb.category, CAST(COUNT(w.id) AS Integer), wb.createdAt, wb.updatedAt) " +
+            "FROM WordBook wb LEFT JOIN wb.words w " +
+            "WHERE wb.user.id = :userId AND wb.category = :category " +
+            "GROUP BY wb.id, wb.name, wb.description, wb.category, wb.createdAt, wb.updatedAt " +
+            "ORDER BY wb.id")
+    List<WordBookResponse> findResponsesByUserIdAndCategory(Long userId, Category category);
 }
@@ -1,9 +1,11 @@
 package com.adam9e96.wordlol.repository.jpa;
 
+import com.adam9e96.wordlol.dto.response.WordResponse;
 import com.adam9e96.wordlol.entity.User;
 import com.adam9e96.wordlol.entity.Word;
 import com.adam9e96.wordlol.enums.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,5 +18,11 @@ public interface WordRepository extends JpaRepository<Word, Long> {
 
     boolean existsByVocabularyIgnoreCaseAndUserAndIdNot(String vocabulary, User user, Long excludeId);
 
-    List<Word> findByWordBookCategoryAndWordBookUser(Category category, User user);
+    // 조회 전용: 엔티티를 만들지 않고 단어 행을 바로 WordResponse 로 변환 (영속성 컨텍스트에 올리지 않음)
+    @Query("SELECT new com.adam9e96.wordlol.dto.response.WordResponse(" +
+            "w.id, w.vocabulary, w.meaning, w.hint, w.difficulty, w.createdAt, w.updatedAt) " +
+            "FROM Word w JOIN w.wordBook wb " +
+            "WHERE wb.category = :category AND wb.user.id = :userId " +
+            "ORDER BY w.id")
+    List<WordResponse> findResponsesByCategoryAndUserId(Category category, Long userId);
 }
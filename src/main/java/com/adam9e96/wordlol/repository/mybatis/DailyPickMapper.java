@@ -0,0 +1,43 @@
+package com.adam9e96.wordlol.repository.mybatis;
+
+import com.adam9e96.wordlol.dto.response.DailyWordResponse;
+import com.adam9e96.wordlol.support.daily.DailyPick;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 오늘의 단어(user_daily_pick) 매퍼
+ */
+@Mapper
+public interface DailyPickMapper {
+
+    /**
+     * 사용자의 오늘의 단어를 표시 순서대로 조회합니다. 삭제된 단어는 제외됩니다.
+     *
+     * @param userId   사용자 ID
+     * @param pickDate 날짜
+     * @return 오늘의 단어 (골라 둔 단어가 없으면 빈 목록)
+     */
+    List<DailyWordResponse> findDailyWords(@Param("userId") Long userId, @Param("pickDate") LocalDate pickDate);
+
+    /**
+     * 오늘의 단어를 저장합니다. 같은 (사용자, 날짜, 순서) 행이 이미 있으면 무시합니다.
+     */
+    int insertPicks(@Param("picks") List<DailyPick> picks);
+
+    /**
+     * 사용자의 특정 날짜 단어를 삭제합니다. (다시 고르기 전)
+     */
+    int deleteByUserAndDate(@Param("userId") Long userId, @Param("pickDate") LocalDate pickDate);
+
+    /**
+     * 보관 기간이 지난 행을 삭제합니다.
+     *
+     * @param before 이 날짜보다 이전 행 삭제
+     * @return 삭제된 행 수
+     */
+    int deleteBefore(@Param("before") LocalDate before);
+}
@@ -0,0 +1,50 @@
+package com.adam9e96.wordlol.repository.mybatis;
+
+import com.adam9e96.wordlol.support.stats.DailyStatDelta;
+import com.adam9e96.wordlol.support.stats.DailyWordKey;
+import com.adam9e96.wordlol.support.stats.DashboardStats;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일일 학습 통계(user_daily_stats, user_daily_word) 매퍼
+ */
+@Mapper
+public interface DailyStatsMapper {
+
+    /**
+     * 학습한 단어를 기록합니다. 같은 날 이미 기록된 단어는 무시합니다.
+     */
+    int insertDailyWords(@Param("words") List<DailyWordKey> words);
+
+    /**
+     * 답 수와 정답 수를 더합니다. 해당 날짜의 행이 없으면 새로 만듭니다.
+     */
+    int upsertStats(@Param("deltas") List<DailyStatDelta> deltas);
+
+    /**
+     * 주어진 (사용자, 날짜) 행의 서로 다른 단어 수를 user_daily_word 기준으로 다시 계산합니다.
+     */
+    int refreshWordCounts(@Param("deltas") List<DailyStatDelta> deltas);
+
+    /**
+     * 대시보드용 합계를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param today  오늘 날짜
+     * @return 통계 합계 (행이 없으면 0)
+     */
+    DashboardStats findDashboardStats(@Param("userId") Long userId, @Param("today") LocalDate today);
+
+    // study_history 에서 다시 만들기 (userId 가 null 이면 전체)
+    int deleteDailyWords(@Param("userId") Long userId);
+
+    int rebuildDailyWords(@Param("userId") Long userId);
+
+    int deleteDailyStats(@Param("userId") Long userId);
+
+    int rebuildDailyStats(@Param("userId") Long userId);
+}
@@ -0,0 +1,18 @@
+package com.adam9e96.wordlol.repository.mybatis;
+
+import com.adam9e96.wordlol.support.history.StudyRecord;
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+
+@Mapper
+public interface StudyHistoryMapper {
+
+    /**
+     * 학습 기록을 다중 행 INSERT 한 번으로 저장합니다.
+     *
+     * @param records 저장할 학습 기록 목록
+     * @return 저장된 행 수
+     */
+    int batchInsert(List<StudyRecord> records);
+}
@@ -1,12 +1,13 @@
 package com.adam9e96.wordlol.repository.mybatis;
 
 import com.adam9e96.wordlol.entity.Word;
+import com.adam9e96.wordlol.enums.Category;
+import com.adam9e96.wordlol.support.count.UserWordCount;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.parameters.P;
 
-import javax.swing.text.html.Option;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,18 +26,65 @@ public interface WordMapper {
 
     Optional<Word> findWordByHint(Long id);
 
-    List<Word> findRandom5Words();
+    /**
+     * 사용자의 모든 단어 ID를 오름차순으로 조회합니다. (랜덤 샘플러용)
+     *
+     * @param userId 사용자 ID
+     * @return 단어 ID 목록
+     */
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    Long findMinId();
+
+    Long findMaxId();
+
+    List<Long> findExistingIds(@Param("ids") List<Long> ids);
+
+    /**
+     * ID 목록에 해당하는 단어를 조회합니다.
+     *
+     * @param userId 소유자 ID (null 이면 소유자 조건 없음)
+     * @param ids    단어 ID 목록
+     * @return 단어 목록 (ID 순서는 보장하지 않음)
+     */
+    List<Word> findByIds(@Param("userId") Long userId, @Param("ids") List<Long> ids);
+
+    /**
+     * 검색 인덱스 구성을 위해 단어를 한 건씩 스트리밍합니다.
+     *
+     * @param userId  소유자 ID (null 이면 전체)
+     * @param afterId 이 ID 이후의 단어만 조회 (null 이면 처음부터)
+     * @param handler 단어를 받을 핸들러 (Word.user 에는 ID 만 채워짐)
+     */
+    void scanForIndex(@Param("userId") Long userId, @Param("afterId") Long afterId, ResultHandler<Word> handler);
+
+    /**
+     * 내보내기를 위해 사용자 단어를 ID 오름차순으로 한 구간씩 조회합니다.
+     * 구간마다 짧은 쿼리 한 번이므로 응답을 쓰는 동안 커넥션을 붙잡지 않습니다.
+     *
+     * @param userId     사용자 ID
+     * @param wordBookId 단어장 ID (null 이면 모든 단어)
+     * @param category   단어장 카테고리 (null 이면 모든 카테고리)
+     * @param afterId    이 ID 이후의 단어만 조회 (null 이면 처음부터)
+     * @param limit      조회할 최대 단어 수
+     * @return 단어 목록
+     */
+    List<Word> findChunkForExport(@Param("userId") Long userId, @Param("wordBookId") Long wordBookId,
+                                  @Param("category") Category category, @Param("afterId") Long afterId,
+                                  @Param("limit") int limit);
 
     int countAll();
 
     List<Word> findRecent5Words();
 
-    void deleteById(Long id);
+    List<Word> findRecent5WordsByUserId(@Param("userId") Long userId);
 
-    List<Word> findRandomWordsByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+    void deleteById(Long id);
 
     List<Word> findAllByWordBookId(Long wordBookId);
 
+    List<Long> findIdsByWordBookId(@Param("wordBookId") Long wordBookId);
+
     List<Word> findAllWithPaging(Pageable pageable);
 
     List<Word> searchWords(
@@ -58,13 +106,63 @@ public interface WordMapper {
             @Param("userId") Long userId
     );
 
+    /**
+     * 단어를 다중 행 INSERT 한 번으로 저장합니다. (Word.wordBook 이 있으면 단어장에 연결)
+     */
     void batchSave(List<Word> words);
 
+    /**
+     * 단어장의 단어 여러 개를 UPDATE 한 번으로 수정합니다. (CASE 식으로 행마다 다른 값 적용)
+     *
+     * @param wordBookId 단어장 ID (다른 단어장의 단어는 수정하지 않음)
+     * @param words      수정할 단어 (ID 와 새 내용)
+     * @return 수정된 행 수
+     */
+    int batchUpdateInWordBook(@Param("wordBookId") Long wordBookId, @Param("words") List<Word> words);
+
+    /**
+     * 단어장의 단어 여러 개를 DELETE 한 번으로 삭제합니다.
+     *
+     * @param wordBookId 단어장 ID (다른 단어장의 단어는 삭제하지 않음)
+     * @param ids        삭제할 단어 ID
+     * @return 삭제된 행 수
+     */
+    int deleteByIdsInWordBook(@Param("wordBookId") Long wordBookId, @Param("ids") List<Long> ids);
+
+    /**
+     * 사용자가 이미 가진 단어를 대소문자 구분 없이 찾습니다.
+     *
+     * @param userId       사용자 ID
+     * @param vocabularies 확인할 단어 목록 (소문자)
+     * @return 이미 존재하는 단어 목록 (소문자)
+     */
+    List<String> findExistingVocabularies(@Param("userId") Long userId, @Param("vocabularies") List<String> vocabularies);
+
     long countByUser(@Param("userId") Long userId);
 
-    Word findRandomWordByUserId(@Param("userId") Long userId);
+    /**
+     * 여러 사용자의 단어 수를 한 번에 집계합니다. 단어가 없는 사용자는 결과에 포함되지 않습니다.
+     */
+    List<UserWordCount> countByUserIds(@Param("userIds") List<Long> userIds);
 
     List<Word> findByUserWithPaging(@Param("userId") Long userId, @Param("pageable") Pageable pageable);
 
+    /**
+     * 커서 기반으로 사용자 단어를 ID 내림차순 조회합니다.
+     *
+     * @param userId  사용자 ID
+     * @param afterId 이전 페이지의 마지막 단어 ID (null 이면 처음부터)
+     * @param limit   조회할 최대 개수
+     * @return 단어 목록
+     */
+    List<Word> findByUserAfterId(@Param("userId") Long userId, @Param("afterId") Long afterId, @Param("limit") int limit);
+
+    List<Word> searchWordsAfterId(
+            @Param("keyword") String keyword,
+            @Param("userId") Long userId,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
     List<Word> findByWordBookId(@Param("wordBookId") Long wordBookId, @Param("userId") Long userId);
 }
@@ -1,5 +1,6 @@
 package com.adam9e96.wordlol.service.impl;
 
+import com.adam9e96.wordlol.common.CurrentUserProvider;
 import com.adam9e96.wordlol.dto.common.OAuthAttributes;
 import com.adam9e96.wordlol.entity.User;
 import com.adam9e96.wordlol.repository.jpa.UserRepository;
@@ -25,6 +26,7 @@ import java.util.Collections;
 @Service
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
     private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     /**
      * OAuth2 로그인 사용자 정보를 로드하는 메소드
@@ -74,6 +76,9 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
                 .map(entity -> entity.update(attributes.name(), attributes.picture()))
                 .orElse(attributes.toEntity());
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        // 이름, 프로필 사진이 바뀌었을 수 있으므로 사용자 캐시 제거
+        currentUserProvider.evict(savedUser);
+        return savedUser;
     }
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.adam9e96.wordlol.service.impl;
 
+import com.adam9e96.wordlol.common.CurrentUserProvider;
 import com.adam9e96.wordlol.dto.response.DashBoardResponse;
 import com.adam9e96.wordlol.entity.Word;
 import com.adam9e96.wordlol.repository.mybatis.WordMapper;
 import com.adam9e96.wordlol.service.interfaces.DashboardService;
+import com.adam9e96.wordlol.service.interfaces.StudyProgressService;
+import com.adam9e96.wordlol.support.count.UserWordCounter;
+import com.adam9e96.wordlol.support.stats.DailyStatsRollup;
+import com.adam9e96.wordlol.support.stats.DashboardStats;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,19 +19,27 @@ import java.util.List;
 public class DashboardServiceImpl implements DashboardService {
 
     private final WordMapper wordMapper;
+    private final CurrentUserProvider currentUserProvider;
+    private final UserWordCounter userWordCounter;
+    private final DailyStatsRollup dailyStatsRollup;
+    private final StudyProgressService studyProgressService;
 
     public DashBoardResponse getDashboardData() {
-        // 전체 단어 수 조회
-        int totalWords = wordMapper.countAll();
+        Long userId = currentUserProvider.getCurrentUserId();
+
+        // 전체 단어 수 조회 (메모리 카운터)
+        int totalWords = (int) userWordCounter.count(userId);
 
         // 최근에 추가된 단어 5개 조회
-        List<Word> recent5Words = wordMapper.findRecent5Words();
+        List<Word> recent5Words = wordMapper.findRecent5WordsByUserId(userId);
 
+        // 일일 통계 합계 (사용자의 일일 통계 행만 읽음)
+        DashboardStats stats = dailyStatsRollup.getDashboardStats(userId);
+        int todayStudiedWords = stats.todayWords();
+        double correctRate = stats.correctRate();
 
-        // TODO : 추구 구현할 기능
-        int todayStudiedWords = 0; // 학습 이력 테이블 구현 후 개발 구현
-        int currentStreak = 0; // g현재 perfectRun 값 가져오기
-        double correctRate = 0.0; // 정답률 계산 로직 구현 필요
+        // 현재 연속 정답 수 (메모리 카운터)
+        int currentStreak = studyProgressService.getCurrentPerfectRun(userId);
 
         return new DashBoardResponse(
                 totalWords,
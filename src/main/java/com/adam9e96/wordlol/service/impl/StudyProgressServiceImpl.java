@@ -3,39 +3,174 @@ package com.adam9e96.wordlol.service.impl;
 import com.adam9e96.wordlol.entity.UserStudyProgress;
 import com.adam9e96.wordlol.repository.jpa.UserStudyProgressRepository;
 import com.adam9e96.wordlol.service.interfaces.StudyProgressService;
-import lombok.AllArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * 사용자 ID 기준 연속 정답 수 관리
+ * <p>
+ * 카운터는 ConcurrentHashMap 에 보관하고 키 단위 잠금(compute)으로 갱신하므로
+ * 정답 확인과 스트릭 조회는 DB 를 거치지 않습니다.
+ * 처음 접근한 사용자는 맵 잠금 밖에서 DB 의 마지막 스냅샷으로 복원하고,
+ * 변경된 카운터는 주기적으로, 그리고 종료 시 한 번에 저장합니다.
+ */
+@Slf4j
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class StudyProgressServiceImpl implements StudyProgressService {
+    // 변경 없이 이 시간이 지난 카운터는 저장 후 메모리에서 제거
+    private static final Duration IDLE_EVICTION = Duration.ofMinutes(30);
+
     private final UserStudyProgressRepository progressRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, Progress> progresses = new ConcurrentHashMap<>();
 
     @Override
-    public int incrementPerfectRun(String sessionId) {
-        UserStudyProgress progress = progressRepository.findBySessionId(sessionId)
-                .orElse(new UserStudyProgress(null, sessionId, 0, LocalDateTime.now()));
+    public int incrementPerfectRun(Long userId) {
+        return update(userId, progress -> progress.set(progress.perfectRun + 1));
+    }
 
-        progress.update(sessionId, progress.getPerfectRun() + 1, LocalDateTime.now());
-        progressRepository.save(progress);
-        return progress.getPerfectRun();
+    @Override
+    public void resetPerfectRun(Long userId) {
+        update(userId, progress -> progress.set(0));
     }
 
     @Override
-    public void resetPerfectRun(String sessionId) {
-        UserStudyProgress progress = progressRepository.findBySessionId(sessionId)
-                .orElse(new UserStudyProgress(null, sessionId, 0, LocalDateTime.now()));
+    public int getCurrentPerfectRun(Long userId) {
+        Progress progress = progresses.get(userId);
+        if (progress == null) {
+            Progress loaded = load(userId);
+            progress = Objects.requireNonNullElse(progresses.putIfAbsent(userId, loaded), loaded);
+        }
+        return progress.perfectRun;
+    }
 
-        progress.update(sessionId, 0, LocalDateTime.now());
-        progressRepository.save(progress);
+    /**
+     * 카운터를 갱신하고 갱신 직후의 값을 반환합니다.
+     * DB 복원은 맵 잠금 밖에서 하고, compute 안에서는 메모리 작업만 합니다.
+     * (잠금을 쥔 채 JDBC 를 기다리면 같은 버킷의 다른 사용자와 가상 스레드의 캐리어까지 막힘)
+     */
+    private int update(Long userId, Consumer<Progress> change) {
+        int[] result = new int[1];
+        while (true) {
+            if (!progresses.containsKey(userId)) {
+                // 동시에 복원한 경우 먼저 넣은 쪽을 사용
+                progresses.putIfAbsent(userId, load(userId));
+            }
+            // 그 사이 유휴 카운터 제거와 겹치면 null 이 되므로 다시 복원
+            Progress updated = progresses.computeIfPresent(userId, (id, progress) -> {
+                change.accept(progress);
+                result[0] = progress.perfectRun;
+                return progress;
+            });
+            if (updated != null) {
+                return result[0];
+            }
+        }
     }
 
-    @Override
-    public int getCurrentPerfectRun(String sessionId) {
-        return progressRepository.findBySessionId(sessionId)
-                .map(UserStudyProgress::getPerfectRun)
-                .orElse(0);
+    /**
+     * 변경된 카운터를 DB 에 저장하고, 오래 사용되지 않은 카운터를 메모리에서 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${study.progress.flush-interval-ms:30000}")
+    public void flush() {
+        // 1. 변경된 카운터의 스냅샷 수집
+        Map<Long, Snapshot> snapshots = new HashMap<>();
+        progresses.forEach((userId, progress) -> {
+            if (progress.dirty.compareAndSet(true, false)) {
+                snapshots.put(userId, new Snapshot(progress.perfectRun, progress.lastStudyDate));
+            }
+        });
+
+        // 2. 한 트랜잭션에서 일괄 저장 (실패 시 다음 주기에 다시 저장)
+        if (!snapshots.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> save(snapshots));
+                log.debug("연속 정답 수 {}건 저장", snapshots.size());
+            } catch (Exception e) {
+                snapshots.keySet().forEach(userId -> {
+                    Progress progress = progresses.get(userId);
+                    if (progress != null) {
+                        progress.dirty.set(true);
+                    }
+                });
+                log.error("연속 정답 수 저장 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }
+
+        // 3. 저장이 끝난 유휴 카운터 제거
+        LocalDateTime idleBefore = LocalDateTime.now().minus(IDLE_EVICTION);
+        progresses.keySet().forEach(userId -> progresses.computeIfPresent(userId, (id, progress) ->
+                !progress.dirty.get() && progress.lastAccess.isBefore(idleBefore) ? null : progress));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void save(Map<Long, Snapshot> snapshots) {
+        Map<Long, UserStudyProgress> existing = progressRepository.findByUserIdIn(snapshots.keySet()).stream()
+                .collect(Collectors.toMap(UserStudyProgress::getUserId, Function.identity()));
+
+        List<UserStudyProgress> toSave = snapshots.entrySet().stream()
+                .map(entry -> {
+                    Snapshot snapshot = entry.getValue();
+                    UserStudyProgress row = existing.get(entry.getKey());
+                    if (row == null) {
+                        return UserStudyProgress.forUser(entry.getKey(), snapshot.perfectRun(), snapshot.lastStudyDate());
+                    }
+                    row.update(snapshot.perfectRun(), snapshot.lastStudyDate());
+                    return row;
+                })
+                .toList();
+        progressRepository.saveAll(toSave);
+    }
+
+    // DB 의 마지막 스냅샷으로 카운터 복원
+    private Progress load(Long userId) {
+        return progressRepository.findByUserId(userId)
+                .map(row -> new Progress(row.getPerfectRun(), row.getLastStudyDate()))
+                .orElseGet(() -> new Progress(0, null));
+    }
+
+    private record Snapshot(int perfectRun, LocalDateTime lastStudyDate) {
+    }
+
+    // 사용자 한 명의 카운터 (갱신은 ConcurrentHashMap.compute 안에서만 일어남)
+    private static final class Progress {
+        private volatile int perfectRun;
+        private volatile LocalDateTime lastStudyDate;
+        private volatile LocalDateTime lastAccess = LocalDateTime.now();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+
+        private Progress(int perfectRun, LocalDateTime lastStudyDate) {
+            this.perfectRun = perfectRun;
+            this.lastStudyDate = lastStudyDate;
+        }
+
+        private void set(int perfectRun) {
+            LocalDateTime now = LocalDateTime.now();
+            this.perfectRun = perfectRun;
+            this.lastStudyDate = now;
+            this.lastAccess = now;
+            dirty.set(true);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.adam9e96.wordlol.service.impl;
 
+import com.adam9e96.wordlol.common.CurrentUserProvider;
 import com.adam9e96.wordlol.dto.request.WordBookRequest;
 import com.adam9e96.wordlol.dto.request.WordRequest;
 import com.adam9e96.wordlol.dto.response.*;
@@ -7,29 +8,38 @@ import com.adam9e96.wordlol.entity.User;
 import com.adam9e96.wordlol.entity.Word;
 import com.adam9e96.wordlol.entity.WordBook;
 import com.adam9e96.wordlol.enums.Category;
+import com.adam9e96.wordlol.event.WordBookChangedEvent;
+import com.adam9e96.wordlol.event.WordChangedEvent;
 import com.adam9e96.wordlol.exception.validation.ValidationException;
 import com.adam9e96.wordlol.exception.wordbook.*;
 import com.adam9e96.wordlol.mapper.entity.WordBookEntityMapper;
 import com.adam9e96.wordlol.mapper.entity.WordEntityMapper;
-import com.adam9e96.wordlol.repository.jpa.UserRepository;
 import com.adam9e96.wordlol.repository.jpa.WordBookRepository;
 import com.adam9e96.wordlol.repository.jpa.WordRepository;
-import com.adam9e96.wordlol.repository.mybatis.WordBookMapper;
 import com.adam9e96.wordlol.repository.mybatis.WordMapper;
 import com.adam9e96.wordlol.service.interfaces.WordBookService;
+import com.adam9e96.wordlol.support.exporter.WordExportFormat;
+import com.adam9e96.wordlol.support.exporter.WordExporter;
+import com.adam9e96.wordlol.support.importer.WordImportProperties;
+import com.adam9e96.wordlol.support.study.StudyDeck;
+import com.adam9e96.wordlol.support.study.StudyDeckProperties;
+import com.adam9e96.wordlol.support.study.StudyDeckStore;
+import com.adam9e96.wordlol.support.wordbook.WordBookWordDiff;
 import com.adam9e96.wordlol.validator.WordBookValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,11 +50,15 @@ public class WordBookServiceImpl implements WordBookService {
     private final WordBookRepository wordBookRepository;
     private final WordRepository wordRepository;
     private final WordMapper wordMapper;
-    private final WordBookMapper wordBookMapper;
     private final WordBookValidator wordBookValidator;
     private final WordBookEntityMapper wordBookEntityMapper;
     private final WordEntityMapper wordEntityMapper;
-    private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WordExporter wordExporter;
+    private final WordImportProperties wordImportProperties;
+    private final StudyDeckStore studyDeckStore;
+    private final StudyDeckProperties studyDeckProperties;
 
     @Transactional
     @Override
@@ -93,6 +107,11 @@ public class WordBookServiceImpl implements WordBookService {
             WordBook savedWordBook = wordBookRepository.save(wordBook);
             log.info("단어장 생성 완료: ID={}, 이름={}", savedWordBook.getId(), savedWordBook.getName());
 
+            // 단어 ID 는 persist 시점에 할당되므로 바로 전달 가능 (커밋 후 반영됨)
+            eventPublisher.publishEvent(WordChangedEvent.created(currentUser.getId(),
+                    savedWordBook.getWords().stream().map(Word::getId).toList()));
+            eventPublisher.publishEvent(new WordBookChangedEvent(currentUser.getId(), savedWordBook.getId()));
+
             // 응답 생성
             return wordBookEntityMapper.toResponse(savedWordBook);
         } catch (DataIntegrityViolationException e) {
@@ -121,8 +140,7 @@ public class WordBookServiceImpl implements WordBookService {
     public List<WordResponse> findWordsByWordBookId(Long wordBookId) {
         try {
             // 현재 인증된 사용자 가져오기
-            User currentUser = getCurrentAuthenticatedUser();
-            Long userId = currentUser.getId();
+            Long userId = currentUserProvider.getCurrentUserId();
 
             // 단어장 존재 여부 확인 (사용자 권한 체크를 위해 조회)
             WordBook wordBook = wordBookRepository.findById(wordBookId)
@@ -163,19 +181,16 @@ public class WordBookServiceImpl implements WordBookService {
             throw new IllegalArgumentException("카테고리 값은 null일 수 없습니다");
         }
         try {
-            User currentUser = getCurrentAuthenticatedUser();
-            Long userId = currentUser.getId();
+            Long userId = currentUserProvider.getCurrentUserId();
 
-            // 현재 사용자의 특정 카테고리 단어장 목록 조회
-            List<WordBook> wordBooks = wordBookMapper.findByCategory(category, userId);
+            // 현재 사용자의 특정 카테고리 단어장 목록 조회 (단어 수는 GROUP BY 로 함께 집계)
+            List<WordBookResponse> wordBooks = wordBookRepository.findResponsesByUserIdAndCategory(userId, category);
 
             if (wordBooks.isEmpty()) {
                 log.info("사용자 ID {}의 카테고리 '{}'에 해당하는 단어장이 없습니다", userId, category);
                 throw new WordBookNotFoundException(category);
             }
-            return wordBooks.stream()
-                    .map(wordBookEntityMapper::toResponse)
-                    .toList();
+            return wordBooks;
         } catch (WordBookNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -194,18 +209,16 @@ public class WordBookServiceImpl implements WordBookService {
     @Override
     public List<WordBookListResponse> findAllWordBookList() {
         try {
-            User currentUser = getCurrentAuthenticatedUser();
-            Long userId = currentUser.getId();
+            Long userId = currentUserProvider.getCurrentUserId();
 
-            List<WordBook> wordBooks = wordBookRepository.findByUser(currentUser);
+            // 단어 수까지 집계 쿼리 한 번으로 조회 (단어장별 words 컬렉션을 초기화하지 않음)
+            List<WordBookListResponse> wordBooks = wordBookRepository.findListByUserId(userId);
 
             if (wordBooks.isEmpty()) {
                 log.info("사용자 ID {}의 등록된 단어장이 없습니다", userId);
                 throw new WordBookEmptyException();
             }
-            return wordBooks.stream()
-                    .map(wordBookEntityMapper::toListDto)
-                    .toList();
+            return wordBooks;
         } catch (WordBookEmptyException e) {
             throw e;
         } catch (Exception e) {
@@ -230,24 +243,20 @@ public class WordBookServiceImpl implements WordBookService {
         }
 
         try {
-            // 현재 인증된 사용자 가져오기
-            User currentUser = getCurrentAuthenticatedUser();
+            Long userId = currentUserProvider.getCurrentUserId();
 
-            log.debug("카테고리 '{}', 사용자 ID {}의 단어 조회 시작", category, currentUser.getId());
+            log.debug("카테고리 '{}', 사용자 ID {}의 단어 조회 시작", category, userId);
 
-            // 현재 사용자의 단어장 중 특정 카테고리에 해당하는 단어 조회
-            List<Word> words = wordRepository.findByWordBookCategoryAndWordBookUser(category, currentUser);
+            // 현재 사용자의 단어장 중 특정 카테고리에 해당하는 단어를 WordResponse 로 바로 조회 (엔티티 미생성)
+            List<WordResponse> words = wordRepository.findResponsesByCategoryAndUserId(category, userId);
 
             if (words.isEmpty()) {
-                log.info("사용자 ID {}의 카테고리 '{}'에 해당하는 단어가 없습니다", currentUser.getId(), category);
+                log.info("사용자 ID {}의 카테고리 '{}'에 해당하는 단어가 없습니다", userId, category);
                 return Collections.emptyList();
             }
 
-            log.debug("카테고리 '{}', 사용자 ID {}의 단어 {}개 조회 완료",
-                    category, currentUser.getId(), words.size());
-
-            // 단어 목록을 DTO로 변환하여 반환
-            return wordEntityMapper.toDtoList(words);
+            log.debug("카테고리 '{}', 사용자 ID {}의 단어 {}개 조회 완료", category, userId, words.size());
+            return words;
         } catch (Exception e) {
             log.error("카테고리 '{}'의 단어 목록 조회 중 오류 발생: {}", category, e.getMessage(), e);
             return Collections.emptyList(); // 오류 발생 시 빈 목록 반환
@@ -277,8 +286,7 @@ public class WordBookServiceImpl implements WordBookService {
      */
     @Override
     public List<WordBookStudyResponse> findWordBookStudyData(Long wordBookId) {
-        User currentUser = getCurrentAuthenticatedUser();
-        Long userId = currentUser.getId();
+        Long userId = currentUserProvider.getCurrentUserId();
 
         // 소유권 확인을 위해 단어장 가져오기
         WordBook wordBook = wordBookRepository.findById(wordBookId)
@@ -302,13 +310,109 @@ public class WordBookServiceImpl implements WordBookService {
                 .toList();
     }
 
+    /**
+     * 단어장 학습 세션을 시작합니다.
+     * 단어는 ID 만 조회해 섞어 두고, 카드 내용은 페이지를 요청할 때 조회합니다.
+     *
+     * @param wordBookId 단어장 ID
+     * @param pageSize   첫 페이지의 카드 수
+     * @return 첫 페이지
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public StudySessionResponse startStudySession(Long wordBookId, Integer pageSize) {
+        Long userId = currentUserProvider.getCurrentUserId();
+
+        WordBook wordBook = wordBookRepository.findById(wordBookId)
+                .orElseThrow(() -> {
+                    log.debug("단어장이 존재하지 않습니다. wordBookId: {}", wordBookId);
+                    return new WordBookNotFoundException(wordBookId);
+                });
+        validateUserAccess(wordBook, userId, wordBookId);
+
+        List<Long> wordIds = wordMapper.findIdsByWordBookId(wordBookId);
+        if (wordIds.isEmpty()) {
+            log.debug("단어장에 단어가 없습니다. wordBookId: {}", wordBookId);
+            throw new WordBookEmptyException(wordBookId);
+        }
+
+        StudyDeck deck = studyDeckStore.create(userId, wordBookId, wordIds);
+        log.debug("학습 세션 시작: 단어장={}, 세션={}, 카드={}", wordBookId, deck.getSessionId(), deck.size());
+        return toStudySessionResponse(userId, deck, 0, pageSize);
+    }
+
+    /**
+     * 학습 세션의 카드를 조회합니다.
+     * 세션을 만든 뒤 삭제된 단어는 건너뛰며, 카드의 position 은 덱 안의 위치 그대로입니다.
+     *
+     * @param wordBookId 단어장 ID
+     * @param sessionId  세션 ID
+     * @param offset     시작 위치 (null 이면 마지막 학습 위치)
+     * @param limit      카드 수
+     * @param position   현재 학습 위치
+     * @return 요청한 구간의 카드
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public StudySessionResponse findStudySessionCards(Long wordBookId, String sessionId,
+                                                      Integer offset, Integer limit, Integer position) {
+        Long userId = currentUserProvider.getCurrentUserId();
+
+        StudyDeck deck = studyDeckStore.find(userId, sessionId)
+                .filter(found -> found.getWordBookId().equals(wordBookId))
+                .orElseThrow(() -> new StudySessionNotFoundException(sessionId));
+
+        if (position != null) {
+            deck.setPosition(position);
+        }
+        int start = offset != null ? offset : deck.getPosition();
+        if (start < 0 || start > deck.size()) {
+            throw new ValidationException("offset 은 0 이상 " + deck.size() + " 이하여야 합니다.");
+        }
+        return toStudySessionResponse(userId, deck, start, limit);
+    }
+
+    private StudySessionResponse toStudySessionResponse(Long userId, StudyDeck deck, int offset, Integer limit) {
+        int pageSize = limit == null || limit <= 0
+                ? studyDeckProperties.getPageSize()
+                : Math.min(limit, studyDeckProperties.getMaxPageSize());
+
+        List<Long> ids = deck.slice(offset, pageSize);
+        Map<Long, Word> words = ids.isEmpty()
+                ? Map.of()
+                : wordMapper.findByIds(userId, ids).stream()
+                .collect(Collectors.toMap(Word::getId, Function.identity()));
+
+        List<StudyCardResponse> cards = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Word word = words.get(ids.get(i));
+            if (word == null) {
+                // 세션을 만든 뒤 삭제된 단어
+                continue;
+            }
+            cards.add(new StudyCardResponse(offset + i, word.getId(), word.getVocabulary(), word.getMeaning(),
+                    word.getHint(), word.getDifficulty()));
+        }
+
+        int end = offset + ids.size();
+        boolean last = end >= deck.size();
+        return new StudySessionResponse(
+                deck.getSessionId(),
+                deck.getWordBookId(),
+                deck.size(),
+                offset,
+                deck.getPosition(),
+                cards,
+                last ? null : end,
+                last ? null : Math.max(offset, end - studyDeckProperties.getPrefetchDistance()));
+    }
+
     @Transactional
     @Override
-    public WordBookResponse updateWordBookById(Long id, WordBookRequest request) {
+    public WordBookUpdateResponse updateWordBookById(Long id, WordBookRequest request) {
         wordBookValidator.validateUpdate(request, id);
 
-        User currentUser = getCurrentAuthenticatedUser();
-        Long userId = currentUser.getId();
+        Long userId = currentUserProvider.getCurrentUserId();
 
         // 기존 단어장 조회
         WordBook wordBook = wordBookRepository.findById(id)
@@ -319,23 +423,45 @@ public class WordBookServiceImpl implements WordBookService {
 
         validateUserAccess(wordBook, userId, id);
 
+        // 단어 목록이 없으면 단어는 그대로 두고 단어장 정보만 수정
+        List<Word> existingWords = wordMapper.findAllByWordBookId(id);
+        WordBookWordDiff diff = request.words() == null || request.words().isEmpty()
+                ? new WordBookWordDiff(List.of(), List.of(), List.of(), existingWords.size())
+                : WordBookWordDiff.compute(wordBook, getCurrentAuthenticatedUser(), existingWords, request.words());
+
         try {
             wordBook.update(
                     request.name(),
                     request.description(),
                     request.category()
             );
-
-            updateWordBookWords(wordBook, request.words());
-            WordBook savedWordBook = wordBookRepository.save(wordBook);
-            return wordBookEntityMapper.toResponse(savedWordBook);
+            // 수정 시각 반영 (words 컬렉션은 초기화하지 않음)
+            wordBookRepository.flush();
+
+            applyWordDiff(userId, id, diff);
+            // 단어가 그대로여도 단어장 정보는 바뀌었으므로 항상 발행
+            eventPublisher.publishEvent(new WordBookChangedEvent(userId, id));
+            log.info("단어장 수정 완료 - id: {}, 유지: {}, 수정: {}, 추가: {}, 삭제: {}",
+                    id, diff.unchanged(), diff.modified().size(), diff.added().size(), diff.removedIds().size());
+
+            return new WordBookUpdateResponse(
+                    wordBook.getId(),
+                    wordBook.getName(),
+                    wordBook.getDescription(),
+                    wordBook.getCategory(),
+                    diff.wordCount(),
+                    diff.unchanged(),
+                    diff.modified().size(),
+                    diff.added().size(),
+                    diff.removedIds().size(),
+                    wordBook.getCreatedAt(),
+                    wordBook.getUpdatedAt());
         } catch (Exception e) {
             log.error("단어장 수정 중 오류 발생 - id: {}", id, e);
             throw new WordBookUpdateException();
         }
     }
 
-
     /**
      * 단어장을 삭제합니다.
      * 현재 인증된 사용자의 단어장만 삭제할 수 있습니다.
@@ -349,8 +475,7 @@ public class WordBookServiceImpl implements WordBookService {
     @Transactional
     public void deleteWordBookById(Long id) {
         try {
-            User currentUser = getCurrentAuthenticatedUser();
-            Long userId = currentUser.getId();
+            Long userId = currentUserProvider.getCurrentUserId();
 
             // 단어장 조회
             WordBook wordBook = wordBookRepository.findById(id)
@@ -365,8 +490,13 @@ public class WordBookServiceImpl implements WordBookService {
                 throw new AccessDeniedException("해당 단어장을 삭제할 권한이 없습니다");
             }
 
+            // 삭제될 단어 ID 목록 (cascade 로 함께 삭제됨)
+            List<Long> wordIds = wordBook.getWords().stream().map(Word::getId).toList();
+
             // 단어장 및 연관된 단어 삭제 (cascade 설정에 따라 자동 처리)
             wordBookRepository.delete(wordBook);
+            eventPublisher.publishEvent(WordChangedEvent.deleted(userId, wordIds));
+            eventPublisher.publishEvent(new WordBookChangedEvent(userId, id));
 
             log.info("단어장 삭제 완료 - id: {}, 단어장 이름: {}, 단어 수: {}",
                     id, wordBook.getName(), wordBook.getWords().size());
@@ -378,59 +508,59 @@ public class WordBookServiceImpl implements WordBookService {
         }
     }
 
-    private void updateWordBookWords(WordBook wordBook, List<WordRequest> wordRequests) {
-        if (wordRequests == null || wordRequests.isEmpty()) {
-            return;
+    /**
+     * 바뀐 단어만 청크 단위의 다중 행 UPDATE / INSERT / DELETE 로 반영하고 변경 이벤트를 발행합니다.
+     */
+    private void applyWordDiff(Long userId, Long wordBookId, WordBookWordDiff diff) {
+        int chunkSize = wordImportProperties.getChunkSize();
+
+        List<Word> modified = diff.modified();
+        for (int from = 0; from < modified.size(); from += chunkSize) {
+            wordMapper.batchUpdateInWordBook(wordBookId, modified.subList(from, Math.min(from + chunkSize, modified.size())));
+        }
+        List<Word> added = diff.added();
+        for (int from = 0; from < added.size(); from += chunkSize) {
+            wordMapper.batchSave(added.subList(from, Math.min(from + chunkSize, added.size())));
+        }
+        List<Long> removedIds = diff.removedIds();
+        for (int from = 0; from < removedIds.size(); from += chunkSize) {
+            wordMapper.deleteByIdsInWordBook(wordBookId, removedIds.subList(from, Math.min(from + chunkSize, removedIds.size())));
         }
 
-        // 현재 인증된 사용자 가져오기 (단어 생성에 필요)
-        User currentUser = getCurrentAuthenticatedUser();
-
-        // 기존 단어들을 Map으로 변환 (ID로 빠른 조회를 위해)
-        Map<Long, Word> existingWords = wordBook.getWords().stream()
-                .collect(Collectors.toMap(Word::getId, word -> word));
-
-        // 새로운 단어 목록
-        List<Word> updatedWords = new ArrayList<>();
-
-        // 요청받은 단어들 처리
-        for (WordRequest wordRequest : wordRequests) {
-            if (wordRequest.id() != null && existingWords.containsKey(wordRequest.id())) {
-                // 기존 단어 업데이트 - 새 Word 객체를 생성하여 업데이트
-                Word existingWord = existingWords.get(wordRequest.id());
-                Word updatedWord = Word.builder()
-                        .id(existingWord.getId())
-                        .vocabulary(wordRequest.vocabulary())
-                        .meaning(wordRequest.meaning())
-                        .hint(wordRequest.hint())
-                        .difficulty(wordRequest.difficulty())
-                        .wordBook(wordBook)  // 관계 유지
-                        .user(existingWord.getUser())
-                        .build();
-
-                updatedWords.add(updatedWord);
-            } else {
-                Word newWord = wordBook.createAndAddWord(
-                        wordRequest.vocabulary(),
-                        wordRequest.meaning(),
-                        wordRequest.hint(),
-                        wordRequest.difficulty(),
-                        currentUser
-                );
-
-                updatedWords.add(newWord);
-            }
+        if (!modified.isEmpty()) {
+            eventPublisher.publishEvent(WordChangedEvent.updated(userId, modified.stream().map(Word::getId).toList()));
+        }
+        if (!removedIds.isEmpty()) {
+            eventPublisher.publishEvent(WordChangedEvent.deleted(userId, removedIds));
         }
+        if (!added.isEmpty()) {
+            // 다중 행 INSERT 는 ID 를 돌려받지 않으므로 개수만 알림
+            eventPublisher.publishEvent(WordChangedEvent.created(userId, added.size()));
+        }
+    }
 
-        // 단어장의 단어 목록 갱신
-        wordBook.getWords().clear();
-        wordBook.getWords().addAll(updatedWords);
+    @Override
+    public StreamingResponseBody exportWords(Long wordBookId, WordExportFormat format, Long afterId) {
+        Long userId = currentUserProvider.getCurrentUserId();
+
+        // 소유권 확인은 요청 스레드에서 (본문은 비동기 스레드에서 작성됨)
+        WordBook wordBook = wordBookRepository.findById(wordBookId)
+                .orElseThrow(() -> new WordBookNotFoundException(wordBookId));
+        validateUserAccess(wordBook, userId, wordBookId);
+
+        return wordExporter.export(userId, wordBookId, afterId, format);
+    }
+
+    @Override
+    public StreamingResponseBody exportWordsByCategory(Category category, WordExportFormat format, Long afterId) {
+        // 사용자 ID 는 요청 스레드에서 확인 (본문은 비동기 스레드에서 작성됨)
+        Long userId = currentUserProvider.getCurrentUserId();
+        return wordExporter.exportByCategory(userId, category, afterId, format);
     }
 
+    // 연관관계 설정 및 조회 조건용 사용자 참조 (토큰의 사용자 ID 사용, 조회 쿼리 없음)
     private User getCurrentAuthenticatedUser() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다. : " + email));
+        return currentUserProvider.getCurrentUserReference();
     }
 
     private void validateUserAccess(WordBook wordBook, Long userId, Long wordBookId) {
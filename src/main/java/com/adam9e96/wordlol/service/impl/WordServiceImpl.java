@@ -1,40 +1,59 @@
 package com.adam9e96.wordlol.service.impl;
 
+import com.adam9e96.wordlol.common.CurrentUserProvider;
 import com.adam9e96.wordlol.common.constants.Constants;
+import com.adam9e96.wordlol.dto.common.CursorPageResponse;
 import com.adam9e96.wordlol.dto.common.PageResponse;
 import com.adam9e96.wordlol.dto.request.AnswerRequest;
 import com.adam9e96.wordlol.dto.request.WordRequest;
 import com.adam9e96.wordlol.dto.request.WordSearchRequest;
 import com.adam9e96.wordlol.dto.response.*;
-import com.adam9e96.wordlol.entity.StudyHistory;
 import com.adam9e96.wordlol.entity.User;
 import com.adam9e96.wordlol.entity.Word;
+import com.adam9e96.wordlol.event.WordChangedEvent;
 import com.adam9e96.wordlol.exception.validation.ValidationException;
 import com.adam9e96.wordlol.exception.word.WordCreationException;
 import com.adam9e96.wordlol.exception.word.WordDeletionException;
 import com.adam9e96.wordlol.exception.word.WordNotFoundException;
 import com.adam9e96.wordlol.mapper.entity.WordEntityMapper;
-import com.adam9e96.wordlol.repository.jpa.StudyHistoryRepository;
-import com.adam9e96.wordlol.repository.jpa.UserRepository;
 import com.adam9e96.wordlol.repository.jpa.WordRepository;
+import com.adam9e96.wordlol.repository.mybatis.DailyPickMapper;
 import com.adam9e96.wordlol.repository.mybatis.WordMapper;
 import com.adam9e96.wordlol.service.interfaces.StudyProgressService;
 import com.adam9e96.wordlol.service.interfaces.WordService;
+import com.adam9e96.wordlol.support.answer.AnswerMatcher;
+import com.adam9e96.wordlol.support.count.UserWordCounter;
+import com.adam9e96.wordlol.support.daily.DailyWordGenerator;
+import com.adam9e96.wordlol.support.exporter.WordExportFormat;
+import com.adam9e96.wordlol.support.exporter.WordExporter;
+import com.adam9e96.wordlol.support.history.StudyHistoryWriter;
+import com.adam9e96.wordlol.support.history.StudyRecord;
+import com.adam9e96.wordlol.support.importer.WordImportFormat;
+import com.adam9e96.wordlol.support.importer.WordImportProperties;
+import com.adam9e96.wordlol.support.importer.WordImportSummary;
+import com.adam9e96.wordlol.support.importer.WordImporter;
+import com.adam9e96.wordlol.support.random.WordIdSampler;
+import com.adam9e96.wordlol.support.search.SearchHits;
+import com.adam9e96.wordlol.support.search.WordSearchIndex;
+import com.adam9e96.wordlol.support.srs.SpacedRepetitionScheduler;
 import com.adam9e96.wordlol.validator.WordValidator;
-import jakarta.servlet.http.HttpSession;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -44,9 +63,20 @@ public class WordServiceImpl implements WordService {
     private final WordMapper wordMapper;
     private final WordValidator wordValidator;
     private final WordEntityMapper wordEntityMapper;
-    private final UserRepository userRepository;
-    private final StudyHistoryRepository studyHistoryRepository;
+    private final CurrentUserProvider currentUserProvider;
+    private final StudyHistoryWriter studyHistoryWriter;
     private final StudyProgressService studyProgressService;
+    private final WordIdSampler wordIdSampler;
+    private final UserWordCounter userWordCounter;
+    private final WordSearchIndex wordSearchIndex;
+    private final SpacedRepetitionScheduler spacedRepetitionScheduler;
+    private final WordImporter wordImporter;
+    private final WordExporter wordExporter;
+    private final AnswerMatcher answerMatcher;
+    private final WordImportProperties wordImportProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DailyPickMapper dailyPickMapper;
+    private final DailyWordGenerator dailyWordGenerator;
 
     /**
      * 단어를 생성하고 결과를 DTO 로 반환합니다.
@@ -61,14 +91,14 @@ public class WordServiceImpl implements WordService {
             // 1. 입력값 검증
             wordValidator.validate(request);
 
-            // 2. 중복 단어 검사
-            if (isDuplicateWord(request.vocabulary())) {
+            // 2. 현재 인증된 사용자 참조 (토큰의 사용자 ID 사용, 조회 쿼리 없음)
+            User currentUser = currentUserProvider.getCurrentUserReference();
+
+            // 3. 중복 단어 검사
+            if (isDuplicateWord(request.vocabulary(), currentUser)) {
                 throw new ValidationException(Constants.Validation.EXISTS_VOCABULARY_MESSAGE + request.vocabulary());
             }
 
-            // 3. 현재 인증된 사용자 정보 조회
-            User currentUser = getCurrentUser();
-
             // 4. 단어 엔티티 생성
             Word word = Word.builder()
                     .vocabulary(request.vocabulary())
@@ -80,6 +110,7 @@ public class WordServiceImpl implements WordService {
 
             // 5. 데이터베이스에 저장
             wordMapper.save(word);
+            eventPublisher.publishEvent(WordChangedEvent.created(currentUser.getId(), List.of(word.getId())));
 
             // 6. 응답 DTO 로 변환하여 반환
             return wordEntityMapper.toCreateDto(word);
@@ -96,40 +127,58 @@ public class WordServiceImpl implements WordService {
         if (requests == null || requests.isEmpty()) {
             return 0;
         }
-        int successCount = 0;
-        List<Word> wordsToSave = new ArrayList<>(requests.size());
         List<String> errors = new ArrayList<>();
 
-        // 1. 모든 요청에 대해 검증 실행
+        // 사용자 참조는 요청 전체에서 한 번만 가져옴
+        User currentUser = currentUserProvider.getCurrentUserReference();
+
+        // 1. 모든 요청에 대해 검증 실행 (요청 안의 중복은 소문자 단어 기준으로 제거)
+        Map<String, WordRequest> candidates = new LinkedHashMap<>();
         for (WordRequest request : requests) {
             try {
                 // 입력값 검증
                 wordValidator.validate(request);
 
-                // 중복 단어 검사
-                if (isDuplicateWord(request.vocabulary())) {
+                if (candidates.putIfAbsent(request.vocabulary().toLowerCase(Locale.ROOT), request) != null) {
+                    errors.add(Constants.Validation.EXISTS_VOCABULARY_MESSAGE + request.vocabulary());
+                }
+            } catch (ValidationException e) {
+                errors.add(String.format("단어: %s, 오류: %s", request.vocabulary(), e.getMessage()));
+            }
+        }
+
+        // 2. 청크 단위로 기존 단어와 중복 검사 후 일괄 저장 (청크당 IN 조회 한 번, INSERT 한 번)
+        int successCount = 0;
+        List<String> vocabularies = new ArrayList<>(candidates.keySet());
+        int chunkSize = wordImportProperties.getChunkSize();
+        for (int from = 0; from < vocabularies.size(); from += chunkSize) {
+            List<String> chunk = vocabularies.subList(from, Math.min(from + chunkSize, vocabularies.size()));
+            Set<String> existing = new HashSet<>(wordMapper.findExistingVocabularies(currentUser.getId(), chunk));
+
+            List<Word> wordsToSave = new ArrayList<>(chunk.size());
+            for (String vocabulary : chunk) {
+                WordRequest request = candidates.get(vocabulary);
+                if (existing.contains(vocabulary)) {
                     errors.add(Constants.Validation.EXISTS_VOCABULARY_MESSAGE + request.vocabulary());
                     continue;
                 }
                 // 엔티티 생성 및 목록에 추가
-                Word word = Word.builder()
+                wordsToSave.add(Word.builder()
                         .vocabulary(request.vocabulary())
                         .meaning(request.meaning())
                         .hint(request.hint())
                         .difficulty(request.difficulty())
-                        .build();
-
-                wordsToSave.add(word);
-                successCount++;
-            } catch (ValidationException e) {
-                errors.add(String.format("단어: %s, 오류: %s", request.vocabulary(), e.getMessage()));
+                        .user(currentUser)
+                        .build());
+            }
+            if (wordsToSave.isEmpty()) {
+                continue;
             }
-        }
-
-        // 2. 유효한 단어가 있으면 한 번의 트랜잭션으로 일괄 저장
-        if (!wordsToSave.isEmpty()) {
             try {
                 batchSaveWords(wordsToSave);
+                successCount += wordsToSave.size();
+                // 일괄 저장은 생성된 ID를 돌려받지 않으므로 개수만 전달
+                eventPublisher.publishEvent(WordChangedEvent.created(currentUser.getId(), wordsToSave.size()));
             } catch (Exception e) {
                 log.error("단어 일괄 저장 중 오류 발생: {}", e.getMessage(), e);
                 throw new WordCreationException(0L);
@@ -144,12 +193,26 @@ public class WordServiceImpl implements WordService {
         return successCount;
     }
 
+    @Override
+    public WordImportSummary importWords(WordImportFormat format, InputStream in, OutputStream out) throws IOException {
+        // 사용자 참조는 요청 스레드에서 한 번만 가져오고, 청크마다 별도 트랜잭션으로 저장
+        User currentUser = currentUserProvider.getCurrentUserReference();
+        return wordImporter.importWords(currentUser, format, in, out);
+    }
+
+    @Override
+    public StreamingResponseBody exportWords(WordExportFormat format, Long afterId) {
+        // 사용자 ID 는 요청 스레드에서 확인 (본문은 비동기 스레드에서 작성됨)
+        Long userId = currentUserProvider.getCurrentUserId();
+        return wordExporter.export(userId, null, afterId, format);
+    }
+
 
     @Override
     public WordResponse findById(Long id) {
-        User currentUser = getCurrentUser();
+        Long userId = currentUserProvider.getCurrentUserId();
 
-        Word word = wordMapper.findByIdAndUserId(id, currentUser.getId())
+        Word word = wordMapper.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new WordNotFoundException(id));
 
         return wordEntityMapper.toDto(word);
@@ -160,10 +223,10 @@ public class WordServiceImpl implements WordService {
     public void updateWord(Long id, WordRequest request) {
         wordValidator.validate(request);
 
-        User currentUser = getCurrentUser();
+        Long userId = currentUserProvider.getCurrentUserId();
 
         // 3. 단어 조회 및 소유권 검증 (한 번에 처리)
-        Word word = wordMapper.findByIdAndUserId(id, currentUser.getId())
+        Word word = wordMapper.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new WordNotFoundException(id));
 
         // 4. 중복 검증
@@ -177,20 +240,22 @@ public class WordServiceImpl implements WordService {
 
         // 6. DB 저장
         wordMapper.update(word);
+        eventPublisher.publishEvent(WordChangedEvent.updated(userId, List.of(id)));
     }
 
     @Override
     public void deleteWord(Long id) {
-        // 1. 사용자 조회
-        User currentUser = getCurrentUser();
+        // 1. 사용자 ID 조회
+        Long userId = currentUserProvider.getCurrentUserId();
 
         // 2. 단어 조회 및 소유권 검증
-        Word word = wordMapper.findByIdAndUserId(id, currentUser.getId())
+        Word word = wordMapper.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new WordNotFoundException(id));
 
         try {
             // 3. 단어 삭제
             wordMapper.deleteById(id);
+            eventPublisher.publishEvent(WordChangedEvent.deleted(userId, List.of(id)));
             log.info("단어 삭제 완료 - ID: {}, 단어: {}", id, word.getVocabulary());
 
         } catch (Exception e) {
@@ -224,13 +289,13 @@ public class WordServiceImpl implements WordService {
     @Transactional
     @Override
     public PageResponse<WordResponse> findAllWithPaging(Pageable pageable) {
-        User currentUser = getCurrentUser();
+        Long userId = currentUserProvider.getCurrentUserId();
 
-        // 전체 단어 수 조회
-        long total = wordMapper.countByUser(currentUser.getId());
+        // 전체 단어 수 조회 (메모리 카운터, COUNT 없음)
+        long total = userWordCounter.count(userId);
 
         // 페이징 처리된 단어 목록 조회
-        List<Word> words = wordMapper.findByUserWithPaging(currentUser.getId(), pageable);
+        List<Word> words = wordMapper.findByUserWithPaging(userId, pageable);
 
         // MapStruct를 사용하여 Entity를 DTO로 변환
         List<WordResponse> wordResponses = wordEntityMapper.toDtoList(words);
@@ -242,25 +307,36 @@ public class WordServiceImpl implements WordService {
         return new PageResponse<>(wordPage);
     }
 
+    @Override
+    public CursorPageResponse<WordResponse> findAllWithCursor(String after, int requestedSize) {
+        int size = CursorPageResponse.clampSize(requestedSize);
+        Long userId = currentUserProvider.getCurrentUserId();
+        Long afterId = CursorPageResponse.decodeCursor(after);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (COUNT 없음)
+        List<Word> words = wordMapper.findByUserAfterId(userId, afterId, size + 1);
+        return toCursorPage(words, size);
+    }
+
     @Override
     public WordStudyResponse findRandomWord() {
         try {
-            // 1. 현재 인증된 사용자 정보 가져오기
-            User currentUser = getCurrentUser();
+            // 1. 현재 인증된 사용자 ID 가져오기
+            Long userId = currentUserProvider.getCurrentUserId();
             // 2. 현재 사용자의 총 단어 수 확인
-            long totalUserWords = wordMapper.countByUser(currentUser.getId());
-            if (totalUserWords == 0) {
-                log.warn("사용자({})의 등록된 단어가 없습니다.", currentUser.getEmail());
+            if (userWordCounter.count(userId) == 0) {
+                log.warn("사용자({})의 등록된 단어가 없습니다.", userId);
                 throw new WordNotFoundException(0L);
             }
-            // 3. 랜덤 단어 조회 시 사용자 ID를 파라미터로 전달하는 메서드 호출
-            Word randomWord = wordMapper.findRandomWordByUserId(currentUser.getId());
+            // 3. 샘플러로 ID 하나를 뽑아 PK 로 조회
+            List<Word> sampled = sampleWords(userId, 1);
 
-            // 4. 결과가 null 인 경우
-            if (randomWord == null) {
-                log.warn("사용자({})의 랜덤 단어 조회 실패", currentUser.getEmail());
+            // 4. 결과가 없는 경우
+            if (sampled.isEmpty()) {
+                log.warn("사용자({})의 랜덤 단어 조회 실패", userId);
                 throw new WordNotFoundException(0L);
             }
+            Word randomWord = sampled.get(0);
 
             // 6. 응답 DTO 반환
             return wordEntityMapper.toStudyDto(randomWord);
@@ -271,28 +347,51 @@ public class WordServiceImpl implements WordService {
     }
 
     @Override
-    public AnswerResponse checkAnswer(AnswerRequest answerRequest, HttpSession session) {
-        // 1. 단어 ID와 사용자 답안으로 정답 여부 확인
-        boolean isCorrect = validateAnswer(answerRequest.wordId(), answerRequest.answer());
-
-        // 2. 현재 인증된 사용자 정보 가져오기
-        User currentUser = getCurrentUser();
+    public WordStudyResponse findNextReviewWord() {
+        Long userId = currentUserProvider.getCurrentUserId();
+
+        // 대기열이 오래되어 이미 삭제된 단어가 나오면 대기열을 다시 만들고 한 번 더 시도
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Long wordId = spacedRepetitionScheduler.nextWordId(userId);
+            if (wordId == null) {
+                log.warn("사용자({})의 등록된 단어가 없습니다.", userId);
+                throw new WordNotFoundException(0L);
+            }
+            Optional<Word> word = wordMapper.findByIdAndUserId(wordId, userId);
+            if (word.isPresent()) {
+                return wordEntityMapper.toStudyDto(word.get());
+            }
+            spacedRepetitionScheduler.invalidate(userId);
+        }
+        throw new WordNotFoundException(0L);
+    }
 
-        // 3. 단어 정보 조회
-        Word word = wordRepository.findById(answerRequest.wordId())
+    @Override
+    public AnswerResponse checkAnswer(AnswerRequest answerRequest) {
+        // 1. 단어 조회 (한 번만 조회)
+        Word word = wordMapper.findById(answerRequest.wordId())
                 .orElseThrow(() -> new WordNotFoundException(answerRequest.wordId()));
 
-        // 4. 학습 기록 저장 (정답 여부 포함)
-        updateUserWordStudyHistory(currentUser, word, isCorrect);
+        // 2. 정답 여부 확인
+        boolean isCorrect = validateAnswer(word, answerRequest.answer());
+
+        // 3. 현재 인증된 사용자 ID 가져오기
+        Long userId = currentUserProvider.getCurrentUserId();
 
+        // 4. 학습 기록 저장 요청 (쓰기 지연 큐를 통해 일괄 저장)
+        studyHistoryWriter.record(StudyRecord.of(userId, word.getId(), isCorrect));
+
+        // 5. 복습 일정 갱신
+        spacedRepetitionScheduler.recordAnswer(userId, word.getId(), isCorrect);
+
+        // 6. 연속 정답 수 갱신 (메모리에서 처리)
         AnswerResponse response;
-        String sessionId = session.getId();
 
         if (isCorrect) {
-            int newPerfectRun = studyProgressService.incrementPerfectRun(sessionId);
+            int newPerfectRun = studyProgressService.incrementPerfectRun(userId);
             response = new AnswerResponse(true, "정답입니다!", newPerfectRun);
         } else {
-            studyProgressService.resetPerfectRun(sessionId);
+            studyProgressService.resetPerfectRun(userId);
             response = new AnswerResponse(false, "틀렸습니다. 다시 시도해보세요.", 0);
         }
         return response;
@@ -304,31 +403,34 @@ public class WordServiceImpl implements WordService {
         Word word = wordMapper.findById(id)
                 .orElseThrow(() -> new WordNotFoundException(id));
         // 2. 정답 확인
-        return validateAnswer(word.getMeaning(), userAnswer);
+        return validateAnswer(word, userAnswer);
     }
 
     @Override
     public List<DailyWordResponse> findRandomWords() {
         try {
-            // 현재 인증된 사용자 가져오기
-            User currentUser = getCurrentUser();
-
-            // 사용자가 충분한 단어를 가지고 있는지 확인
-            long totalUserWords = wordMapper.countByUser(currentUser.getId());
-
-            List<Word> randomWords;
-
-            if (totalUserWords >= 5) {
-                // 사용자의 단어가 5개 이상인 경우 해당 사용자의 단어 중에서 랜덤 선택
-                randomWords = wordMapper.findRandomWordsByUserId(currentUser.getId(), 5);
-            } else if (totalUserWords > 0) {
-                // 사용자의 단어가 5개 미만이지만 존재하는 경우 가진 만큼 가져옴
-                randomWords = wordMapper.findRandomWordsByUserId(currentUser.getId(), (int) totalUserWords);
-            } else {
-                // 사용자의 단어가 없는 경우 공용 랜덤 단어 사용 (기존 방식)
-                randomWords = wordMapper.findRandom5Words();
+            // 현재 인증된 사용자 ID 가져오기
+            Long userId = currentUserProvider.getCurrentUserId();
+            LocalDate today = LocalDate.now();
+
+            // 야간 작업이 골라 둔 오늘의 단어 (PK 범위 조회 한 번)
+            List<DailyWordResponse> dailyWords = dailyPickMapper.findDailyWords(userId, today);
+            if (!dailyWords.isEmpty()) {
+                return dailyWords;
             }
 
+            // 아직 고르지 않았거나 골라 둔 단어가 모두 삭제된 경우 지금 골라서 저장
+            if (dailyWordGenerator.generate(userId, today, true) > 0) {
+                dailyWords = dailyPickMapper.findDailyWords(userId, today);
+                if (!dailyWords.isEmpty()) {
+                    return dailyWords;
+                }
+            }
+
+            // 사용자의 단어가 없는 경우 공용 랜덤 단어 사용 (기존 방식)
+            List<Long> ids = wordIdSampler.sampleGlobal(5);
+            List<Word> randomWords = ids.isEmpty() ? List.of() : orderByIds(wordMapper.findByIds(null, ids), ids);
+
             if (randomWords.isEmpty()) {
                 log.warn("단어를 찾을 수 없습니다.");
                 throw new WordNotFoundException(0L);
@@ -342,7 +444,7 @@ public class WordServiceImpl implements WordService {
 
     @Override
     public boolean checkVocabularyDuplicate(String newVocabulary, Long excludeId) {
-        User currentUser = getCurrentUser();
+        User currentUser = currentUserProvider.getCurrentUserReference();
 
         if (excludeId != null) {
             // 수정 시: 자기 자신을 제외한 중복 체크
@@ -355,18 +457,27 @@ public class WordServiceImpl implements WordService {
     @Transactional
     @Override
     public PageResponse<WordResponse> searchWords(WordSearchRequest request, Pageable pageable) {
-        User currentUser = getCurrentUser();
-        Long userId = currentUser.getId();
+        Long userId = currentUserProvider.getCurrentUserId();
 
         String keyword = request.keyword();
         int offset = pageable.getPageNumber() * pageable.getPageSize();
         int limit = pageable.getPageSize();
 
-        // 검색 조건에 맞는 전체 레코드 수 조회
-        long total = wordMapper.countSearchResults(keyword, userId);
-
-        // 검색 및 페이징 처리된 단어 목록 조회
-        List<Word> words = wordMapper.searchWords(keyword, userId, offset, limit);
+        long total;
+        List<Word> words;
+        Optional<SearchHits> hits = wordSearchIndex.search(userId, keyword, offset, limit);
+        if (hits.isPresent()) {
+            // 인덱스에서 전체 결과 수와 페이지 ID 를 함께 얻고, 해당 단어만 PK 로 조회
+            total = hits.get().total();
+            List<Long> ids = hits.get().ids();
+            words = ids.isEmpty() ? List.of() : orderByIds(wordMapper.findByIds(userId, ids), ids);
+        } else {
+            // 인덱스를 사용할 수 없거나 검색어가 없으면 LIKE 검색 (검색어가 없으면 전체 수는 카운터 사용)
+            total = keyword == null || keyword.isBlank()
+                    ? userWordCounter.count(userId)
+                    : wordMapper.countSearchResults(keyword, userId);
+            words = wordMapper.searchWords(keyword, userId, offset, limit);
+        }
 
         List<WordResponse> wordResponses = wordEntityMapper.toDtoList(words);
 
@@ -374,11 +485,43 @@ public class WordServiceImpl implements WordService {
         return new PageResponse<>(wordPage);
     }
 
-    // 사용자의 단어 학습 이력을 기록하기 위한 메서드
-    private void updateUserWordStudyHistory(User user, Word word, boolean isCorrect) {
-        // 객체 생성 후 저장 (setter 없이)
-        StudyHistory studyHistory = StudyHistory.createStudyRecord(user, word, isCorrect);
-        studyHistoryRepository.save(studyHistory);
+    /**
+     * 샘플러에서 뽑은 ID 로 사용자의 단어를 조회합니다.
+     * 다른 경로로 단어가 삭제되어 ID 배열이 오래된 경우 배열을 다시 만들고 한 번 더 시도합니다.
+     */
+    private List<Word> sampleWords(Long userId, int limit) {
+        List<Word> words = List.of();
+        for (int attempt = 0; attempt < 2; attempt++) {
+            List<Long> ids = wordIdSampler.sample(userId, limit);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            words = orderByIds(wordMapper.findByIds(userId, ids), ids);
+            if (words.size() == ids.size()) {
+                return words;
+            }
+            log.debug("사용자({})의 단어 ID 배열이 오래되어 다시 로드합니다.", userId);
+            wordIdSampler.invalidate(userId);
+        }
+        return words;
+    }
+
+    // size + 1 개까지 조회한 결과로 커서 페이지 생성
+    private CursorPageResponse<WordResponse> toCursorPage(List<Word> words, int size) {
+        boolean hasNext = words.size() > size;
+        List<Word> page = hasNext ? words.subList(0, size) : words;
+        Long lastId = hasNext ? page.get(page.size() - 1).getId() : null;
+        return new CursorPageResponse<>(wordEntityMapper.toDtoList(page), size, lastId);
+    }
+
+    // IN 조회 결과를 샘플링된 (무작위) 순서대로 정렬
+    private List<Word> orderByIds(List<Word> words, List<Long> ids) {
+        Map<Long, Word> wordById = words.stream()
+                .collect(Collectors.toMap(Word::getId, Function.identity()));
+        return ids.stream()
+                .map(wordById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     // 일괄 저장을 위한 새로운 private 메서드
@@ -386,36 +529,35 @@ public class WordServiceImpl implements WordService {
         wordMapper.batchSave(words);
     }
 
-    private boolean isDuplicateWord(String vocabulary) {
-        // 현재 사용자 가져오기
-        User currentUser = getCurrentUser();
-
+    private boolean isDuplicateWord(String vocabulary, User currentUser) {
         // 현재 사용자의 단어 중에서만 중복 체크
         return wordRepository.existsByVocabularyIgnoreCaseAndUser(vocabulary, currentUser);
     }
 
 
-    private boolean validateAnswer(String correctMeaning, String userAnswer) {
+    private boolean validateAnswer(Word word, String userAnswer) {
         if (userAnswer == null || userAnswer.trim().isEmpty()) {
             throw new ValidationException("답을 입력해주세요.");
         }
-        // 쉼표로 구분된 여러 정답 처리
-        return Arrays.stream(correctMeaning.split(","))
-                .map(String::trim)
-                .anyMatch(answer -> answer.equalsIgnoreCase(userAnswer.trim()));
+        // 여러 정답, 괄호, 공백/문장 부호 차이, 작은 오타까지 처리 (정답 후보는 단어별로 캐시)
+        return answerMatcher.matches(word, userAnswer);
     }
 
+    @Override
+    public CursorPageResponse<WordResponse> searchWordsWithCursor(WordSearchRequest request, String after, int requestedSize) {
+        int size = CursorPageResponse.clampSize(requestedSize);
+        Long userId = currentUserProvider.getCurrentUserId();
+        Long afterId = CursorPageResponse.decodeCursor(after);
+        String keyword = request.keyword();
 
-    /**
-     * 현재 로그인한 사용자를 가져옵니다.
-     *
-     * @return 현재 인증된 사용자
-     * @throws RuntimeException 인증된 사용자를 찾을 수 없는 경우
-     */
-    private User getCurrentUser() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("인증된 사용자를 찾을 수 없습니다."));
+        List<Word> words;
+        Optional<List<Long>> ids = wordSearchIndex.searchAfter(userId, keyword, afterId, size + 1);
+        if (ids.isPresent()) {
+            words = ids.get().isEmpty() ? List.of() : orderByIds(wordMapper.findByIds(userId, ids.get()), ids.get());
+        } else {
+            words = wordMapper.searchWordsAfterId(keyword, userId, afterId, size + 1);
+        }
+        return toCursorPage(words, size);
     }
 
     @Override
@@ -7,9 +7,12 @@ import com.adam9e96.wordlol.dto.response.WordBookDetailResponse;
 import com.adam9e96.wordlol.dto.response.WordBookListResponse;
 import com.adam9e96.wordlol.dto.response.WordBookResponse;
 import com.adam9e96.wordlol.dto.response.WordBookStudyResponse;
+import com.adam9e96.wordlol.dto.response.WordBookUpdateResponse;
+import com.adam9e96.wordlol.dto.response.StudySessionResponse;
 import com.adam9e96.wordlol.enums.Category;
 import com.adam9e96.wordlol.entity.WordBook;
 import com.adam9e96.wordlol.exception.wordbook.*;
+import com.adam9e96.wordlol.support.exporter.WordExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,6 +21,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
 import java.util.List;
 
 /**
@@ -114,6 +119,72 @@ public interface WordBookService {
     })
     List<WordBookStudyResponse> findWordBookStudyData(@Parameter(description = "조회할 단어장의 ID", required = true) Long wordBookId);
 
+    /**
+     * 단어장 학습 세션을 시작합니다.
+     * 서버에서 단어 순서를 섞어 세션에 보관하고, 첫 페이지의 카드를 반환합니다.
+     *
+     * @param wordBookId 학습할 단어장의 ID
+     * @param pageSize   한 번에 받을 카드 수 (null 이면 기본값)
+     * @return 세션 ID 와 첫 페이지의 카드
+     * @throws WordBookNotFoundException 단어장이 존재하지 않는 경우
+     * @throws WordBookEmptyException 단어장에 단어가 없는 경우
+     */
+    @Operation(summary = "단어장 학습 세션 시작", description = "단어 순서를 섞은 학습 세션을 만들고 첫 페이지의 카드를 반환합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "학습 세션 시작 성공"),
+        @ApiResponse(responseCode = "404", description = "단어장을 찾을 수 없거나 단어가 없음")
+    })
+    StudySessionResponse startStudySession(
+            @Parameter(description = "학습할 단어장의 ID", required = true) Long wordBookId,
+            @Parameter(description = "한 번에 받을 카드 수") Integer pageSize);
+
+    /**
+     * 학습 세션의 카드를 페이지 단위로 조회합니다.
+     * offset 이 없으면 마지막으로 기록된 학습 위치부터 반환합니다 (재접속 후 이어서 학습).
+     *
+     * @param wordBookId 단어장 ID
+     * @param sessionId  학습 세션 ID
+     * @param offset     페이지 시작 위치 (null 이면 마지막 학습 위치)
+     * @param limit      받을 카드 수 (null 이면 기본값)
+     * @param position   현재 학습 위치 (null 이면 기록하지 않음)
+     * @return 요청한 구간의 카드
+     * @throws StudySessionNotFoundException 세션이 만료되었거나 다른 단어장의 세션인 경우
+     */
+    @Operation(summary = "단어장 학습 세션 카드 조회", description = "학습 세션의 카드를 페이지 단위로 조회하고 학습 위치를 기록합니다")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "카드 조회 성공"),
+        @ApiResponse(responseCode = "404", description = "학습 세션이 만료되었거나 존재하지 않음")
+    })
+    StudySessionResponse findStudySessionCards(
+            @Parameter(description = "단어장 ID", required = true) Long wordBookId,
+            @Parameter(description = "학습 세션 ID", required = true) String sessionId,
+            @Parameter(description = "페이지 시작 위치") Integer offset,
+            @Parameter(description = "받을 카드 수") Integer limit,
+            @Parameter(description = "현재 학습 위치") Integer position);
+
+    /**
+     * 단어장의 단어를 스트리밍으로 내보냅니다.
+     * 단어장 소유권은 호출 시점에 확인하고, 단어는 응답을 쓰는 동안 Cursor 로 읽습니다.
+     *
+     * @param wordBookId 내보낼 단어장의 ID
+     * @param format     내보내기 형식
+     * @param afterId    이 ID 이후의 단어만 내보냄 (null 이면 처음부터)
+     * @return 스트리밍 응답 본문
+     * @throws WordBookNotFoundException 단어장이 존재하지 않거나 접근 권한이 없는 경우
+     */
+    StreamingResponseBody exportWords(Long wordBookId, WordExportFormat format, Long afterId);
+
+    /**
+     * 카테고리에 속한 모든 단어장의 단어를 스트리밍으로 내보냅니다.
+     * 단어가 많은 카테고리에서 목록 조회 대신 사용하며, 단어는 응답을 쓰는 동안 Cursor 로 읽습니다.
+     *
+     * @param category 단어장 카테고리
+     * @param format   내보내기 형식
+     * @param afterId  이 ID 이후의 단어만 내보냄 (null 이면 처음부터)
+     * @return 스트리밍 응답 본문
+     */
+    StreamingResponseBody exportWordsByCategory(Category category, WordExportFormat format, Long afterId);
+
     /**
      * 단어장 ID로 단어장을 조회합니다.
      *
@@ -134,7 +205,7 @@ public interface WordBookService {
      *
      * @param id 수정할 단어장의 ID
      * @param request 수정할 단어장 정보
-     * @return 수정된 단어장 엔티티
+     * @return 수정된 단어장 정보와 단어 변경 내역 (유지/수정/추가/삭제 수)
      * @throws WordBookNotFoundException 단어장이 존재하지 않는 경우
      * @throws ValidationException 유효하지 않은 입력인 경우
      * @throws WordBookUpdateException 단어장 수정 중 오류가 발생한 경우
@@ -142,12 +213,12 @@ public interface WordBookService {
     @Operation(summary = "단어장 수정", description = "단어장 정보를 수정합니다")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "단어장 수정 성공",
-                     content = @Content(schema = @Schema(implementation = WordBook.class))),
+                     content = @Content(schema = @Schema(implementation = WordBookUpdateResponse.class))),
         @ApiResponse(responseCode = "400", description = "유효하지 않은 입력"),
         @ApiResponse(responseCode = "404", description = "단어장을 찾을 수 없음"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    WordBookResponse updateWordBookById(
+    WordBookUpdateResponse updateWordBookById(
         @Parameter(description = "수정할 단어장의 ID", required = true) Long id,
         @Parameter(description = "수정할 단어장 정보", required = true) WordBookRequest request
     );
@@ -1,5 +1,6 @@
 package com.adam9e96.wordlol.service.interfaces;
 
+import com.adam9e96.wordlol.dto.common.CursorPageResponse;
 import com.adam9e96.wordlol.dto.common.PageResponse;
 import com.adam9e96.wordlol.dto.request.AnswerRequest;
 import com.adam9e96.wordlol.dto.response.*;
@@ -11,6 +12,9 @@ import com.adam9e96.wordlol.exception.word.WordUpdateException;
 import com.adam9e96.wordlol.dto.request.WordRequest;
 import com.adam9e96.wordlol.dto.request.WordSearchRequest;
 import com.adam9e96.wordlol.entity.Word;
+import com.adam9e96.wordlol.support.exporter.WordExportFormat;
+import com.adam9e96.wordlol.support.importer.WordImportFormat;
+import com.adam9e96.wordlol.support.importer.WordImportSummary;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,10 +22,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpSession;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -61,6 +68,27 @@ public interface WordService {
     })
     int createWords(@Parameter(description = "생성할 단어 정보 목록", required = true) List<WordRequest> requests);
 
+    /**
+     * NDJSON 또는 CSV 요청 본문에서 단어를 스트리밍으로 가져옵니다.
+     * 행별 결과를 NDJSON 으로 응답 본문에 기록하며, 마지막 줄은 전체 결과입니다.
+     *
+     * @param format 요청 본문 형식
+     * @param in     요청 본문
+     * @param out    응답 본문
+     * @return 전체 결과
+     */
+    WordImportSummary importWords(WordImportFormat format, InputStream in, OutputStream out) throws IOException;
+
+    /**
+     * 현재 사용자의 모든 단어를 스트리밍으로 내보냅니다.
+     * 단어는 응답을 쓰는 동안 Cursor 로 ID 오름차순으로 읽습니다.
+     *
+     * @param format  내보내기 형식
+     * @param afterId 이 ID 이후의 단어만 내보냄 (null 이면 처음부터)
+     * @return 스트리밍 응답 본문
+     */
+    StreamingResponseBody exportWords(WordExportFormat format, Long afterId);
+
     /**
      * ID로 단어를 조회합니다.
      *
@@ -125,6 +153,18 @@ public interface WordService {
     })
     PageResponse<WordResponse> findAllWithPaging(@Parameter(description = "페이징 정보", required = true) Pageable pageable);
 
+    /**
+     * 단어 목록을 커서 기반으로 조회합니다. 전체 개수는 세지 않습니다.
+     *
+     * @param after 이전 페이지의 nextCursor (null 이면 첫 페이지)
+     * @param size  페이지 크기 (0 이하면 기본값, 최대 100)
+     * @return 커서 기반 단어 목록
+     */
+    @Operation(summary = "단어 목록 커서 조회", description = "단어 목록을 커서 기반으로 조회합니다")
+    CursorPageResponse<WordResponse> findAllWithCursor(
+            @Parameter(description = "이전 페이지의 nextCursor") String after,
+            @Parameter(description = "페이지 크기", required = true) int size);
+
     /**
      * 랜덤 단어를 조회합니다. 학습 기능에서 사용됩니다.
      *
@@ -139,6 +179,20 @@ public interface WordService {
     })
     WordStudyResponse findRandomWord();
 
+    /**
+     * 간격 반복(SM-2) 복습 일정에 따라 다음에 복습할 단어를 조회합니다.
+     * 복습 시각이 가장 이른 단어가 선택되며, 학습한 적 없는 단어는 바로 출제 대상이 됩니다.
+     *
+     * @return 다음 복습 단어
+     * @throws WordNotFoundException 단어가 없는 경우
+     */
+    @Operation(summary = "복습 단어 조회", description = "간격 반복 복습 일정에 따라 다음 학습 단어를 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "복습 단어 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "단어가 없음")
+    })
+    WordStudyResponse findNextReviewWord();
+
     /**
      * 단어의 답안을 검증합니다.
      *
@@ -161,9 +215,10 @@ public interface WordService {
     );
 
     /**
-     * 랜덤 단어 목록을 조회합니다. 일일 학습 기능에서 사용됩니다.
+     * 오늘의 단어 목록을 조회합니다. 일일 학습 기능에서 사용됩니다.
+     * 사용자와 날짜로 정해지므로 같은 날에는 항상 같은 단어를 반환합니다.
      *
-     * @return 무작위로 선택된 단어 목록
+     * @return 오늘의 단어 목록
      * @throws WordNotFoundException 단어가 없는 경우
      */
     @Operation(summary = "랜덤 단어 목록 조회", description = "일일 학습용 랜덤 단어 목록을 조회합니다")
@@ -173,8 +228,7 @@ public interface WordService {
     })
     List<DailyWordResponse> findRandomWords();
 
-    AnswerResponse checkAnswer(AnswerRequest answerRequest, HttpSession session
-    );
+    AnswerResponse checkAnswer(AnswerRequest answerRequest);
 
     /**
      * 단어의 중복 여부를 확인합니다.
@@ -210,5 +264,19 @@ public interface WordService {
             @Parameter(description = "페이징 정보", required = true) Pageable pageable
     );
 
+    /**
+     * 검색 조건에 맞는 단어 목록을 커서 기반으로 조회합니다. 전체 개수는 세지 않습니다.
+     *
+     * @param request 검색 조건
+     * @param after   이전 페이지의 nextCursor (null 이면 첫 페이지)
+     * @param size    페이지 크기 (0 이하면 기본값, 최대 100)
+     * @return 커서 기반 검색 결과
+     */
+    @Operation(summary = "단어 커서 검색", description = "검색 조건에 맞는 단어 목록을 커서 기반으로 조회합니다")
+    CursorPageResponse<WordResponse> searchWordsWithCursor(
+            @Parameter(description = "검색 조건", required = true) WordSearchRequest request,
+            @Parameter(description = "이전 페이지의 nextCursor") String after,
+            @Parameter(description = "페이지 크기", required = true) int size);
+
     WordHintResponse getWordHint(Long id);
 }
\ No newline at end of file
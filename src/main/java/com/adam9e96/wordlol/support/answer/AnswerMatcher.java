@@ -0,0 +1,57 @@
+package com.adam9e96.wordlol.support.answer;
+
+import com.adam9e96.wordlol.entity.Word;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정답 비교기
+ * <p>
+ * 단어의 뜻을 정답 후보로 나누고 정규화하는 작업은 단어마다 한 번만 하고 캐시에 보관합니다.
+ * 캐시 항목에 원본 뜻을 함께 보관하고 조회할 때마다 현재 뜻과 비교하므로,
+ * 같은 초 안에 여러 번 수정되어 수정 시각이 같더라도 바뀐 뜻으로 다시 계산됩니다.
+ */
+@Component
+public class AnswerMatcher {
+
+    private final AnswerMatcherProperties properties;
+    private final Cache<Long, CompiledMeaning> answerSets;
+
+    public AnswerMatcher(AnswerMatcherProperties properties) {
+        this.properties = properties;
+        this.answerSets = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .build();
+    }
+
+    /**
+     * 사용자 입력이 단어의 뜻과 일치하는지 확인합니다.
+     *
+     * @param word   단어 (ID, 뜻 사용)
+     * @param answer 사용자 입력 (비어 있지 않아야 함)
+     * @return 정답 여부
+     */
+    public boolean matches(Word word, String answer) {
+        return answerSetOf(word).matches(AnswerNormalizer.normalize(answer),
+                properties.getMaxEditDistance(), properties.getMinFuzzyLength());
+    }
+
+    private AnswerSet answerSetOf(Word word) {
+        String meaning = word.getMeaning();
+        CompiledMeaning cached = answerSets.getIfPresent(word.getId());
+        if (cached != null && cached.meaning().equals(meaning)) {
+            return cached.answerSet();
+        }
+        // 처음 보거나 뜻이 바뀐 경우: 새로 계산해 덮어씀
+        CompiledMeaning compiled = new CompiledMeaning(meaning, AnswerSet.compile(meaning));
+        answerSets.put(word.getId(), compiled);
+        return compiled.answerSet();
+    }
+
+    /**
+     * 정답 후보 집합과 그것을 만든 원본 뜻
+     */
+    private record CompiledMeaning(String meaning, AnswerSet answerSet) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.adam9e96.wordlol.support.answer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정답 비교 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "word.answer")
+@Getter
+@Setter
+public class AnswerMatcherProperties {
+    private int maxEditDistance = 1; // 오타로 인정할 최대 편집 거리 (0 이면 정확히 일치해야 정답)
+    private int minFuzzyLength = 4; // 편집 거리를 허용할 정답의 최소 길이 (짧은 단어는 한 글자 차이로 뜻이 달라짐)
+    private long cacheSize = 50_000; // 미리 계산한 정답 집합을 보관할 최대 단어 수
+}
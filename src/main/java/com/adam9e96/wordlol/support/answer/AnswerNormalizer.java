@@ -0,0 +1,94 @@
+package com.adam9e96.wordlol.support.answer;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 정답 비교용 문자열 정규화
+ * <ul>
+ *     <li>한글은 NFC 로 합칩니다. (입력기에 따라 자모가 분리되어 들어오는 경우)</li>
+ *     <li>소문자로 바꾸고, 문자와 숫자 외의 공백, 문장 부호는 모두 제거합니다.</li>
+ *     <li>괄호 속 설명은 빼고 비교하되, 괄호만 지운 형태도 정답으로 인정합니다.</li>
+ * </ul>
+ */
+public final class AnswerNormalizer {
+
+    // 뜻 안에서 여러 정답을 구분하는 문자
+    private static final String SEPARATORS = ",;/";
+
+    private AnswerNormalizer() {
+        throw new AssertionError("AnswerNormalizer 클래스는 인스턴스화할 수 없습니다.");
+    }
+
+    /**
+     * 단어의 뜻을 정답 후보 집합으로 바꿉니다.
+     * 괄호 안의 구분자는 나누지 않습니다. 예: "달리다(뛰다, 걷다), 운영하다"
+     *
+     * @param meaning 단어의 뜻
+     * @return 정규화된 정답 후보 (빈 문자열 제외)
+     */
+    public static Set<String> answers(String meaning) {
+        Set<String> answers = new LinkedHashSet<>();
+        if (meaning == null) {
+            return answers;
+        }
+        String nfc = Normalizer.normalize(meaning, Normalizer.Form.NFC);
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i <= nfc.length(); i++) {
+            char c = i < nfc.length() ? nfc.charAt(i) : ',';
+            if (isOpen(c)) {
+                depth++;
+            } else if (isClose(c)) {
+                depth = Math.max(0, depth - 1);
+            } else if (depth == 0 && SEPARATORS.indexOf(c) >= 0) {
+                String token = nfc.substring(start, i);
+                addIfNotEmpty(answers, normalize(token, false));
+                addIfNotEmpty(answers, normalize(token, true));
+                start = i + 1;
+            }
+        }
+        return answers;
+    }
+
+    /**
+     * 사용자 입력을 정규화합니다. 괄호 속 내용은 제거합니다.
+     *
+     * @param input 사용자 입력
+     * @return 정규화된 입력
+     */
+    public static String normalize(String input) {
+        return normalize(Normalizer.normalize(input, Normalizer.Form.NFC), false);
+    }
+
+    private static String normalize(String text, boolean keepParenthetical) {
+        StringBuilder sb = new StringBuilder(text.length());
+        int depth = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isOpen(c)) {
+                depth++;
+            } else if (isClose(c)) {
+                depth = Math.max(0, depth - 1);
+            } else if ((depth == 0 || keepParenthetical) && Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isOpen(char c) {
+        return c == '(' || c == '[' || c == '{' || c == '（';
+    }
+
+    private static boolean isClose(char c) {
+        return c == ')' || c == ']' || c == '}' || c == '）';
+    }
+
+    private static void addIfNotEmpty(Set<String> answers, String answer) {
+        if (!answer.isEmpty()) {
+            answers.add(answer);
+        }
+    }
+}
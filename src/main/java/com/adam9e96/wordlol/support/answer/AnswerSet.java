@@ -0,0 +1,38 @@
+package com.adam9e96.wordlol.support.answer;
+
+/**
+ * 단어 하나의 미리 정규화된 정답 후보
+ *
+ * @param answers 정규화된 정답 후보
+ */
+public record AnswerSet(String[] answers) {
+
+    public static AnswerSet compile(String meaning) {
+        return new AnswerSet(AnswerNormalizer.answers(meaning).toArray(String[]::new));
+    }
+
+    /**
+     * 정규화된 입력이 정답인지 확인합니다. 정확히 일치하는 후보를 먼저 찾고, 없으면 편집 거리로 비교합니다.
+     *
+     * @param input           정규화된 입력
+     * @param maxEditDistance 허용할 최대 편집 거리
+     * @param minFuzzyLength  편집 거리를 허용할 정답의 최소 길이
+     * @return 정답 여부
+     */
+    public boolean matches(String input, int maxEditDistance, int minFuzzyLength) {
+        for (String answer : answers) {
+            if (answer.equals(input)) {
+                return true;
+            }
+        }
+        if (maxEditDistance <= 0) {
+            return false;
+        }
+        for (String answer : answers) {
+            if (answer.length() >= minFuzzyLength && BandedLevenshtein.withinDistance(answer, input, maxEditDistance)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
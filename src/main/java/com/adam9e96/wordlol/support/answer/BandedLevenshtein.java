@@ -0,0 +1,81 @@
+package com.adam9e96.wordlol.support.answer;
+
+/**
+ * 최대 거리가 정해진 편집 거리(Levenshtein) 계산
+ * <p>
+ * 최대 거리 k 를 넘는 경로는 볼 필요가 없으므로 대각선 주변 2k+1 칸만 계산하고,
+ * 한 행의 최솟값이 k 를 넘으면 바로 멈춥니다. (O(k * n))
+ * 행 버퍼도 띠 너비(2k+1)만큼만 두므로 문자열 길이와 무관하게 작은 배열 두 개만 사용합니다.
+ * (기본 설정 k = 1 이면 int[3] 두 개, ThreadLocal 은 가상 스레드에서 요청마다 새로 만들어지므로 쓰지 않음)
+ */
+public final class BandedLevenshtein {
+
+    private BandedLevenshtein() {
+        throw new AssertionError("BandedLevenshtein 클래스는 인스턴스화할 수 없습니다.");
+    }
+
+    /**
+     * 두 문자열의 편집 거리가 max 이하인지 확인합니다.
+     */
+    public static boolean withinDistance(CharSequence a, CharSequence b, int max) {
+        return distance(a, b, max) <= max;
+    }
+
+    /**
+     * 두 문자열의 편집 거리를 계산합니다.
+     *
+     * @param a   문자열
+     * @param b   문자열
+     * @param max 최대 거리
+     * @return 편집 거리 (max 를 넘으면 max + 1)
+     */
+    public static int distance(CharSequence a, CharSequence b, int max) {
+        int n = a.length();
+        int m = b.length();
+        int over = max + 1;
+        if (Math.abs(n - m) > max) {
+            return over;
+        }
+        if (n == 0 || m == 0) {
+            return Math.max(n, m);
+        }
+
+        // 띠 좌표: i 행의 d 칸은 j = i + d - max 열 (이전 행의 같은 열은 d + 1, 대각선은 d)
+        int width = 2 * max + 1;
+        int[] prev = new int[width];
+        int[] curr = new int[width];
+        for (int d = 0; d < width; d++) {
+            int j = d - max;
+            prev[d] = j >= 0 && j <= m ? j : over;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            char ca = a.charAt(i - 1);
+            int rowMin = over;
+            for (int d = 0; d < width; d++) {
+                int j = i + d - max;
+                int value;
+                if (j < 0 || j > m) {
+                    value = over;
+                } else if (j == 0) {
+                    // 첫 열: 삭제 비용 (j == 0 이면 i <= max)
+                    value = i;
+                } else {
+                    int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                    int up = d + 1 < width ? prev[d + 1] : over;
+                    int left = d > 0 ? curr[d - 1] : over;
+                    value = Math.min(prev[d] + cost, Math.min(up, left) + 1);
+                }
+                curr[d] = Math.min(value, over);
+                rowMin = Math.min(rowMin, curr[d]);
+            }
+            if (rowMin > max) {
+                return over;
+            }
+            int[] tmp = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        return prev[m - n + max];
+    }
+}
@@ -0,0 +1,45 @@
+package com.adam9e96.wordlol.support.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키별 변경 횟수를 기록하는 스탬프
+ * <p>
+ * 캐시 값을 맵 잠금 밖에서 DB 로 읽어 putIfAbsent 로 넣을 때 사용합니다.
+ * 읽기 전에 {@link #stamp(Object)} 를 받아 두고, 넣은 뒤 {@link #changedSince(Object, long)} 가 참이면
+ * 그 사이 발생한 변경 이벤트가 반영되지 않았을 수 있으므로 넣은 값을 버립니다.
+ * 키마다 카운터를 두지 않고 해시로 나눈 고정 개수의 슬롯을 공유하므로,
+ * 다른 키의 변경 때문에 불필요하게 버리는 경우가 드물게 있지만 놓치는 경우는 없습니다.
+ */
+public final class ChangeStamps {
+
+    private static final int SLOTS = 1024;
+
+    private final AtomicLongArray counters = new AtomicLongArray(SLOTS);
+
+    /**
+     * 현재 스탬프를 반환합니다. (DB 조회 전에 호출)
+     */
+    public long stamp(Object key) {
+        return counters.get(slot(key));
+    }
+
+    /**
+     * 키가 변경되었음을 기록합니다. (캐시 값을 갱신하기 전에 호출)
+     */
+    public void touch(Object key) {
+        counters.incrementAndGet(slot(key));
+    }
+
+    /**
+     * stamp 이후 키가 변경되었는지 확인합니다.
+     */
+    public boolean changedSince(Object key, long stamp) {
+        return counters.get(slot(key)) != stamp;
+    }
+
+    private static int slot(Object key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (SLOTS - 1);
+    }
+}
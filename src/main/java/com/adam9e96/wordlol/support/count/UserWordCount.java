@@ -0,0 +1,10 @@
+package com.adam9e96.wordlol.support.count;
+
+/**
+ * 사용자별 단어 수 집계 결과 (정합성 점검용)
+ *
+ * @param userId    사용자 ID
+ * @param wordCount 단어 수
+ */
+public record UserWordCount(Long userId, long wordCount) {
+}
@@ -0,0 +1,140 @@
+package com.adam9e96.wordlol.support.count;
+
+import com.adam9e96.wordlol.event.WordChangedEvent;
+import com.adam9e96.wordlol.repository.mybatis.WordMapper;
+import com.adam9e96.wordlol.support.cache.ChangeStamps;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 단어 수 저장소
+ * <p>
+ * 처음 조회할 때 COUNT(*) 로 한 번 채우고, 이후에는 {@link WordChangedEvent} 의 생성/삭제 개수로
+ * 원자적으로 증감하므로 조회는 O(1) 입니다.
+ * 이벤트 반영 시점과 최초 조회가 겹치면 오차가 생길 수 있어, 주기적으로 DB 와 비교해 바로잡습니다.
+ */
+@Slf4j
+@Component
+public class UserWordCounter {
+
+    // 메모리에 보관할 사용자 수 상한
+    private static final long MAXIMUM_CACHED_USERS = 100_000;
+    // 마지막 접근 후 유지하는 시간 (만료되면 다음 조회 때 다시 COUNT)
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+    // 정합성 점검 시 한 번에 집계할 사용자 수
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final WordMapper wordMapper;
+    private final Cache<Long, AtomicLong> counts;
+    private final Counter driftCounter;
+    private final ChangeStamps changeStamps = new ChangeStamps();
+
+    public UserWordCounter(WordMapper wordMapper, MeterRegistry meterRegistry) {
+        this.wordMapper = wordMapper;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_CACHED_USERS)
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+                .build();
+        this.driftCounter = Counter.builder("word.count.drift")
+                .description("정합성 점검에서 보정된 사용자 단어 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자의 단어 수를 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 단어 수
+     */
+    public long count(Long userId) {
+        AtomicLong cached = counts.getIfPresent(userId);
+        if (cached != null) {
+            return cached.get();
+        }
+        // COUNT 는 캐시 잠금 밖에서 실행 (로더 안에서 JDBC 를 기다리면 가상 스레드의 캐리어까지 막힘)
+        long stamp = changeStamps.stamp(userId);
+        AtomicLong loaded = new AtomicLong(wordMapper.countByUser(userId));
+        AtomicLong existing = counts.asMap().putIfAbsent(userId, loaded);
+        if (existing != null) {
+            return existing.get();
+        }
+        // COUNT 도중 반영되지 못한 이벤트가 있으면 버리고 다음 조회 때 다시 COUNT
+        if (changeStamps.changedSince(userId, stamp)) {
+            counts.asMap().remove(userId, loaded);
+        }
+        return loaded.get();
+    }
+
+    /**
+     * 단어 변경 이벤트를 받아 단어 수를 증감합니다. 아직 조회되지 않은 사용자는 무시합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWordChanged(WordChangedEvent event) {
+        changeStamps.touch(event.userId());
+        switch (event.type()) {
+            case CREATED -> add(event.userId(), event.count());
+            case DELETED -> add(event.userId(), -event.count());
+            // 단어장 수정은 추가/삭제 수를 알 수 없으므로 다음 조회 때 다시 COUNT
+            case RESET -> counts.invalidate(event.userId());
+            case UPDATED -> {
+                // 단어 수 변화 없음
+            }
+        }
+    }
+
+    /**
+     * 메모리의 단어 수를 DB 와 비교해 어긋난 값을 바로잡습니다.
+     */
+    @Scheduled(fixedDelayString = "${word.count.reconcile-interval-ms:600000}",
+            initialDelayString = "${word.count.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        List<Long> userIds = new ArrayList<>(counts.asMap().keySet());
+        int repaired = 0;
+        for (int from = 0; from < userIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = userIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, userIds.size()));
+
+            // 1. COUNT 전에 메모리 값을 기록
+            Map<Long, Long> observed = new HashMap<>();
+            for (Long userId : batch) {
+                AtomicLong cached = counts.getIfPresent(userId);
+                if (cached != null) {
+                    observed.put(userId, cached.get());
+                }
+            }
+            Map<Long, Long> actual = wordMapper.countByUserIds(batch).stream()
+                    .collect(Collectors.toMap(UserWordCount::userId, UserWordCount::wordCount));
+
+            // 2. 그 사이 이벤트로 값이 바뀐 사용자는 건너뜀 (덮어쓰면 방금 반영된 증감이 사라짐, 다음 주기에 다시 비교)
+            for (Map.Entry<Long, Long> entry : observed.entrySet()) {
+                AtomicLong cached = counts.getIfPresent(entry.getKey());
+                long before = entry.getValue();
+                long expected = actual.getOrDefault(entry.getKey(), 0L);
+                if (cached != null && before != expected && cached.compareAndSet(before, expected)) {
+                    repaired++;
+                }
+            }
+        }
+        if (repaired > 0) {
+            driftCounter.increment(repaired);
+            log.warn("사용자 단어 수 {}건이 DB 와 달라 보정했습니다.", repaired);
+        }
+    }
+
+    private void add(Long userId, long delta) {
+        AtomicLong count = counts.getIfPresent(userId);
+        if (count != null) {
+            count.updateAndGet(value -> Math.max(0, value + delta));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.adam9e96.wordlol.support.daily;
+
+import java.time.LocalDate;
+
+/**
+ * 오늘의 단어 한 건
+ *
+ * @param userId    사용자 ID
+ * @param pickDate  날짜
+ * @param pickOrder 표시 순서
+ * @param wordId    단어 ID
+ */
+public record DailyPick(Long userId, LocalDate pickDate, int pickOrder, Long wordId) {
+}
@@ -0,0 +1,101 @@
+package com.adam9e96.wordlol.support.daily;
+
+import com.adam9e96.wordlol.repository.jpa.StudyHistoryRepository;
+import com.adam9e96.wordlol.repository.mybatis.DailyPickMapper;
+import com.adam9e96.wordlol.repository.mybatis.WordMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오늘의 단어 생성기
+ * <p>
+ * 매일 자정 직후 최근 activeDays 안에 학습한 사용자의 오늘의 단어를 {@link DailyWordPicker} 로 골라
+ * user_daily_pick 에 저장합니다. 오늘의 단어 조회는 이 테이블의 PK 범위 조회 한 번이 됩니다.
+ * <ul>
+ *     <li>야간 작업에 포함되지 않은 사용자는 처음 조회할 때 같은 방식으로 골라 저장합니다.</li>
+ *     <li>야간 작업은 이미 저장된 행을 덮어쓰지 않으므로, 자정 이후 먼저 조회한 사용자의 단어도 바뀌지 않습니다.</li>
+ *     <li>retentionDays 가 지난 행은 야간 작업에서 삭제합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyWordGenerator {
+
+    private final WordMapper wordMapper;
+    private final StudyHistoryRepository studyHistoryRepository;
+    private final DailyPickMapper dailyPickMapper;
+    private final DailyWordProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 사용자의 오늘의 단어를 골라 저장합니다.
+     *
+     * @param userId  사용자 ID
+     * @param date    날짜
+     * @param replace 이미 저장된 행을 지우고 다시 고를지 여부
+     * @return 고른 단어 수 (사용자 단어가 없으면 0)
+     */
+    public int generate(Long userId, LocalDate date, boolean replace) {
+        List<Long> wordIds = wordMapper.findIdsByUserId(userId);
+        if (wordIds.isEmpty()) {
+            return 0;
+        }
+        Set<Long> recent = new HashSet<>(studyHistoryRepository.findRecentlyStudiedWordIds(
+                userId, date.minusDays(properties.getRecentDays()).atStartOfDay()));
+
+        List<Long> picked = DailyWordPicker.pick(userId, date, wordIds, recent, properties.getSize());
+        List<DailyPick> picks = new ArrayList<>(picked.size());
+        for (int i = 0; i < picked.size(); i++) {
+            picks.add(new DailyPick(userId, date, i, picked.get(i)));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (replace) {
+                dailyPickMapper.deleteByUserAndDate(userId, date);
+            }
+            dailyPickMapper.insertPicks(picks);
+        });
+        return picks.size();
+    }
+
+    /**
+     * 활동 중인 사용자의 오늘의 단어를 미리 고르고, 보관 기간이 지난 행을 삭제합니다.
+     */
+    @Scheduled(cron = "${word.daily.cron:0 5 0 * * *}")
+    public void generateForActiveUsers() {
+        long startTime = System.nanoTime();
+        LocalDate today = LocalDate.now();
+
+        List<Long> userIds = studyHistoryRepository.findActiveUserIds(
+                today.minusDays(properties.getActiveDays()).atStartOfDay());
+        int generated = 0;
+        int failed = 0;
+        for (Long userId : userIds) {
+            try {
+                if (generate(userId, today, false) > 0) {
+                    generated++;
+                }
+            } catch (Exception e) {
+                // 한 사용자의 실패로 나머지를 멈추지 않음 (해당 사용자는 조회 시 다시 고름)
+                failed++;
+                log.warn("사용자({})의 오늘의 단어 선택 실패: {}", userId, e.getMessage());
+            }
+        }
+        int purged = dailyPickMapper.deleteBefore(today.minusDays(properties.getRetentionDays()));
+
+        log.info("오늘의 단어 선택 완료: 날짜={}, 대상={}, 생성={}, 실패={}, 삭제된 지난 행={}, 소요={}ms",
+                today, userIds.size(), generated, failed, purged,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+}
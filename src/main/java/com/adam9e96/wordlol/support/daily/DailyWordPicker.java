@@ -0,0 +1,59 @@
+package com.adam9e96.wordlol.support.daily;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 오늘의 단어 선택 규칙
+ * <p>
+ * (사용자 ID, 날짜) 로 시드를 만든 {@link SplittableRandom} 으로 고르므로,
+ * 같은 날 같은 후보라면 몇 번을 다시 골라도 결과가 같습니다.
+ * 최근에 학습하지 않은 단어를 먼저 고르고, 모자라면 최근 학습한 단어로 채웁니다.
+ */
+public final class DailyWordPicker {
+
+    private DailyWordPicker() {
+    }
+
+    /**
+     * 오늘의 단어를 고릅니다.
+     *
+     * @param userId  사용자 ID
+     * @param date    날짜
+     * @param wordIds 사용자의 단어 ID 목록 (ID 오름차순이어야 결과가 같음)
+     * @param recent  최근 학습한 단어 ID
+     * @param size    고를 단어 수
+     * @return 고른 단어 ID (표시 순서)
+     */
+    public static List<Long> pick(Long userId, LocalDate date, List<Long> wordIds, Set<Long> recent, int size) {
+        List<Long> fresh = new ArrayList<>(wordIds.size());
+        List<Long> studied = new ArrayList<>();
+        for (Long id : wordIds) {
+            (recent.contains(id) ? studied : fresh).add(id);
+        }
+
+        SplittableRandom random = new SplittableRandom(seed(userId, date));
+        List<Long> picked = new ArrayList<>(Math.min(size, wordIds.size()));
+        draw(fresh, size, random, picked);
+        draw(studied, size, random, picked);
+        return picked;
+    }
+
+    // 부분 Fisher-Yates: 필요한 개수만큼만 섞어서 앞에서부터 꺼냄
+    private static void draw(List<Long> pool, int size, SplittableRandom random, List<Long> picked) {
+        for (int i = 0; i < pool.size() && picked.size() < size; i++) {
+            int j = i + random.nextInt(pool.size() - i);
+            Long chosen = pool.get(j);
+            pool.set(j, pool.get(i));
+            pool.set(i, chosen);
+            picked.add(chosen);
+        }
+    }
+
+    static long seed(Long userId, LocalDate date) {
+        return userId * 0x9E3779B97F4A7C15L ^ date.toEpochDay();
+    }
+}
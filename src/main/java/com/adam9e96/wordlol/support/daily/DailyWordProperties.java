@@ -0,0 +1,21 @@
+package com.adam9e96.wordlol.support.daily;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오늘의 단어 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "word.daily")
+@Getter
+@Setter
+public class DailyWordProperties {
+    private int size = 5; // 하루에 보여 줄 단어 수
+    private int recentDays = 7; // 이 기간 안에 학습한 단어는 다른 단어가 모자랄 때만 선택
+    private int activeDays = 14; // 이 기간 안에 학습 기록이 있는 사용자만 야간 작업에서 미리 선택
+    private int retentionDays = 7; // 지난 날짜의 선택 결과를 보관하는 기간
+    private String cron = "0 5 0 * * *"; // 야간 작업 실행 시각 (날짜가 바뀐 직후)
+}
@@ -0,0 +1,127 @@
+package com.adam9e96.wordlol.support.db;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션을 동시에 빌릴 수 있는 호출 수를 세마포어로 제한하는 DataSource
+ * <p>
+ * 가상 스레드는 요청 수만큼 만들어지므로, 제한이 없으면 수천 개의 스레드가 한꺼번에 커넥션 풀 대기열에 들어갑니다.
+ * 이 DataSource 는 permits 개까지만 커넥션 풀로 보내고, 나머지는 공정(FIFO) 세마포어에서 기다리게 합니다.
+ * acquireTimeoutMs 안에 허가를 얻지 못하면 {@link SQLTransientConnectionException} 을 던집니다.
+ * 허가는 커넥션의 close() 에서 한 번만 반환됩니다.
+ * <ul>
+ *     <li>jdbc.concurrency.active: 커넥션을 사용 중인 호출 수</li>
+ *     <li>jdbc.concurrency.waiting: 허가를 기다리는 호출 수</li>
+ *     <li>jdbc.concurrency.wait: 허가를 얻기까지 걸린 시간</li>
+ *     <li>jdbc.concurrency.rejected: 시간 초과로 거절된 횟수</li>
+ * </ul>
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore semaphore;
+    private final int permits;
+    private final long acquireTimeoutMs;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public ConcurrencyLimitedDataSource(DataSource target, int permits, long acquireTimeoutMs, MeterRegistry meterRegistry) {
+        super(target);
+        this.semaphore = new Semaphore(permits, true);
+        this.permits = permits;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+
+        Gauge.builder("jdbc.concurrency.active", semaphore, s -> this.permits - s.availablePermits())
+                .description("커넥션을 사용 중인 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("jdbc.concurrency.waiting", semaphore, Semaphore::getQueueLength)
+                .description("커넥션 사용 허가를 기다리는 호출 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("jdbc.concurrency.wait")
+                .description("커넥션 사용 허가를 얻기까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("jdbc.concurrency.rejected")
+                .description("허가 대기 시간 초과로 거절된 횟수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return track(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return track(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    private void acquire() throws SQLException {
+        long started = System.nanoTime();
+        try {
+            if (!semaphore.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejectedCounter.increment();
+                throw new SQLTransientConnectionException(String.format(
+                        "JDBC 동시 사용 한도(%d)를 %dms 안에 얻지 못했습니다. (대기 %d건)",
+                        permits, acquireTimeoutMs, semaphore.getQueueLength()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("커넥션 사용 허가를 기다리는 중 인터럽트되었습니다.", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 커넥션을 얻지 못하면 바로 허가를 반환하고, 얻으면 close() 에서 반환하도록 감쌈
+    private Connection track(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            semaphore.release();
+            throw e;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ConcurrencyLimitedDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    boolean close = "close".equals(method.getName()) && method.getParameterCount() == 0;
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    } finally {
+                        if (close && released.compareAndSet(false, true)) {
+                            semaphore.release();
+                        }
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
@@ -0,0 +1,53 @@
+package com.adam9e96.wordlol.support.db;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서 DataSource 를 {@link ConcurrencyLimitedDataSource} 로 감쌉니다.
+ * <p>
+ * 플랫폼 스레드 모드에서는 Tomcat 스레드 풀 크기가 이미 동시 요청 수를 제한하므로 감싸지 않습니다.
+ * 허가 수를 정하지 않으면 Hikari 커넥션 풀 최대 크기를 사용합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class JdbcConcurrencyLimiter implements BeanPostProcessor {
+
+    // BeanPostProcessor 는 일찍 만들어지므로 의존 빈은 DataSource 를 감쌀 때 꺼냄
+    private final ObjectProvider<JdbcConcurrencyProperties> properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public JdbcConcurrencyLimiter(ObjectProvider<JdbcConcurrencyProperties> properties,
+                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+            return bean;
+        }
+        JdbcConcurrencyProperties settings = properties.getObject();
+        if (!settings.isEnabled()) {
+            return bean;
+        }
+
+        int permits = settings.getPermits() > 0
+                ? settings.getPermits()
+                : bean instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+        log.info("JDBC 동시 사용 제한 적용: {} (허가 {}개, 대기 최대 {}ms)",
+                beanName, permits, settings.getAcquireTimeoutMs());
+        return new ConcurrencyLimitedDataSource(dataSource, permits, settings.getAcquireTimeoutMs(),
+                meterRegistry.getObject());
+    }
+}
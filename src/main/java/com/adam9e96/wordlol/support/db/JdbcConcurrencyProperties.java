@@ -0,0 +1,19 @@
+package com.adam9e96.wordlol.support.db;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * JDBC 커넥션 동시 사용 제한 설정 (가상 스레드 모드에서만 사용)
+ */
+@Component
+@ConfigurationProperties(prefix = "jdbc.concurrency")
+@Getter
+@Setter
+public class JdbcConcurrencyProperties {
+    private boolean enabled = true; // 가상 스레드 모드에서 제한 사용 여부
+    private int permits = 0; // 동시에 커넥션을 쓸 수 있는 요청 수 (0 이면 커넥션 풀 최대 크기)
+    private long acquireTimeoutMs = 10_000; // 허가를 기다리는 최대 시간 (넘으면 SQLTransientConnectionException)
+}
@@ -0,0 +1,188 @@
+package com.adam9e96.wordlol.support.db;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBatis 구문별 실행 시간, 조회 행 수 메트릭 수집기
+ * <p>
+ * Executor 의 query/update 를 가로채 매핑 구문 ID(예: WordMapper.searchWords)를 태그로 기록합니다.
+ * <ul>
+ *     <li>mybatis.statement: 실행 시간 (statement, type, outcome 태그)</li>
+ *     <li>mybatis.statement.rows: SELECT 가 돌려준 행 수 (ResultHandler/Cursor 로 읽는 구문은 제외)</li>
+ *     <li>mybatis.statement.slow: slowThresholdMs 를 넘은 횟수 (SQL 과 바인딩 파라미터는 WARN 로그)</li>
+ * </ul>
+ * /actuator/metrics/mybatis.statement?tag=statement:WordMapper.searchWords 로 확인할 수 있습니다.
+ * Interceptor 빈은 MyBatis 자동 설정이 SqlSessionFactory 에 등록합니다.
+ */
+@Slf4j
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+    // 로그에 남길 SQL 최대 길이
+    private static final int MAX_SQL_LENGTH = 1000;
+
+    private final MeterRegistry meterRegistry;
+    private final StatementMetricsProperties properties;
+    // 구문 ID -> 메트릭 (호출마다 registry 조회를 하지 않도록 보관)
+    private final Map<String, StatementMeters> meters = new ConcurrentHashMap<>();
+
+    public StatementMetricsInterceptor(MeterRegistry meterRegistry, StatementMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement statement = (MappedStatement) args[0];
+        Object parameter = args[1];
+        StatementMeters statementMeters = meters.computeIfAbsent(statement.getId(), id -> new StatementMeters(statement));
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            long elapsed = System.nanoTime() - start;
+            statementMeters.error.record(elapsed, TimeUnit.NANOSECONDS);
+            logIfSlow(statement, parameter, args, elapsed);
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        statementMeters.success.record(elapsed, TimeUnit.NANOSECONDS);
+        // ResultHandler 로 읽는 조회는 결과 목록이 비어 있으므로 행 수를 기록하지 않음
+        if (result instanceof List<?> rows && (args.length < 4 || args[3] == Executor.NO_RESULT_HANDLER)) {
+            statementMeters.rows.record(rows.size());
+        }
+        logIfSlow(statement, parameter, args, elapsed);
+        return result;
+    }
+
+    private void logIfSlow(MappedStatement statement, Object parameter, Object[] args, long elapsedNs) {
+        long thresholdMs = properties.getSlowThresholdMs();
+        if (thresholdMs <= 0 || elapsedNs < TimeUnit.MILLISECONDS.toNanos(thresholdMs)) {
+            return;
+        }
+        StatementMeters statementMeters = meters.get(statement.getId());
+        statementMeters.slow.increment();
+        try {
+            BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : statement.getBoundSql(parameter);
+            log.warn("""
+                    느린 SQL 구문 ====================
+                    >> 구문: {}
+                    >> 실행시간: {}ms
+                    >> SQL: {}
+                    >> 파라미터: {}
+                    """, statementMeters.name, TimeUnit.NANOSECONDS.toMillis(elapsedNs),
+                    abbreviate(boundSql.getSql().replaceAll("\\s+", " "), MAX_SQL_LENGTH),
+                    boundParameters(statement.getConfiguration(), boundSql, parameter));
+        } catch (RuntimeException e) {
+            log.warn("느린 SQL 구문: {} ({}ms), 파라미터 추출 실패: {}", statementMeters.name,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNs), e.getMessage());
+        }
+    }
+
+    // DefaultParameterHandler 와 같은 순서로 바인딩 값을 꺼냄
+    private List<String> boundParameters(Configuration configuration, BoundSql boundSql, Object parameter) {
+        List<ParameterMapping> mappings = boundSql.getParameterMappings();
+        List<String> values = new ArrayList<>(Math.min(mappings.size(), properties.getMaxLoggedParameters()));
+        for (ParameterMapping mapping : mappings) {
+            if (values.size() >= properties.getMaxLoggedParameters()) {
+                values.add("... 외 " + (mappings.size() - properties.getMaxLoggedParameters()) + "개");
+                break;
+            }
+            if (mapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            String property = mapping.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(property)) {
+                value = boundSql.getAdditionalParameter(property);
+            } else if (parameter == null) {
+                value = null;
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+                value = parameter;
+            } else {
+                value = configuration.newMetaObject(parameter).getValue(property);
+            }
+            values.add(abbreviate(String.valueOf(value), properties.getMaxParameterLength()));
+        }
+        return values;
+    }
+
+    private static String abbreviate(String value, int maxLength) {
+        return value.length() <= maxLength ? value : value.substring(0, maxLength) + "...";
+    }
+
+    private final class StatementMeters {
+        private final String name;
+        private final Timer success;
+        private final Timer error;
+        private final DistributionSummary rows;
+        private final Counter slow;
+
+        StatementMeters(MappedStatement statement) {
+            this.name = shortName(statement.getId());
+            String type = statement.getSqlCommandType().name();
+            this.success = timer(type, "success");
+            this.error = timer(type, "error");
+            this.rows = DistributionSummary.builder("mybatis.statement.rows")
+                    .description("SQL 구문이 돌려준 행 수")
+                    .tag("statement", name)
+                    .register(meterRegistry);
+            this.slow = Counter.builder("mybatis.statement.slow")
+                    .description("느린 SQL 구문 실행 횟수")
+                    .tag("statement", name)
+                    .register(meterRegistry);
+        }
+
+        private Timer timer(String type, String outcome) {
+            return Timer.builder("mybatis.statement")
+                    .description("SQL 구문 실행 시간")
+                    .tag("statement", name)
+                    .tag("type", type)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+        }
+
+        // com.adam9e96.wordlol.repository.mybatis.WordMapper.searchWords -> WordMapper.searchWords
+        private static String shortName(String id) {
+            int method = id.lastIndexOf('.');
+            int mapper = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+            return id.substring(mapper + 1);
+        }
+    }
+}
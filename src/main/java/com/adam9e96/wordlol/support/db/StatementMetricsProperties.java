@@ -0,0 +1,19 @@
+package com.adam9e96.wordlol.support.db;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * MyBatis 구문별 메트릭 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "mybatis.metrics")
+@Getter
+@Setter
+public class StatementMetricsProperties {
+    private long slowThresholdMs = 200; // 이 시간 이상 걸린 구문은 SQL 과 바인딩 파라미터를 로그로 남김 (0 이하면 사용 안 함)
+    private int maxLoggedParameters = 20; // 느린 구문 로그에 남길 최대 파라미터 수 (IN 목록 등)
+    private int maxParameterLength = 100; // 파라미터 값 하나의 최대 글자 수
+}
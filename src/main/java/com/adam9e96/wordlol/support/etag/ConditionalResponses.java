@@ -0,0 +1,73 @@
+package com.adam9e96.wordlol.support.etag;
+
+import com.adam9e96.wordlol.common.CurrentUserProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * 사용자 데이터 버전 기반 조건부 GET 응답 생성기
+ * <p>
+ * ETag 는 (epoch, 사용자 ID, 데이터 버전, 요청 URI) 로 만들며, 응답 본문을 조회하기 전에 계산합니다.
+ * If-None-Match 가 일치하면 DB 조회와 직렬화 없이 304 를 반환합니다.
+ * <ul>
+ *     <li>버전을 본문 조회보다 먼저 읽으므로, 본문은 항상 ETag 의 버전과 같거나 더 최신입니다.</li>
+ *     <li>사용자별 응답이므로 Cache-Control 은 private, no-cache 입니다. (매번 재검증)</li>
+ * </ul>
+ */
+@Component
+public class ConditionalResponses {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final UserDataVersions userDataVersions;
+    private final CurrentUserProvider currentUserProvider;
+    private final Counter notModifiedCounter;
+
+    public ConditionalResponses(UserDataVersions userDataVersions,
+                                CurrentUserProvider currentUserProvider,
+                                MeterRegistry meterRegistry) {
+        this.userDataVersions = userDataVersions;
+        this.currentUserProvider = currentUserProvider;
+        this.notModifiedCounter = Counter.builder("http.conditional.not.modified")
+                .description("ETag 가 일치해 본문 조회 없이 304 로 응답한 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 요청의 If-None-Match 를 확인해 304 또는 ETag 가 붙은 200 응답을 만듭니다.
+     *
+     * @param loader 응답 본문 조회 (ETag 가 일치하지 않을 때만 호출)
+     * @return 조건부 응답
+     */
+    public <T> ResponseEntity<T> ok(Supplier<T> loader) {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        String etag = etag(attributes.getRequest());
+
+        ServletWebRequest webRequest = new ServletWebRequest(attributes.getRequest(), attributes.getResponse());
+        if (webRequest.checkNotModified(etag)) {
+            notModifiedCounter.increment();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CACHE_CONTROL).body(loader.get());
+    }
+
+    // 같은 사용자의 다른 리소스 ETag 와 겹치지 않도록 요청 URI 해시를 포함
+    private String etag(HttpServletRequest request) {
+        String uri = request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + "?" + request.getQueryString();
+        Long userId = currentUserProvider.getCurrentUserId();
+        return "\"" + userDataVersions.current(userId) + "-" + Long.toString(userId, 36)
+                + "-" + Integer.toHexString(uri.hashCode()) + "\"";
+    }
+}
@@ -0,0 +1,67 @@
+package com.adam9e96.wordlol.support.etag;
+
+import com.adam9e96.wordlol.event.WordBookChangedEvent;
+import com.adam9e96.wordlol.event.WordChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 데이터 버전 저장소
+ * <p>
+ * 사용자의 단어나 단어장이 바뀔 때마다(커밋 후) 버전을 새 값으로 올립니다.
+ * 버전은 전역 순번에서 받아오므로, 캐시에서 밀려난 사용자를 다시 조회해도 이전 값이 다시 나오지 않습니다.
+ * 재시작 후에도 이전 ETag 와 겹치지 않도록 인스턴스마다 임의의 epoch 를 붙여 사용합니다.
+ */
+@Component
+public class UserDataVersions {
+
+    // 메모리에 보관할 사용자 수 상한
+    private static final long MAXIMUM_CACHED_USERS = 100_000;
+    // 마지막 접근 후 유지하는 시간 (만료되면 새 버전이 발급되어 클라이언트가 한 번 다시 받음)
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+    private final AtomicLong sequence = new AtomicLong();
+
+    // 사용자 ID -> 현재 버전
+    private final Cache<Long, Long> versions = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_CACHED_USERS)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+
+    /**
+     * 사용자의 현재 데이터 버전을 반환합니다. 처음 조회하는 사용자는 새 버전을 발급합니다.
+     *
+     * @param userId 사용자 ID
+     * @return epoch 를 포함한 버전 문자열
+     */
+    public String current(Long userId) {
+        long version = versions.get(userId, id -> sequence.incrementAndGet());
+        return epoch + "-" + Long.toString(version, 36);
+    }
+
+    /**
+     * 사용자의 데이터 버전을 새 값으로 올립니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void bump(Long userId) {
+        versions.put(userId, sequence.incrementAndGet());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWordChanged(WordChangedEvent event) {
+        bump(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWordBookChanged(WordBookChangedEvent event) {
+        bump(event.userId());
+    }
+}
@@ -0,0 +1,47 @@
+package com.adam9e96.wordlol.support.exporter;
+
+import com.adam9e96.wordlol.exception.validation.ValidationException;
+
+import java.util.Locale;
+
+/**
+ * 단어 내보내기 형식
+ * <p>
+ * 두 형식 모두 단어 가져오기(/api/v1/words/import)에 그대로 다시 넣을 수 있습니다.
+ */
+public enum WordExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    WordExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 요청 파라미터로 형식을 결정합니다.
+     *
+     * @param value ndjson 또는 csv (대소문자 무시)
+     * @return 내보내기 형식
+     * @throws ValidationException 지원하지 않는 형식인 경우
+     */
+    public static WordExportFormat from(String value) {
+        for (WordExportFormat format : values()) {
+            if (format.extension.equals(value.toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new ValidationException("지원하지 않는 내보내기 형식입니다: " + value);
+    }
+}
@@ -0,0 +1,31 @@
+package com.adam9e96.wordlol.support.exporter;
+
+import com.adam9e96.wordlol.entity.Word;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기 한 행
+ *
+ * @param id         단어 ID (이어받기에 사용)
+ * @param vocabulary 단어
+ * @param meaning    뜻
+ * @param hint       힌트
+ * @param difficulty 난이도
+ * @param wordBookId 단어장 ID (없으면 null)
+ * @param createdAt  생성 시각
+ */
+public record WordExportRow(Long id, String vocabulary, String meaning, String hint, Integer difficulty,
+                            Long wordBookId, LocalDateTime createdAt) {
+
+    public static WordExportRow from(Word word) {
+        return new WordExportRow(
+                word.getId(),
+                word.getVocabulary(),
+                word.getMeaning(),
+                word.getHint(),
+                word.getDifficulty(),
+                word.getWordBook() != null ? word.getWordBook().getId() : null,
+                word.getCreatedAt());
+    }
+}
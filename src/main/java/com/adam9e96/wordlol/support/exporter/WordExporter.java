@@ -0,0 +1,174 @@
+package com.adam9e96.wordlol.support.exporter;
+
+import com.adam9e96.wordlol.entity.Word;
+import com.adam9e96.wordlol.enums.Category;
+import com.adam9e96.wordlol.repository.mybatis.WordMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 단어 스트리밍 내보내기 처리기
+ * <p>
+ * 단어를 ID 오름차순으로 {@value #CHUNK_SIZE} 건씩 키셋 조회(id > 마지막 ID)해 바로 응답에 기록하므로,
+ * 내보내는 단어 수와 관계없이 메모리 사용량이 일정합니다.
+ * 조회는 구간마다 짧게 끝나고 응답 쓰기는 트랜잭션 밖에서 하므로, 느린 다운로드가 커넥션을 붙잡지 않습니다.
+ * 연결이 끊기면 클라이언트는 마지막으로 받은 ID 를 afterId 로 넘겨 이어받을 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WordExporter {
+
+    private static final String CSV_HEADER = "vocabulary,meaning,hint,difficulty,id,word_book_id,created_at";
+    // 한 번에 조회하는 단어 수 (구간마다 응답을 내보내 클라이언트가 진행 상황을 받도록 함)
+    private static final int CHUNK_SIZE = 1000;
+
+    private final WordMapper wordMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내보내기 본문을 만듭니다. 단어는 응답을 쓰는 시점에 비동기 스레드에서 조회되므로,
+     * 사용자 확인은 요청 스레드에서 미리 끝내야 합니다.
+     *
+     * @param userId     단어 소유자 ID
+     * @param wordBookId 단어장 ID (null 이면 사용자의 모든 단어)
+     * @param afterId    이 ID 이후의 단어만 내보냄 (null 이면 처음부터)
+     * @param format     내보내기 형식
+     * @return 스트리밍 응답 본문
+     */
+    public StreamingResponseBody export(Long userId, Long wordBookId, Long afterId, WordExportFormat format) {
+        return out -> write(userId, wordBookId, null, afterId, format, out);
+    }
+
+    /**
+     * 카테고리에 속한 사용자의 모든 단어장의 단어를 내보내는 본문을 만듭니다.
+     *
+     * @param userId   단어 소유자 ID
+     * @param category 단어장 카테고리
+     * @param afterId  이 ID 이후의 단어만 내보냄 (null 이면 처음부터)
+     * @param format   내보내기 형식
+     * @return 스트리밍 응답 본문
+     */
+    public StreamingResponseBody exportByCategory(Long userId, Category category, Long afterId, WordExportFormat format) {
+        return out -> write(userId, null, category, afterId, format, out);
+    }
+
+    /**
+     * 내보내기 본문에 파일 이름, 형식, 압축 헤더를 붙입니다.
+     *
+     * @param body     내보내기 본문
+     * @param format   내보내기 형식
+     * @param gzip     gzip 압축 여부
+     * @param fileName 내려받을 파일 이름 (확장자 제외)
+     * @return 스트리밍 응답
+     */
+    public static ResponseEntity<StreamingResponseBody> toResponse(StreamingResponseBody body, WordExportFormat format,
+                                                                   boolean gzip, String fileName) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(new MediaType(MediaType.parseMediaType(format.getMediaType()), StandardCharsets.UTF_8));
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(fileName + "." + format.getExtension())
+                .build());
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!gzip) {
+            return ResponseEntity.ok().headers(headers).body(body);
+        }
+
+        headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return ResponseEntity.ok().headers(headers).body(out -> {
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+            body.writeTo(gzipOut);
+            gzipOut.finish();
+        });
+    }
+
+    /**
+     * Accept-Encoding 헤더에 gzip 이 포함되어 있는지 확인합니다.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    private void write(Long userId, Long wordBookId, Category category, Long afterId, WordExportFormat format,
+                       OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == WordExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        // 구간마다 짧은 쿼리로 읽고, 응답 쓰기는 커넥션을 돌려준 뒤에 함 (느린 클라이언트가 커넥션을 붙잡지 않도록)
+        long count = 0;
+        Long lastId = afterId;
+        try {
+            while (true) {
+                List<Word> chunk = wordMapper.findChunkForExport(userId, wordBookId, category, lastId, CHUNK_SIZE);
+                for (Word word : chunk) {
+                    writeRow(writer, format, WordExportRow.from(word));
+                }
+                count += chunk.size();
+                if (chunk.size() < CHUNK_SIZE) {
+                    break;
+                }
+                lastId = chunk.get(chunk.size() - 1).getId();
+                writer.flush();
+            }
+        } catch (IOException e) {
+            // 대부분 클라이언트 연결 종료: afterId 로 이어받을 수 있음
+            log.info("사용자({})의 단어 내보내기 중단: {}", userId, e.getMessage());
+            return;
+        }
+        writer.flush();
+        log.info("사용자({})의 단어 {}건 내보내기 완료 (단어장={}, 카테고리={}, afterId={})",
+                userId, count, wordBookId, category, afterId);
+    }
+
+    private void writeRow(Writer writer, WordExportFormat format, WordExportRow row) throws IOException {
+        if (format == WordExportFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(row));
+        } else {
+            writer.write(csv(row.vocabulary()));
+            writer.write(',');
+            writer.write(csv(row.meaning()));
+            writer.write(',');
+            writer.write(csv(row.hint()));
+            writer.write(',');
+            writer.write(String.valueOf(row.difficulty()));
+            writer.write(',');
+            writer.write(String.valueOf(row.id()));
+            writer.write(',');
+            writer.write(row.wordBookId() != null ? row.wordBookId().toString() : "");
+            writer.write(',');
+            writer.write(row.createdAt() != null ? row.createdAt().toString() : "");
+        }
+        writer.write('\n');
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있는 값만 따옴표로 감쌈
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,309 @@
+package com.adam9e96.wordlol.support.history;
+
+import com.adam9e96.wordlol.repository.mybatis.StudyHistoryMapper;
+import com.adam9e96.wordlol.support.stats.DailyStatsRollup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학습 기록(study_history) 쓰기 지연(write-behind) 처리기
+ * <p>
+ * 정답 확인 요청은 기록을 메모리 큐에 넣기만 하고 바로 응답합니다.
+ * 백그라운드 스레드가 batchSize 개가 모이거나 첫 기록 이후 flushIntervalMs 가 지나면
+ * 다중 행 INSERT 한 번으로 저장하고, 같은 트랜잭션에서 일일 학습 통계에 반영합니다.
+ * <ul>
+ *     <li>큐가 가득 차면 offerTimeoutMs 만큼 기다린 뒤, 그래도 자리가 없으면 호출 스레드가 직접 저장합니다 (back-pressure).</li>
+ *     <li>종료 시 웹 서버가 멈춘 다음 큐에 남은 기록을 모두 저장합니다.</li>
+ *     <li>저장에 실패하면 배치를 반씩 나눠 다시 저장하므로, 버려지는 것은 저장할 수 없는 기록뿐입니다.
+ *     커넥션 획득 실패 같은 일시 오류는 maxRetries 번 재시도한 뒤 큐에 되돌립니다.
+ *     종료 중에도 되돌리므로 마지막 저장(drainAll)에서 다시 시도됩니다.</li>
+ *     <li>큐 길이, 저장 소요 시간, 배치 크기, back-pressure, 재시도, 버린 기록 수를 메트릭으로 노출합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class StudyHistoryWriter implements SmartLifecycle {
+
+    // 웹 서버(graceful shutdown 포함)가 먼저 멈춘 뒤 큐를 비우도록 더 낮은 phase 사용
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    // 종료 시 저장 중인 배치가 끝나기를 기다리는 시간 (넘기면 인터럽트)
+    private static final long STOP_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(30);
+
+    private final StudyHistoryMapper studyHistoryMapper;
+    private final StudyHistoryWriterProperties properties;
+    private final DailyStatsRollup dailyStatsRollup;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<StudyRecord> queue;
+
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter backPressureCounter;
+    private final Counter failureCounter;
+    private final Counter retryCounter;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public StudyHistoryWriter(StudyHistoryMapper studyHistoryMapper,
+                              StudyHistoryWriterProperties properties,
+                              DailyStatsRollup dailyStatsRollup,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry) {
+        this.studyHistoryMapper = studyHistoryMapper;
+        this.properties = properties;
+        this.dailyStatsRollup = dailyStatsRollup;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(properties.getCapacity());
+
+        Gauge.builder("study.history.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 학습 기록 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("study.history.flush")
+                .description("학습 기록 일괄 저장 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("study.history.flush.size")
+                .description("일괄 저장 한 번에 저장된 기록 수")
+                .register(meterRegistry);
+        this.backPressureCounter = Counter.builder("study.history.backpressure")
+                .description("큐가 가득 차 호출 스레드가 직접 저장한 횟수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("study.history.flush.failures")
+                .description("저장하지 못하고 버린 기록 수")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("study.history.flush.retries")
+                .description("일시 오류로 일괄 저장을 다시 시도한 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 학습 기록을 저장 큐에 넣습니다.
+     *
+     * @param record 학습 기록
+     */
+    public void record(StudyRecord record) {
+        if (!running) {
+            // 시작 전이거나 종료 중이면 바로 저장
+            flush(List.of(record));
+            return;
+        }
+        try {
+            if (queue.offer(record, properties.getOfferTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 큐가 가득 찬 경우: 큐에서 한 배치를 꺼내 이번 기록과 함께 호출 스레드에서 저장
+        backPressureCounter.increment();
+        List<StudyRecord> batch = new ArrayList<>(properties.getBatchSize());
+        queue.drainTo(batch, properties.getBatchSize() - 1);
+        batch.add(record);
+        flush(batch);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "study-history-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("학습 기록 쓰기 지연 처리기 시작 (batchSize={}, flushIntervalMs={})",
+                properties.getBatchSize(), properties.getFlushIntervalMs());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            try {
+                // 저장 중인 배치는 끝까지 저장하도록 먼저 기다리고, 시간 안에 끝나지 않을 때만 인터럽트
+                flusher.join(STOP_TIMEOUT_MS);
+                if (flusher.isAlive()) {
+                    flusher.interrupt();
+                    flusher.join(STOP_TIMEOUT_MS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 스레드가 끝난 뒤에도 남은 기록이 있으면 모두 저장
+        drainAll();
+        log.info("학습 기록 쓰기 지연 처리기 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void runFlushLoop() {
+        List<StudyRecord> batch = new ArrayList<>(properties.getBatchSize());
+        while (running) {
+            try {
+                // 1. 첫 기록을 기다림
+                StudyRecord first = queue.poll(properties.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 2. batchSize 가 찰 때까지, 최대 flushIntervalMs 동안 더 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs());
+                while (batch.size() < properties.getBatchSize()) {
+                    if (queue.drainTo(batch, properties.getBatchSize() - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    StudyRecord next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                // 3. 저장
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                // 종료 신호: 모은 기록은 저장하고 루프 종료
+                flush(batch);
+                batch.clear();
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 큐에 남은 기록을 모두 저장합니다.
+     * 일시 오류로 되돌아온 기록도 다시 꺼내 저장하고, 되돌아오는 배치가 maxRetries 번을 넘으면
+     * DB 가 복구되지 않은 것으로 보고 남은 기록을 버립니다. (종료가 끝나지 않는 것을 막음)
+     */
+    private void drainAll() {
+        List<StudyRecord> batch = new ArrayList<>(properties.getBatchSize());
+        int failedFlushes = 0;
+        while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+            int requeued = flush(batch);
+            batch.clear();
+            if (requeued > 0 && ++failedFlushes > properties.getMaxRetries()) {
+                List<StudyRecord> remaining = new ArrayList<>();
+                queue.drainTo(remaining);
+                failureCounter.increment(remaining.size());
+                log.error("종료 중 일시 오류가 계속되어 학습 기록 {}건을 버립니다.", remaining.size());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 배치 하나를 저장합니다. (테스트에서 큐를 거치지 않고 호출)
+     *
+     * @return 일시 오류로 큐에 되돌린 기록 수
+     */
+    int flush(List<StudyRecord> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        return flushTimer.record(() -> flushOrSplit(batch));
+    }
+
+    /**
+     * 저장에 실패하면 배치를 반으로 나눠 다시 저장해 문제가 되는 기록만 버립니다.
+     * (예: 큐에 있는 동안 단어가 삭제되어 외래 키 위반이 나는 기록)
+     * 일시적인 DB 오류는 나누지 않고 재시도한 뒤 큐에 되돌립니다.
+     */
+    private int flushOrSplit(List<StudyRecord> batch) {
+        try {
+            insertWithRetry(batch);
+            batchSizeSummary.record(batch.size());
+            return 0;
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                return requeue(batch, e);
+            }
+            if (batch.size() == 1) {
+                failureCounter.increment();
+                log.warn("저장할 수 없는 학습 기록 1건을 버립니다: {} ({})", batch.get(0), e.getMessage());
+                return 0;
+            }
+            int middle = batch.size() / 2;
+            return flushOrSplit(batch.subList(0, middle)) + flushOrSplit(batch.subList(middle, batch.size()));
+        }
+    }
+
+    private void insertWithRetry(List<StudyRecord> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    studyHistoryMapper.batchInsert(batch);
+                    dailyStatsRollup.apply(batch);
+                });
+                return;
+            } catch (RuntimeException e) {
+                if (!isTransient(e) || attempt > properties.getMaxRetries()) {
+                    throw e;
+                }
+                retryCounter.increment();
+                try {
+                    TimeUnit.MILLISECONDS.sleep(properties.getRetryBackoffMs() * attempt);
+                } catch (InterruptedException interrupted) {
+                    // 종료 중이면 더 기다리지 않음
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // 재시도해도 실패한 일시 오류: 큐에 되돌리고 (종료 중이면 drainAll 이 다시 저장), 자리가 없으면 버림
+    private int requeue(List<StudyRecord> batch, RuntimeException e) {
+        int requeued = 0;
+        for (StudyRecord record : batch) {
+            if (!queue.offer(record)) {
+                break;
+            }
+            requeued++;
+        }
+        int dropped = batch.size() - requeued;
+        if (dropped > 0) {
+            failureCounter.increment(dropped);
+        }
+        log.error("학습 기록 저장 중 일시 오류 발생 - 다시 대기: {}건, 버림: {}건, 오류: {}",
+                requeued, dropped, e.getMessage(), e);
+        return requeued;
+    }
+
+    private static boolean isTransient(Throwable e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+}
@@ -0,0 +1,22 @@
+package com.adam9e96.wordlol.support.history;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 학습 기록 쓰기 지연(write-behind) 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "study.history.write-behind")
+@Getter
+@Setter
+public class StudyHistoryWriterProperties {
+    private int capacity = 10_000; // 큐에 보관할 최대 기록 수
+    private int batchSize = 500; // 한 번에 INSERT 할 최대 기록 수
+    private long flushIntervalMs = 200; // 첫 기록이 들어온 뒤 최대 대기 시간
+    private long offerTimeoutMs = 50; // 큐가 가득 찼을 때 대기할 시간 (초과 시 호출 스레드가 직접 기록)
+    private int maxRetries = 3; // 일시 오류 시 다시 시도할 횟수 (모두 실패하면 큐에 되돌림)
+    private long retryBackoffMs = 100; // 재시도 간격 (시도마다 배수로 증가)
+}
@@ -0,0 +1,20 @@
+package com.adam9e96.wordlol.support.history;
+
+import java.time.LocalDateTime;
+
+/**
+ * study_history 테이블에 기록할 학습 결과 한 건
+ * 엔티티 없이 ID 값만 담아 쓰기 지연 큐에 넣습니다.
+ *
+ * @param userId         사용자 ID
+ * @param wordId         단어 ID
+ * @param correct        정답 여부
+ * @param studyTime      학습 시각
+ * @param responseTimeMs 응답 시간 (없으면 null)
+ */
+public record StudyRecord(Long userId, Long wordId, boolean correct, LocalDateTime studyTime, Long responseTimeMs) {
+
+    public static StudyRecord of(Long userId, Long wordId, boolean correct) {
+        return new StudyRecord(userId, wordId, correct, LocalDateTime.now(), null);
+    }
+}
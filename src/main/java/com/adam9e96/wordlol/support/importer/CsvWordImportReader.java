@@ -0,0 +1,124 @@
+package com.adam9e96.wordlol.support.importer;
+
+import com.adam9e96.wordlol.dto.request.WordRequest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 형식 리더
+ * <p>
+ * 열 순서는 vocabulary, meaning, hint, difficulty 입니다. 첫 행이 헤더이면 건너뜁니다.
+ * 큰따옴표로 감싼 값(쉼표, 줄바꿈, "" 이스케이프 포함)을 지원하며,
+ * 한 값은 최대 {@link #MAX_FIELD_LENGTH} 자까지만 보관해 비정상적으로 긴 행도 메모리를 늘리지 않습니다.
+ */
+class CsvWordImportReader implements WordImportReader {
+
+    private static final String HEADER_FIRST_COLUMN = "vocabulary";
+    // 검증 단계에서 길이 초과로 걸러지도록 최대 길이(100)보다 조금 더 보관
+    static final int MAX_FIELD_LENGTH = 1000;
+
+    private final Reader reader;
+    private boolean firstRecord = true;
+    private int row;
+
+    CsvWordImportReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        List<String> fields;
+        while ((fields = readRecord()) != null) {
+            if (firstRecord) {
+                firstRecord = false;
+                if (HEADER_FIRST_COLUMN.equalsIgnoreCase(fields.get(0).trim())) {
+                    continue;
+                }
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            row++;
+            return toRow(fields);
+        }
+        return null;
+    }
+
+    private ImportRow toRow(List<String> fields) {
+        if (fields.size() < 2) {
+            return ImportRow.malformed(row, "열 개수가 부족합니다. (vocabulary,meaning,hint,difficulty)");
+        }
+        String hint = fields.size() > 2 && !fields.get(2).isBlank() ? fields.get(2).trim() : null;
+        Integer difficulty = null;
+        if (fields.size() > 3 && !fields.get(3).isBlank()) {
+            try {
+                difficulty = Integer.valueOf(fields.get(3).trim());
+            } catch (NumberFormatException e) {
+                return ImportRow.malformed(row, "난이도는 숫자여야 합니다.");
+            }
+        }
+        return ImportRow.parsed(row, new WordRequest(null, fields.get(0).trim(), fields.get(1).trim(), hint, difficulty));
+    }
+
+    /**
+     * 레코드 하나를 읽습니다. 따옴표 안의 줄바꿈은 값의 일부로 취급합니다.
+     *
+     * @return 값 목록 (입력이 끝났으면 null)
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        if (firstRecord && c == '\uFEFF') {
+            // UTF-8 BOM 제거
+            c = reader.read();
+        }
+
+        List<String> fields = new ArrayList<>(4);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    // 닫히지 않은 따옴표는 입력 끝에서 닫힌 것으로 처리
+                    quoted = false;
+                    continue;
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                append(field, c);
+            } else if (c == -1 || c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c != '\r') {
+                append(field, c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private static void append(StringBuilder field, int c) {
+        if (field.length() < MAX_FIELD_LENGTH) {
+            field.append((char) c);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
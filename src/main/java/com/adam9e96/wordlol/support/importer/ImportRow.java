@@ -0,0 +1,21 @@
+package com.adam9e96.wordlol.support.importer;
+
+import com.adam9e96.wordlol.dto.request.WordRequest;
+
+/**
+ * 가져오기 파일에서 읽은 한 행
+ *
+ * @param row     행 번호 (1부터, 헤더 제외)
+ * @param request 읽은 단어 (해석에 실패하면 null)
+ * @param error   해석 오류 메시지 (성공하면 null)
+ */
+record ImportRow(int row, WordRequest request, String error) {
+
+    static ImportRow parsed(int row, WordRequest request) {
+        return new ImportRow(row, request, null);
+    }
+
+    static ImportRow malformed(int row, String error) {
+        return new ImportRow(row, null, error);
+    }
+}
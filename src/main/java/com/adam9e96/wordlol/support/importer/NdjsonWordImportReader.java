@@ -0,0 +1,81 @@
+package com.adam9e96.wordlol.support.importer;
+
+import com.adam9e96.wordlol.dto.request.WordRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * NDJSON 형식 리더 (한 줄에 WordRequest JSON 하나, 빈 줄은 무시)
+ * <p>
+ * 한 줄은 최대 {@link #MAX_LINE_LENGTH} 자까지만 보관하고, 넘는 줄은 나머지를 읽어 버린 뒤 오류 행으로 처리합니다.
+ */
+class NdjsonWordImportReader implements WordImportReader {
+
+    // 네 필드가 모두 CSV 의 최대 필드 길이여도 들어가는 길이
+    static final int MAX_LINE_LENGTH = 8 * 1024;
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final StringBuilder line = new StringBuilder();
+    private boolean tooLong;
+    private int row;
+
+    NdjsonWordImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        while (readLine()) {
+            if (!tooLong && line.toString().isBlank()) {
+                continue;
+            }
+            row++;
+            if (tooLong) {
+                return ImportRow.malformed(row, "한 줄이 너무 깁니다. (최대 " + MAX_LINE_LENGTH + "자)");
+            }
+            try {
+                WordRequest request = objectMapper.readValue(line.toString(), WordRequest.class);
+                // "null" 한 줄은 예외 없이 null 로 해석됨
+                if (request == null) {
+                    return ImportRow.malformed(row, "단어 객체가 아닙니다.");
+                }
+                return ImportRow.parsed(row, request);
+            } catch (JsonProcessingException e) {
+                return ImportRow.malformed(row, "JSON 형식이 올바르지 않습니다.");
+            }
+        }
+        return null;
+    }
+
+    // 줄 끝까지 읽되 MAX_LINE_LENGTH 자까지만 보관 (파일 끝이면 false)
+    private boolean readLine() throws IOException {
+        line.setLength(0);
+        tooLong = false;
+        int c = reader.read();
+        if (c == -1) {
+            return false;
+        }
+        while (c != -1 && c != '\n') {
+            if (line.length() < MAX_LINE_LENGTH) {
+                line.append((char) c);
+            } else {
+                tooLong = true;
+            }
+            c = reader.read();
+        }
+        if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,43 @@
+package com.adam9e96.wordlol.support.importer;
+
+import com.adam9e96.wordlol.exception.validation.ValidationException;
+import org.springframework.http.MediaType;
+
+/**
+ * 단어 가져오기 요청 본문 형식
+ */
+public enum WordImportFormat {
+    // 한 줄에 WordRequest JSON 하나
+    NDJSON("application/x-ndjson"),
+    // vocabulary,meaning,hint,difficulty 순서의 CSV (첫 줄 헤더는 선택)
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    WordImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * 요청의 Content-Type 으로 형식을 결정합니다.
+     *
+     * @param contentType 요청 Content-Type (charset 등 파라미터 포함 가능)
+     * @return 가져오기 형식
+     * @throws ValidationException 지원하지 않는 형식인 경우
+     */
+    public static WordImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for (WordImportFormat format : values()) {
+                if (MediaType.parseMediaType(format.mediaType).equalsTypeAndSubtype(requested)) {
+                    return format;
+                }
+            }
+        }
+        throw new ValidationException("지원하지 않는 가져오기 형식입니다: " + contentType);
+    }
+}
@@ -0,0 +1,17 @@
+package com.adam9e96.wordlol.support.importer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단어 대량 가져오기 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "word.import")
+@Getter
+@Setter
+public class WordImportProperties {
+    private int chunkSize = 1000; // 한 번에 검증, 중복 확인, 저장할 행 수
+}
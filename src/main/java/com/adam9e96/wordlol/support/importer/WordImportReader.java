@@ -0,0 +1,33 @@
+package com.adam9e96.wordlol.support.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청 본문에서 단어를 한 행씩 읽는 리더
+ * <p>
+ * 본문 전체를 메모리에 올리지 않으며, 형식이 잘못된 행은 예외 대신 오류가 담긴 {@link ImportRow} 로 돌려줍니다.
+ */
+interface WordImportReader extends Closeable {
+
+    /**
+     * 다음 행을 읽습니다.
+     *
+     * @return 읽은 행 (더 이상 없으면 null)
+     */
+    ImportRow next() throws IOException;
+
+    static WordImportReader open(WordImportFormat format, InputStream in, ObjectMapper objectMapper) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        return switch (format) {
+            case NDJSON -> new NdjsonWordImportReader(reader, objectMapper);
+            case CSV -> new CsvWordImportReader(reader);
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.adam9e96.wordlol.support.importer;
+
+/**
+ * 가져오기 행별 처리 결과 (응답 본문에 한 줄씩 기록)
+ *
+ * @param row        행 번호 (1부터, 헤더 제외)
+ * @param status     처리 결과
+ * @param vocabulary 단어 (읽지 못했으면 null)
+ * @param message    실패 사유 (성공하면 null)
+ */
+public record WordImportResult(int row, Status status, String vocabulary, String message) {
+
+    public enum Status {
+        CREATED,
+        // 이미 등록되어 있거나 같은 파일에 먼저 나온 단어
+        DUPLICATE,
+        // 형식 또는 입력값 검증 실패
+        INVALID,
+        // 저장 중 오류
+        FAILED
+    }
+}
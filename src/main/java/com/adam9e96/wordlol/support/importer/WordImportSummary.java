@@ -0,0 +1,13 @@
+package com.adam9e96.wordlol.support.importer;
+
+/**
+ * 가져오기 전체 결과 (응답 본문의 마지막 줄)
+ *
+ * @param total      읽은 행 수
+ * @param created    저장된 단어 수
+ * @param duplicates 중복으로 건너뛴 단어 수
+ * @param invalid    검증에 실패한 행 수
+ * @param failed     저장 중 오류가 난 행 수
+ */
+public record WordImportSummary(long total, long created, long duplicates, long invalid, long failed) {
+}
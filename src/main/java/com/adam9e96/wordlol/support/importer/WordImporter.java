@@ -0,0 +1,195 @@
+package com.adam9e96.wordlol.support.importer;
+
+import com.adam9e96.wordlol.dto.request.WordRequest;
+import com.adam9e96.wordlol.entity.User;
+import com.adam9e96.wordlol.entity.Word;
+import com.adam9e96.wordlol.event.WordChangedEvent;
+import com.adam9e96.wordlol.exception.validation.ValidationException;
+import com.adam9e96.wordlol.repository.mybatis.WordMapper;
+import com.adam9e96.wordlol.support.importer.WordImportResult.Status;
+import com.adam9e96.wordlol.validator.WordValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 단어 대량 가져오기 처리기
+ * <p>
+ * 요청 본문을 한 행씩 읽어 chunkSize 단위로 처리하므로, 파일 크기와 관계없이 메모리 사용량이 일정합니다.
+ * <ol>
+ *     <li>청크 안의 행을 검증하고, 같은 청크 안의 중복 단어를 걸러냅니다.</li>
+ *     <li>남은 단어를 IN 조회 한 번으로 기존 단어와 비교합니다. (대소문자 무시)</li>
+ *     <li>새 단어를 다중 행 INSERT 한 번으로 저장합니다. 청크마다 별도 트랜잭션입니다.</li>
+ *     <li>청크의 행별 결과를 NDJSON 으로 응답에 기록하고 바로 내보냅니다.</li>
+ * </ol>
+ * 응답의 마지막 줄은 {"summary": {...}} 형태의 전체 결과입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WordImporter {
+
+    private final WordMapper wordMapper;
+    private final WordValidator wordValidator;
+    private final WordImportProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 요청 본문의 단어를 가져오고 행별 결과를 응답 본문에 기록합니다.
+     *
+     * @param user   단어 소유자 (ID 만 사용)
+     * @param format 요청 본문 형식
+     * @param in     요청 본문
+     * @param out    응답 본문
+     * @return 전체 결과
+     */
+    public WordImportSummary importWords(User user, WordImportFormat format, InputStream in, OutputStream out) throws IOException {
+        Tally tally = new Tally();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        try (WordImportReader reader = WordImportReader.open(format, in, objectMapper)) {
+            List<ImportRow> chunk = new ArrayList<>(properties.getChunkSize());
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() >= properties.getChunkSize()) {
+                    writeResults(writer, processChunk(user, chunk), tally);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeResults(writer, processChunk(user, chunk), tally);
+            }
+        }
+
+        WordImportSummary summary = tally.toSummary();
+        writer.write(objectMapper.writeValueAsString(Map.of("summary", summary)));
+        writer.write('\n');
+        writer.flush();
+        log.info("단어 가져오기 완료: 사용자={}, 결과={}", user.getId(), summary);
+        return summary;
+    }
+
+    private List<WordImportResult> processChunk(User user, List<ImportRow> chunk) {
+        WordImportResult[] results = new WordImportResult[chunk.size()];
+
+        // 1. 검증 및 청크 안의 중복 제거 (소문자 단어 -> 청크 내 위치)
+        Map<String, Integer> candidates = new HashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            ImportRow row = chunk.get(i);
+            if (row.error() != null) {
+                results[i] = new WordImportResult(row.row(), Status.INVALID, null, row.error());
+                continue;
+            }
+            WordRequest request = row.request();
+            try {
+                wordValidator.validate(request);
+            } catch (ValidationException e) {
+                results[i] = new WordImportResult(row.row(), Status.INVALID, request.vocabulary(), e.getMessage());
+                continue;
+            }
+            if (candidates.putIfAbsent(request.vocabulary().toLowerCase(Locale.ROOT), i) != null) {
+                results[i] = new WordImportResult(row.row(), Status.DUPLICATE, request.vocabulary(), "파일 안에 같은 단어가 있습니다.");
+            }
+        }
+        if (candidates.isEmpty()) {
+            return List.of(results);
+        }
+
+        // 2. 기존 단어와 중복 확인 (청크당 쿼리 한 번)
+        Set<String> existing = new HashSet<>(
+                wordMapper.findExistingVocabularies(user.getId(), List.copyOf(candidates.keySet())));
+
+        List<Word> words = new ArrayList<>(candidates.size());
+        List<Integer> positions = new ArrayList<>(candidates.size());
+        candidates.forEach((vocabulary, i) -> {
+            WordRequest request = chunk.get(i).request();
+            if (existing.contains(vocabulary)) {
+                results[i] = new WordImportResult(chunk.get(i).row(), Status.DUPLICATE, request.vocabulary(),
+                        "이미 존재하는 단어입니다.");
+                return;
+            }
+            words.add(Word.builder()
+                    .vocabulary(request.vocabulary())
+                    .meaning(request.meaning())
+                    .hint(request.hint())
+                    .difficulty(request.difficulty())
+                    .user(user)
+                    .build());
+            positions.add(i);
+        });
+
+        // 3. 새 단어 일괄 저장
+        Status status = Status.CREATED;
+        String message = null;
+        if (!words.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(tx -> {
+                    wordMapper.batchSave(words);
+                    eventPublisher.publishEvent(WordChangedEvent.created(user.getId(), words.size()));
+                });
+            } catch (Exception e) {
+                log.error("단어 가져오기 중 {}건 저장 실패: {}", words.size(), e.getMessage(), e);
+                status = Status.FAILED;
+                message = "저장 중 오류가 발생했습니다.";
+            }
+        }
+        for (int i : positions) {
+            ImportRow row = chunk.get(i);
+            results[i] = new WordImportResult(row.row(), status, row.request().vocabulary(), message);
+        }
+        return List.of(results);
+    }
+
+    private void writeResults(Writer writer, List<WordImportResult> results, Tally tally) throws IOException {
+        for (WordImportResult result : results) {
+            tally.add(result.status());
+            writer.write(objectMapper.writeValueAsString(result));
+            writer.write('\n');
+        }
+        // 청크 단위로 클라이언트에 진행 상황 전달
+        writer.flush();
+    }
+
+    private static final class Tally {
+        private long total;
+        private long created;
+        private long duplicates;
+        private long invalid;
+        private long failed;
+
+        void add(Status status) {
+            total++;
+            switch (status) {
+                case CREATED -> created++;
+                case DUPLICATE -> duplicates++;
+                case INVALID -> invalid++;
+                case FAILED -> failed++;
+            }
+        }
+
+        WordImportSummary toSummary() {
+            return new WordImportSummary(total, created, duplicates, invalid, failed);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.adam9e96.wordlol.support.random;
+
+import com.adam9e96.wordlol.event.WordChangedEvent;
+import com.adam9e96.wordlol.repository.mybatis.WordMapper;
+import com.adam9e96.wordlol.support.cache.ChangeStamps;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ORDER BY RAND() 없이 단어 ID를 균등하게 무작위 추출하는 샘플러
+ * <p>
+ * 사용자별 단어 ID 배열을 메모리에 유지하고, 배열 인덱스를 무작위로 골라 ID를 추출합니다.
+ * 배열은 처음 요청될 때 (user_id, id) 인덱스만 읽어서 만들고 ({@code SELECT id FROM word WHERE user_id = ?}),
+ * 이후에는 {@link WordChangedEvent} 를 받아 추가/삭제분만 반영합니다.
+ * 추출된 ID의 실제 행은 호출 측에서 PK 로 조회합니다.
+ * <p>
+ * 사용자 단어가 하나도 없을 때 사용하는 전체 단어 추출은 PK 범위 안에서 무작위 ID를 찍어 보고,
+ * 삭제로 비어 있는 ID는 다시 뽑는 방식으로 동작합니다.
+ */
+@Slf4j
+@Component
+public class WordIdSampler {
+
+    // 메모리에 보관할 전체 ID 개수 상한 (약 8바이트 * 5,000,000 = 40MB)
+    private static final long MAXIMUM_CACHED_IDS = 5_000_000;
+    // 마지막 접근 후 캐시를 유지하는 시간
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(30);
+    // 전체 단어 추출 시 빈 ID 를 만났을 때 다시 시도하는 횟수
+    private static final int GLOBAL_PROBE_ROUNDS = 4;
+    // 전체 단어 추출 시 필요한 개수 대비 후보 ID 배수
+    private static final int GLOBAL_PROBE_FACTOR = 4;
+
+    private final WordMapper wordMapper;
+    private final Cache<Long, UserWordIds> cache;
+    private final ChangeStamps changeStamps = new ChangeStamps();
+
+    public WordIdSampler(WordMapper wordMapper) {
+        this.wordMapper = wordMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(MAXIMUM_CACHED_IDS)
+                .weigher((Long userId, UserWordIds ids) -> Math.max(1, ids.size()))
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+                .build();
+    }
+
+    /**
+     * 사용자의 단어 수를 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 단어 수
+     */
+    public int size(Long userId) {
+        return getIds(userId).size();
+    }
+
+    /**
+     * 사용자의 단어 ID 중 서로 다른 ID를 최대 limit 개 무작위로 추출합니다.
+     *
+     * @param userId 사용자 ID
+     * @param limit  추출할 개수
+     * @return 추출된 단어 ID 목록 (추출 순서 = 무작위 순서)
+     */
+    public List<Long> sample(Long userId, int limit) {
+        return getIds(userId).sample(limit);
+    }
+
+    /**
+     * 모든 사용자의 단어 중에서 서로 다른 ID를 최대 limit 개 무작위로 추출합니다.
+     * PK 범위 [MIN(id), MAX(id)] 에서 후보 ID를 뽑아 실제로 존재하는 ID만 사용하고,
+     * 부족하면 다시 뽑습니다. 존재하는 모든 ID가 같은 확률로 선택됩니다.
+     *
+     * @param limit 추출할 개수
+     * @return 추출된 단어 ID 목록
+     */
+    public List<Long> sampleGlobal(int limit) {
+        Long minId = wordMapper.findMinId();
+        Long maxId = wordMapper.findMaxId();
+        if (minId == null || maxId == null || limit <= 0) {
+            return List.of();
+        }
+
+        long span = maxId - minId + 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<Long> picked = new LinkedHashSet<>();
+
+        for (int round = 0; round < GLOBAL_PROBE_ROUNDS && picked.size() < limit; round++) {
+            // 1. 삭제로 비어 있는 ID 를 감안해 필요한 개수보다 넉넉하게 후보 생성
+            int candidateCount = (int) Math.min(span, (long) (limit - picked.size()) * GLOBAL_PROBE_FACTOR);
+            Set<Long> candidates = new HashSet<>(candidateCount * 2);
+            while (candidates.size() < candidateCount) {
+                candidates.add(minId + random.nextLong(span));
+            }
+
+            // 2. PK 로 존재 여부 확인 후, ID 순서 편향이 없도록 섞어서 채움
+            List<Long> existing = new ArrayList<>(wordMapper.findExistingIds(new ArrayList<>(candidates)));
+            Collections.shuffle(existing, random);
+            for (Long id : existing) {
+                if (picked.size() >= limit) {
+                    break;
+                }
+                picked.add(id);
+            }
+        }
+        return new ArrayList<>(picked);
+    }
+
+    /**
+     * 사용자의 ID 배열을 버리고 다음 요청 때 다시 만들도록 합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * 단어 변경 이벤트를 받아 메모리의 ID 배열을 갱신합니다.
+     * 트랜잭션 안에서 발행된 경우 커밋 이후에 반영됩니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWordChanged(WordChangedEvent event) {
+        changeStamps.touch(event.userId());
+        switch (event.type()) {
+            case CREATED -> {
+                if (event.hasWordIds()) {
+                    cache.asMap().computeIfPresent(event.userId(), (userId, ids) -> ids.addAll(event.wordIds()));
+                } else {
+                    invalidate(event.userId());
+                }
+            }
+            case DELETED -> {
+                if (event.hasWordIds()) {
+                    cache.asMap().computeIfPresent(event.userId(), (userId, ids) -> ids.removeAll(event.wordIds()));
+                } else {
+                    invalidate(event.userId());
+                }
+            }
+            case RESET -> invalidate(event.userId());
+            case UPDATED -> {
+                // ID 집합은 변하지 않음
+            }
+        }
+    }
+
+    private UserWordIds getIds(Long userId) {
+        UserWordIds cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        // ID 조회는 캐시 잠금 밖에서 실행 (로더 안에서 JDBC 를 기다리면 가상 스레드의 캐리어까지 막힘)
+        long stamp = changeStamps.stamp(userId);
+        UserWordIds loaded = load(userId);
+        UserWordIds existing = cache.asMap().putIfAbsent(userId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        // 조회 도중 반영되지 못한 이벤트가 있으면 버리고 다음 요청 때 다시 로드
+        if (changeStamps.changedSince(userId, stamp)) {
+            cache.asMap().remove(userId, loaded);
+        }
+        return loaded;
+    }
+
+    private UserWordIds load(Long userId) {
+        List<Long> ids = wordMapper.findIdsByUserId(userId);
+        log.debug("사용자({})의 단어 ID {}개 로드", userId, ids.size());
+        return new UserWordIds(ids);
+    }
+
+    /**
+     * 한 사용자의 단어 ID 를 오름차순으로 보관하는 배열
+     * 새 단어는 대부분 가장 큰 ID 로 들어오므로 추가는 보통 배열 끝에 붙이는 것으로 끝납니다.
+     */
+    static final class UserWordIds {
+        private long[] ids;
+        private int size;
+
+        UserWordIds(List<Long> sortedIds) {
+            this.ids = new long[Math.max(16, sortedIds.size())];
+            for (Long id : sortedIds) {
+                ids[size++] = id;
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        /**
+         * Floyd 알고리즘으로 서로 다른 인덱스 k 개를 O(k) 에 추출합니다.
+         */
+        synchronized List<Long> sample(int limit) {
+            int k = Math.min(limit, size);
+            if (k <= 0) {
+                return List.of();
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Set<Integer> indexes = new LinkedHashSet<>(k * 2);
+            for (int j = size - k; j < size; j++) {
+                int index = random.nextInt(j + 1);
+                if (!indexes.add(index)) {
+                    indexes.add(j);
+                }
+            }
+            List<Long> result = new ArrayList<>(k);
+            for (int index : indexes) {
+                result.add(ids[index]);
+            }
+            // Floyd 알고리즘은 집합을 균등하게 뽑지만 순서는 균등하지 않으므로 섞어서 반환
+            Collections.shuffle(result, random);
+            return result;
+        }
+
+        synchronized UserWordIds addAll(List<Long> newIds) {
+            for (Long id : newIds) {
+                add(id);
+            }
+            return this;
+        }
+
+        synchronized UserWordIds removeAll(List<Long> removedIds) {
+            for (Long id : removedIds) {
+                int index = Arrays.binarySearch(ids, 0, size, id);
+                if (index >= 0) {
+                    System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                    size--;
+                }
+            }
+            return this;
+        }
+
+        private void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1));
+            }
+            // 가장 큰 ID 이면 끝에 추가, 아니면 정렬 위치에 삽입
+            if (size == 0 || ids[size - 1] < id) {
+                ids[size++] = id;
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return; // 이미 존재
+            }
+            int insertAt = -index - 1;
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+    }
+}
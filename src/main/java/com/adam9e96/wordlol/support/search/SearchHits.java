@@ -0,0 +1,12 @@
+package com.adam9e96.wordlol.support.search;
+
+import java.util.List;
+
+/**
+ * 인덱스 검색 결과
+ *
+ * @param total 전체 검색 결과 수
+ * @param ids   요청한 페이지의 단어 ID (ID 내림차순)
+ */
+public record SearchHits(long total, List<Long> ids) {
+}
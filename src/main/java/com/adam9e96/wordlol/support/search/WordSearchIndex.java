@@ -0,0 +1,546 @@
+package com.adam9e96.wordlol.support.search;
+
+import com.adam9e96.wordlol.entity.Word;
+import com.adam9e96.wordlol.event.WordChangedEvent;
+import com.adam9e96.wordlol.repository.mybatis.WordMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 단어 검색용 Lucene 인덱스 (로컬 디스크)
+ * <p>
+ * vocabulary, meaning 을 1~{@value #MAX_GRAM} 글자 n-gram 으로 색인하여
+ * {@code LIKE '%keyword%'} 와 같은 부분 일치 결과를 인덱스만으로 찾습니다.
+ * 모든 검색은 user_id 조건으로 사용자별 구간만 탐색하며, 한 번의 탐색으로 전체 결과 수와 페이지 ID 를 함께 구합니다.
+ * <ul>
+ *     <li>{@link WordChangedEvent} 는 커밋 후 대기열에 넣기만 하고, 색인 스레드가 모아서 반영한 뒤
+ *     reader 를 한 번 갱신합니다. (요청 스레드는 색인이나 reader 갱신을 기다리지 않음)</li>
+ *     <li>인덱스가 비어 있거나 이전 종료가 정상적이지 않았다면 시작 시 DB 에서 다시 만듭니다.</li>
+ *     <li>재구성 중에는 {@link #search} 가 빈 값을 반환하여 호출 측이 LIKE 검색을 사용하도록 합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class WordSearchIndex implements SmartLifecycle {
+
+    // 색인하는 n-gram 최대 길이 (이보다 긴 검색어는 저장된 원문으로 한 번 더 확인)
+    static final int MAX_GRAM = 8;
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_ID_SORT = "id_sort";
+    private static final String FIELD_USER_ID = "user_id";
+    private static final String FIELD_VOCABULARY = "vocabulary";
+    private static final String FIELD_MEANING = "meaning";
+    private static final String FIELD_VOCABULARY_RAW = "vocabulary_raw";
+    private static final String FIELD_MEANING_RAW = "meaning_raw";
+    // 마지막 커밋이 정상 종료 시점의 커밋인지 표시
+    private static final String COMMIT_CLEAN = "clean";
+    // 색인 대기열 크기 (넘치면 사용자 단위로 다시 색인)
+    private static final int INDEX_QUEUE_CAPACITY = 100_000;
+    // 색인 스레드가 한 번에 반영하는 최대 변경 수
+    private static final int MAX_INDEX_BATCH = 1_000;
+    // 색인 스레드가 대기열을 기다리는 시간 (종료 확인 주기)
+    private static final long INDEX_POLL_MS = 500;
+
+    private final WordMapper wordMapper;
+    private final WordSearchIndexProperties properties;
+
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile boolean running;
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+    // 다시 색인할 사용자 (재구성 중 변경, 대기열 초과, 변경 ID 를 모르는 삭제/초기화)
+    private final Set<Long> pendingUsers = ConcurrentHashMap.newKeySet();
+    // 커밋 후 발행된 변경 이벤트 (색인 스레드가 처리)
+    private final BlockingQueue<WordChangedEvent> changes = new LinkedBlockingQueue<>(INDEX_QUEUE_CAPACITY);
+    private Thread indexer;
+    // 재구성은 한 번에 하나만 (synchronized 는 디스크 I/O 동안 가상 스레드를 캐리어 스레드에 고정시키므로 사용하지 않음)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public WordSearchIndex(WordMapper wordMapper, WordSearchIndexProperties properties) {
+        this.wordMapper = wordMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * 사용자 단어 중 키워드를 포함하는 단어를 검색합니다.
+     *
+     * @param userId  사용자 ID
+     * @param keyword 검색어
+     * @param offset  건너뛸 결과 수
+     * @param limit   가져올 결과 수
+     * @return 검색 결과, 인덱스를 사용할 수 없으면 빈 값
+     */
+    public Optional<SearchHits> search(Long userId, String keyword, int offset, int limit) {
+        return collect(userId, keyword, null).map(collector -> collector.page(offset, limit));
+    }
+
+    /**
+     * 커서 기반 검색: afterId 보다 작은 ID 중 최대 limit 개를 ID 내림차순으로 반환합니다.
+     *
+     * @param afterId 이전 페이지의 마지막 단어 ID (null 이면 처음부터)
+     * @return 단어 ID 목록, 인덱스를 사용할 수 없으면 빈 값
+     */
+    public Optional<List<Long>> searchAfter(Long userId, String keyword, Long afterId, int limit) {
+        return collect(userId, keyword, afterId).map(collector -> collector.page(0, limit).ids());
+    }
+
+    private Optional<IdCollector> collect(Long userId, String keyword, Long beforeId) {
+        if (!ready || keyword == null || keyword.isBlank()) {
+            return Optional.empty();
+        }
+        String normalized = normalize(keyword);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                IdCollector collector = new IdCollector(normalized.length() > MAX_GRAM ? normalized : null, beforeId);
+                searcher.search(buildQuery(userId, normalized), collector);
+                return Optional.of(collector);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("인덱스 검색 실패, LIKE 검색으로 대체합니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 단어 변경 이벤트를 색인 대기열에 넣습니다.
+     * 요청 스레드에서는 DB 조회나 reader 갱신을 하지 않고, 색인 스레드가 모아서 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWordChanged(WordChangedEvent event) {
+        if (!running) {
+            return;
+        }
+        if (!changes.offer(event)) {
+            // 대기열이 가득 차면 사용자 단위로 다시 색인
+            pendingUsers.add(event.userId());
+        }
+    }
+
+    // 색인 스레드: 대기 중인 변경을 모아서 반영하고 reader 를 한 번만 갱신
+    private void runIndexLoop() {
+        List<WordChangedEvent> batch = new ArrayList<>(MAX_INDEX_BATCH);
+        while (running) {
+            try {
+                // Lucene 파일 채널은 인터럽트되면 닫히므로, 종료는 인터럽트 대신 running 으로 확인
+                WordChangedEvent first = changes.poll(INDEX_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null && pendingUsers.isEmpty()) {
+                    continue;
+                }
+                if (first != null) {
+                    batch.add(first);
+                    changes.drainTo(batch, MAX_INDEX_BATCH - batch.size());
+                }
+                apply(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("검색 인덱스 갱신 중 오류 발생: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void apply(List<WordChangedEvent> batch) {
+        if (rebuilding) {
+            // 재구성이 끝난 뒤 사용자 단위로 다시 색인
+            batch.forEach(event -> pendingUsers.add(event.userId()));
+            return;
+        }
+        // 일괄 저장은 ID를 돌려받지 않으므로, 사용자마다 한 번만 색인된 마지막 ID 이후를 스캔
+        Set<Long> appendUsers = new LinkedHashSet<>();
+        for (WordChangedEvent event : batch) {
+            try {
+                switch (event.type()) {
+                    case CREATED -> {
+                        if (event.hasWordIds()) {
+                            index(event.userId(), wordMapper.findByIds(event.userId(), event.wordIds()));
+                        } else {
+                            appendUsers.add(event.userId());
+                        }
+                    }
+                    case UPDATED -> index(event.userId(), wordMapper.findByIds(event.userId(), event.wordIds()));
+                    case DELETED -> {
+                        if (event.hasWordIds()) {
+                            for (Long wordId : event.wordIds()) {
+                                writer.deleteDocuments(new Term(FIELD_ID, wordId.toString()));
+                            }
+                        } else {
+                            pendingUsers.add(event.userId());
+                        }
+                    }
+                    case RESET -> pendingUsers.add(event.userId());
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("사용자({})의 검색 인덱스 갱신 중 오류 발생: {}", event.userId(), e.getMessage(), e);
+            }
+        }
+
+        for (Iterator<Long> it = pendingUsers.iterator(); it.hasNext(); ) {
+            Long userId = it.next();
+            it.remove();
+            appendUsers.remove(userId);
+            try {
+                reindexUser(userId);
+            } catch (IOException | RuntimeException e) {
+                log.error("사용자({})의 검색 인덱스 재색인 중 오류 발생: {}", userId, e.getMessage(), e);
+            }
+        }
+        for (Long userId : appendUsers) {
+            try {
+                indexUser(userId, findMaxIndexedId(userId));
+            } catch (IOException | RuntimeException e) {
+                log.error("사용자({})의 검색 인덱스 추가 색인 중 오류 발생: {}", userId, e.getMessage(), e);
+            }
+        }
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            log.error("검색 인덱스 reader 갱신 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전체 단어로 인덱스를 다시 만듭니다. 재구성 중에는 LIKE 검색이 사용됩니다.
+     *
+     * @return 색인된 단어 수
+     */
+    public long rebuild() {
+        if (!running) {
+            throw new IllegalStateException("검색 인덱스가 비활성화되어 있습니다.");
+        }
+        rebuildLock.lock();
+        rebuilding = true;
+        ready = false;
+        long started = System.currentTimeMillis();
+        try {
+            // 1. 기존 문서 삭제 후 전체 단어를 스트리밍하며 색인
+            writer.deleteAll();
+            AtomicLong count = new AtomicLong();
+            wordMapper.scanForIndex(null, null, context -> {
+                addDocument(context.getResultObject());
+                count.incrementAndGet();
+            });
+            writer.commit();
+
+            // 2. 재구성 중 변경된 사용자 다시 색인
+            rebuilding = false;
+            for (Iterator<Long> it = pendingUsers.iterator(); it.hasNext(); ) {
+                Long userId = it.next();
+                it.remove();
+                reindexUser(userId);
+            }
+            searcherManager.maybeRefreshBlocking();
+            ready = true;
+
+            log.info("검색 인덱스 재구성 완료: 단어 {}개, {}ms", count.get(), System.currentTimeMillis() - started);
+            return count.get();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 인덱스 재구성 실패", e);
+        } finally {
+            rebuilding = false;
+            rebuildLock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int documentCount() {
+        return running ? writer.getDocStats().numDocs : 0;
+    }
+
+    /**
+     * 변경 사항을 주기적으로 디스크에 커밋합니다.
+     */
+    @Scheduled(fixedDelayString = "${word.search.index.commit-interval-ms:60000}")
+    public void commit() {
+        if (!running || rebuilding || !writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            writer.setLiveCommitData(Map.of(COMMIT_CLEAN, "false").entrySet());
+            writer.commit();
+        } catch (IOException e) {
+            log.error("검색 인덱스 커밋 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            log.info("검색 인덱스 비활성화: LIKE 검색을 사용합니다.");
+            return;
+        }
+        try {
+            IndexWriterConfig config = new IndexWriterConfig(new NGramAnalyzer());
+            config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            writer = new IndexWriter(FSDirectory.open(Path.of(properties.getPath())), config);
+            searcherManager = new SearcherManager(writer, null);
+            running = true;
+            indexer = new Thread(this::runIndexLoop, "word-search-indexer");
+            indexer.setDaemon(true);
+            indexer.start();
+        } catch (IOException e) {
+            log.error("검색 인덱스를 열 수 없습니다. LIKE 검색을 사용합니다: {}", e.getMessage(), e);
+            return;
+        }
+
+        if (writer.getDocStats().numDocs > 0 && wasClosedCleanly()) {
+            ready = true;
+            log.info("검색 인덱스 로드: 단어 {}개", writer.getDocStats().numDocs);
+            return;
+        }
+        // 비어 있거나 비정상 종료된 인덱스는 백그라운드에서 재구성 (그동안 LIKE 검색 사용)
+        Thread thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("검색 인덱스 재구성 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }, "word-search-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        ready = false;
+        try {
+            // 색인 스레드가 끝난 뒤 남은 변경을 반영해야 정상 종료 표시가 맞음
+            indexer.join(TimeUnit.SECONDS.toMillis(30));
+            List<WordChangedEvent> remaining = new ArrayList<>();
+            changes.drainTo(remaining);
+            apply(remaining);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            searcherManager.close();
+            if (!rebuilding) {
+                writer.setLiveCommitData(Map.of(COMMIT_CLEAN, "true").entrySet());
+                writer.commit();
+            }
+            writer.close();
+        } catch (IOException e) {
+            log.error("검색 인덱스 종료 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private boolean wasClosedCleanly() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData == null) {
+            return false;
+        }
+        for (Map.Entry<String, String> entry : commitData) {
+            if (COMMIT_CLEAN.equals(entry.getKey())) {
+                return Boolean.parseBoolean(entry.getValue());
+            }
+        }
+        return false;
+    }
+
+    // 사용자 구간(user_id)으로 제한하고, 두 필드 중 하나에 모든 n-gram 이 있는 문서를 찾음
+    private Query buildQuery(Long userId, String keyword) {
+        return new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(FIELD_USER_ID, userId.toString())), BooleanClause.Occur.FILTER)
+                .add(new BooleanQuery.Builder()
+                        .add(gramQuery(FIELD_VOCABULARY, keyword), BooleanClause.Occur.SHOULD)
+                        .add(gramQuery(FIELD_MEANING, keyword), BooleanClause.Occur.SHOULD)
+                        .build(), BooleanClause.Occur.FILTER)
+                .build();
+    }
+
+    // 검색어가 MAX_GRAM 이하면 n-gram 하나와 정확히 일치, 길면 겹치는 n-gram 들을 모두 포함해야 함
+    private Query gramQuery(String field, String keyword) {
+        if (keyword.length() <= MAX_GRAM) {
+            return new TermQuery(new Term(field, keyword));
+        }
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (int start = 0; ; start += MAX_GRAM) {
+            int from = Math.min(start, keyword.length() - MAX_GRAM);
+            builder.add(new TermQuery(new Term(field, keyword.substring(from, from + MAX_GRAM))), BooleanClause.Occur.FILTER);
+            if (from + MAX_GRAM >= keyword.length()) {
+                break;
+            }
+        }
+        return builder.build();
+    }
+
+    private void index(Long userId, List<Word> words) throws IOException {
+        for (Word word : words) {
+            writer.updateDocument(new Term(FIELD_ID, word.getId().toString()), toDocument(userId, word));
+        }
+    }
+
+    // afterId 이후의 사용자 단어를 색인 (null 이면 전체)
+    private void indexUser(Long userId, Long afterId) {
+        wordMapper.scanForIndex(userId, afterId, context -> addDocument(context.getResultObject()));
+    }
+
+    private void reindexUser(Long userId) throws IOException {
+        writer.deleteDocuments(new Term(FIELD_USER_ID, userId.toString()));
+        indexUser(userId, null);
+    }
+
+    private Long findMaxIndexedId(Long userId) throws IOException {
+        searcherManager.maybeRefreshBlocking();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopFieldDocs top = searcher.search(new TermQuery(new Term(FIELD_USER_ID, userId.toString())), 1,
+                    new Sort(new SortField(FIELD_ID_SORT, SortField.Type.LONG, true)));
+            if (top.scoreDocs.length == 0) {
+                return null;
+            }
+            return (Long) ((FieldDoc) top.scoreDocs[0]).fields[0];
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    // 스캔 결과(Word.user 에 user_id 만 채워짐)를 문서로 변환해 추가
+    private void addDocument(Word word) {
+        try {
+            writer.updateDocument(new Term(FIELD_ID, word.getId().toString()),
+                    toDocument(word.getUser().getId(), word));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Document toDocument(Long userId, Word word) {
+        String vocabulary = normalize(word.getVocabulary());
+        String meaning = normalize(word.getMeaning());
+
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, word.getId().toString(), Field.Store.NO));
+        document.add(new NumericDocValuesField(FIELD_ID_SORT, word.getId()));
+        document.add(new StringField(FIELD_USER_ID, userId.toString(), Field.Store.NO));
+        document.add(new TextField(FIELD_VOCABULARY, vocabulary, Field.Store.NO));
+        document.add(new TextField(FIELD_MEANING, meaning, Field.Store.NO));
+        document.add(new StoredField(FIELD_VOCABULARY_RAW, vocabulary));
+        document.add(new StoredField(FIELD_MEANING_RAW, meaning));
+        return document;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 1~MAX_GRAM 글자 n-gram 분석기 (소문자 변환)
+     */
+    private static final class NGramAnalyzer extends Analyzer {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new NGramTokenizer(1, MAX_GRAM);
+            return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+        }
+    }
+
+    /**
+     * 일치하는 문서의 단어 ID 를 모두 모은 뒤 ID 내림차순으로 페이지를 자릅니다.
+     * 검색어가 n-gram 보다 길면 저장된 원문에 실제로 포함되는지 확인하고,
+     * beforeId 가 있으면 그보다 작은 ID 만 모읍니다 (커서 기반 검색).
+     */
+    private static final class IdCollector extends SimpleCollector {
+        private final String verifyKeyword;
+        private final long beforeId;
+        private long[] ids = new long[256];
+        private int size;
+        private NumericDocValues idValues;
+        private StoredFields storedFields;
+
+        private IdCollector(String verifyKeyword, Long beforeId) {
+            this.verifyKeyword = verifyKeyword;
+            this.beforeId = beforeId != null ? beforeId : Long.MAX_VALUE;
+        }
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) throws IOException {
+            idValues = DocValues.getNumeric(context.reader(), FIELD_ID_SORT);
+            storedFields = verifyKeyword != null ? context.reader().storedFields() : null;
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            if (!idValues.advanceExact(doc) || idValues.longValue() >= beforeId) {
+                return;
+            }
+            if (verifyKeyword != null) {
+                Document stored = storedFields.document(doc);
+                if (!stored.get(FIELD_VOCABULARY_RAW).contains(verifyKeyword)
+                        && !stored.get(FIELD_MEANING_RAW).contains(verifyKeyword)) {
+                    return;
+                }
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = idValues.longValue();
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+
+        private SearchHits page(int offset, int limit) {
+            Arrays.sort(ids, 0, size);
+            List<Long> page = new ArrayList<>(Math.max(0, Math.min(limit, size - offset)));
+            for (int i = size - 1 - offset; i >= 0 && page.size() < limit; i--) {
+                page.add(ids[i]);
+            }
+            return new SearchHits(size, page);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.adam9e96.wordlol.support.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 검색 인덱스 관리용 actuator 엔드포인트
+ * <ul>
+ *     <li>GET /actuator/wordindex : 인덱스 상태 조회</li>
+ *     <li>POST /actuator/wordindex : DB 에서 인덱스 재구성</li>
+ * </ul>
+ */
+@Component
+@Endpoint(id = "wordindex")
+@RequiredArgsConstructor
+public class WordSearchIndexEndpoint {
+    private final WordSearchIndex wordSearchIndex;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of(
+                "ready", wordSearchIndex.isReady(),
+                "documents", wordSearchIndex.documentCount()
+        );
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        long indexed = wordSearchIndex.rebuild();
+        return Map.of("indexed", indexed);
+    }
+}
@@ -0,0 +1,19 @@
+package com.adam9e96.wordlol.support.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단어 전문 검색 인덱스 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "word.search.index")
+@Getter
+@Setter
+public class WordSearchIndexProperties {
+    private boolean enabled = true; // false 이면 항상 LIKE 검색 사용
+    private String path = "data/word-index"; // 인덱스 저장 디렉터리
+    private long commitIntervalMs = 60_000; // 인덱스 변경 사항을 디스크에 커밋하는 주기
+}
@@ -0,0 +1,113 @@
+package com.adam9e96.wordlol.support.srs;
+
+import java.util.*;
+
+/**
+ * 한 사용자의 복습 대기열 (복습 시각 기준 최소 힙)
+ * <p>
+ * 카드 상태가 바뀌면 새 항목을 힙에 넣고, 이전 항목은 버전이 달라 꺼낼 때 버려집니다(lazy deletion).
+ * 다음 카드 조회와 결과 반영은 모두 O(log n) 입니다.
+ */
+final class ReviewQueue {
+
+    private record Entry(long dueAt, long wordId, int version) {
+    }
+
+    private final Map<Long, SrsCard> cards = new HashMap<>();
+    private final PriorityQueue<Entry> heap = new PriorityQueue<>(
+            Comparator.comparingLong(Entry::dueAt).thenComparingLong(Entry::wordId));
+
+    /**
+     * 복습 시각이 가장 이른 카드를 꺼냅니다.
+     * 아직 복습 시각이 되지 않았더라도 가장 이른 카드를 반환하여 학습이 끊기지 않게 하고,
+     * 답하지 않고 다시 요청하는 경우를 위해 해당 카드는 잠시 뒤로 미룹니다.
+     *
+     * @param now        현재 시각 (epoch millis)
+     * @param postponeMs 출제한 카드를 뒤로 미룰 시간
+     * @return 다음 카드의 단어 ID, 카드가 없으면 null
+     */
+    synchronized Long next(long now, long postponeMs) {
+        Entry top = peekValid();
+        if (top == null) {
+            return null;
+        }
+        heap.poll();
+        SrsCard card = cards.get(top.wordId());
+        card.postpone(now + postponeMs);
+        push(card);
+        return card.getWordId();
+    }
+
+    /**
+     * 학습 결과를 반영합니다. 대기열에 없는 단어는 무시합니다.
+     */
+    synchronized void review(Long wordId, boolean correct, long reviewedAt) {
+        SrsCard card = cards.get(wordId);
+        if (card == null) {
+            return;
+        }
+        card.review(correct, reviewedAt);
+        push(card);
+        compactIfNeeded();
+    }
+
+    /**
+     * 새 카드를 추가합니다. 이미 있는 단어는 무시합니다.
+     */
+    synchronized void add(Long wordId, long dueAt) {
+        if (cards.containsKey(wordId)) {
+            return;
+        }
+        SrsCard card = new SrsCard(wordId, dueAt);
+        cards.put(wordId, card);
+        push(card);
+    }
+
+    synchronized void remove(Long wordId) {
+        cards.remove(wordId);
+        compactIfNeeded();
+    }
+
+    /**
+     * 단어 ID 목록과 대기열을 맞춥니다. 없는 카드는 추가하고, 목록에 없는 카드는 제거합니다.
+     * 기존 카드의 복습 상태는 유지됩니다.
+     */
+    synchronized void sync(Collection<Long> wordIds, long now) {
+        Set<Long> alive = new HashSet<>(wordIds);
+        cards.keySet().retainAll(alive);
+        for (Long wordId : alive) {
+            add(wordId, now);
+        }
+        compactIfNeeded();
+    }
+
+    synchronized int size() {
+        return cards.size();
+    }
+
+    private Entry peekValid() {
+        Entry top = heap.peek();
+        while (top != null) {
+            SrsCard card = cards.get(top.wordId());
+            if (card != null && card.getVersion() == top.version()) {
+                return top;
+            }
+            heap.poll();
+            top = heap.peek();
+        }
+        return null;
+    }
+
+    private void push(SrsCard card) {
+        heap.add(new Entry(card.getDueAt(), card.getWordId(), card.getVersion()));
+    }
+
+    // 버려진 항목이 많아지면 현재 카드 상태로 힙을 다시 만듦
+    private void compactIfNeeded() {
+        if (heap.size() <= cards.size() * 2 + 64) {
+            return;
+        }
+        heap.clear();
+        cards.values().forEach(this::push);
+    }
+}
@@ -0,0 +1,246 @@
+package com.adam9e96.wordlol.support.srs;
+
+import com.adam9e96.wordlol.event.WordChangedEvent;
+import com.adam9e96.wordlol.repository.jpa.StudyHistoryRepository;
+import com.adam9e96.wordlol.repository.mybatis.WordMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * 간격 반복(SM-2) 기반 복습 스케줄러
+ * <p>
+ * 사용자별 복습 대기열({@link ReviewQueue})을 메모리에 유지합니다.
+ * 대기열은 처음 요청될 때 사용자의 단어 ID 와 study_history 를 시간순으로 재생하여 만들고,
+ * 이후에는 정답 확인 결과와 {@link WordChangedEvent} 로 점진적으로 갱신합니다.
+ * <p>
+ * 재구성은 캐시 잠금 밖에서 사용자당 한 번만 실행하고(동시에 요청한 쪽은 결과를 기다림),
+ * 재구성 도중 들어온 정답 확인 결과와 단어 변경은 기록해 두었다가 완성된 대기열에 재생한 뒤 캐시에 넣습니다.
+ */
+@Slf4j
+@Component
+public class SpacedRepetitionScheduler {
+
+    // 메모리에 보관할 전체 카드 수 상한
+    private static final long MAXIMUM_CACHED_CARDS = 2_000_000;
+    // 마지막 접근 후 대기열을 유지하는 시간
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(30);
+    // 출제 후 답하지 않은 카드를 다시 내기까지의 유예 시간
+    private static final long POSTPONE_MS = 5 * 60 * 1000L;
+
+    private final WordMapper wordMapper;
+    private final StudyHistoryRepository studyHistoryRepository;
+    private final Cache<Long, ReviewQueue> queues;
+    // 재구성 중인 사용자 -> 진행 상태
+    private final ConcurrentMap<Long, Rebuild> rebuilds = new ConcurrentHashMap<>();
+
+    public SpacedRepetitionScheduler(WordMapper wordMapper, StudyHistoryRepository studyHistoryRepository) {
+        this.wordMapper = wordMapper;
+        this.studyHistoryRepository = studyHistoryRepository;
+        this.queues = Caffeine.newBuilder()
+                .maximumWeight(MAXIMUM_CACHED_CARDS)
+                .weigher((Long userId, ReviewQueue queue) -> Math.max(1, queue.size()))
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+                .build();
+    }
+
+    /**
+     * 다음에 복습할 단어 ID를 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 단어 ID, 단어가 없으면 null
+     */
+    public Long nextWordId(Long userId) {
+        return queueOf(userId).next(System.currentTimeMillis(), POSTPONE_MS);
+    }
+
+    /**
+     * 정답 확인 결과를 복습 일정에 반영합니다.
+     * 대기열이 아직 만들어지지 않았다면 다음 재구성 때 study_history 에서 반영되므로 무시합니다.
+     * 재구성 중이면 완성된 대기열에 재생됩니다.
+     *
+     * @param userId  사용자 ID
+     * @param wordId  단어 ID
+     * @param correct 정답 여부
+     */
+    public void recordAnswer(Long userId, Long wordId, boolean correct) {
+        long reviewedAt = System.currentTimeMillis();
+        apply(userId, queue -> queue.review(wordId, correct, reviewedAt));
+    }
+
+    public void invalidate(Long userId) {
+        Rebuild rebuild = rebuilds.get(userId);
+        if (rebuild != null) {
+            rebuild.discard();
+        }
+        queues.invalidate(userId);
+    }
+
+    /**
+     * 단어 변경 이벤트를 받아 대기열의 카드를 추가/제거합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWordChanged(WordChangedEvent event) {
+        Long userId = event.userId();
+        if (queues.getIfPresent(userId) == null && !rebuilds.containsKey(userId)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        switch (event.type()) {
+            case CREATED -> {
+                if (event.hasWordIds()) {
+                    apply(userId, queue -> event.wordIds().forEach(wordId -> queue.add(wordId, now)));
+                } else {
+                    syncWordIds(userId, now);
+                }
+            }
+            case DELETED -> {
+                if (event.hasWordIds()) {
+                    apply(userId, queue -> event.wordIds().forEach(queue::remove));
+                } else {
+                    syncWordIds(userId, now);
+                }
+            }
+            case RESET -> syncWordIds(userId, now);
+            case UPDATED -> {
+                // 단어 내용 변경은 복습 일정에 영향 없음
+            }
+        }
+    }
+
+    // 단어 ID 는 먼저 조회하고, 대기열에는 메모리 작업만 전달 (재생은 잠금 안에서 실행되므로)
+    private void syncWordIds(Long userId, long now) {
+        List<Long> wordIds = wordMapper.findIdsByUserId(userId);
+        apply(userId, queue -> queue.sync(wordIds, now));
+    }
+
+    /**
+     * 대기열 변경을 반영합니다.
+     * 재구성 중이면 기록해 두었다가 재구성이 끝날 때 재생하고, 대기열이 없으면 무시합니다.
+     */
+    private void apply(Long userId, Consumer<ReviewQueue> change) {
+        Rebuild rebuild = rebuilds.get(userId);
+        if (rebuild != null) {
+            rebuild.apply(change);
+            return;
+        }
+        // 재구성은 캐시에 넣은 뒤 rebuilds 에서 빠지므로, 여기서 못 찾았다면 재구성 시작 전에 커밋된 변경임
+        ReviewQueue queue = queues.getIfPresent(userId);
+        if (queue != null) {
+            change.accept(queue);
+        }
+    }
+
+    /**
+     * 캐시의 대기열을 반환하고, 없으면 캐시 잠금 밖에서 재구성합니다.
+     * (로더 안에서 JDBC 를 기다리면 같은 버킷의 다른 사용자와 가상 스레드의 캐리어까지 막힘)
+     */
+    private ReviewQueue queueOf(Long userId) {
+        ReviewQueue queue = queues.getIfPresent(userId);
+        if (queue != null) {
+            return queue;
+        }
+        Rebuild rebuild = new Rebuild();
+        Rebuild running = rebuilds.putIfAbsent(userId, rebuild);
+        if (running != null) {
+            return running.await();
+        }
+        try {
+            // 확인과 등록 사이에 다른 재구성이 끝났을 수 있음
+            queue = queues.getIfPresent(userId);
+            if (queue == null) {
+                queue = rebuild(userId);
+                // 재생과 캐시 저장이 끝난 뒤에 rebuilds 에서 빠지므로 그 사이의 변경도 놓치지 않음
+                ReviewQueue built = queue;
+                rebuild.publish(built, () -> queues.put(userId, built));
+            }
+            rebuild.result.complete(queue);
+            return queue;
+        } catch (RuntimeException e) {
+            rebuild.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            rebuilds.remove(userId, rebuild);
+        }
+    }
+
+    // 단어 ID 목록과 학습 기록을 재생하여 대기열 생성
+    private ReviewQueue rebuild(Long userId) {
+        long now = System.currentTimeMillis();
+        ReviewQueue queue = new ReviewQueue();
+
+        // 1. 학습한 적 없는 단어는 지금 바로 출제 가능
+        List<Long> wordIds = wordMapper.findIdsByUserId(userId);
+        wordIds.forEach(wordId -> queue.add(wordId, now));
+
+        // 2. 학습 기록을 시간순으로 재생 (삭제된 단어의 기록은 무시됨)
+        List<StudyOutcome> outcomes = studyHistoryRepository.findOutcomesByUserId(userId);
+        ZoneId zone = ZoneId.systemDefault();
+        for (StudyOutcome outcome : outcomes) {
+            long reviewedAt = outcome.studyTime().atZone(zone).toInstant().toEpochMilli();
+            queue.review(outcome.wordId(), Boolean.TRUE.equals(outcome.correct()), reviewedAt);
+        }
+
+        log.debug("사용자({})의 복습 대기열 생성: 단어 {}개, 학습 기록 {}건", userId, wordIds.size(), outcomes.size());
+        return queue;
+    }
+
+    /**
+     * 진행 중인 대기열 재구성
+     * 완성되기 전의 변경은 목록에 쌓고, 완성된 뒤에는 대기열에 바로 반영합니다.
+     */
+    private static final class Rebuild {
+        private final CompletableFuture<ReviewQueue> result = new CompletableFuture<>();
+        private final List<Consumer<ReviewQueue>> changes = new ArrayList<>();
+        private ReviewQueue queue;
+        private boolean discarded;
+
+        synchronized void apply(Consumer<ReviewQueue> change) {
+            if (queue != null) {
+                change.accept(queue);
+            } else {
+                changes.add(change);
+            }
+        }
+
+        /**
+         * 쌓인 변경을 순서대로 재생하고, 재구성 도중 무효화되지 않았다면 캐시에 저장합니다.
+         * 저장까지 잠금 안에서 하므로 무효화는 저장 전(저장 안 함) 또는 저장 후(캐시에서 제거) 중 하나로 정해집니다.
+         */
+        synchronized void publish(ReviewQueue built, Runnable store) {
+            changes.forEach(change -> change.accept(built));
+            changes.clear();
+            queue = built;
+            if (!discarded) {
+                store.run();
+            }
+        }
+
+        synchronized void discard() {
+            discarded = true;
+        }
+
+        ReviewQueue await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.adam9e96.wordlol.support.srs;
+
+import lombok.Getter;
+
+/**
+ * 단어 한 개의 복습 상태 (SM-2 알고리즘)
+ * <p>
+ * 정답이면 반복 횟수에 따라 간격을 1일 → 6일 → (이전 간격 × 난이도 계수) 로 늘리고,
+ * 오답이면 반복 횟수를 초기화한 뒤 짧은 재학습 간격 후에 다시 출제합니다.
+ */
+@Getter
+final class SrsCard {
+
+    // 최초 난이도 계수 (SM-2 기본값)
+    static final double INITIAL_EASINESS = 2.5;
+    // 난이도 계수 하한
+    static final double MIN_EASINESS = 1.3;
+    // 오답 후 다시 출제할 때까지의 간격
+    static final long RELEARN_DELAY_MS = 10 * 60 * 1000L;
+    static final long DAY_MS = 24 * 60 * 60 * 1000L;
+
+    // SM-2 응답 품질 (0~5): 정답/오답 두 가지만 기록되므로 고정 값 사용
+    private static final int QUALITY_CORRECT = 4;
+    private static final int QUALITY_WRONG = 1;
+
+    private final Long wordId;
+    private int repetitions;
+    private double easiness = INITIAL_EASINESS;
+    private long intervalDays;
+    private long dueAt;
+    // 힙에 남아 있는 이전 항목을 구분하기 위한 버전
+    private int version;
+
+    SrsCard(Long wordId, long dueAt) {
+        this.wordId = wordId;
+        this.dueAt = dueAt;
+    }
+
+    /**
+     * 학습 결과를 반영해 다음 복습 시각을 계산합니다.
+     *
+     * @param correct    정답 여부
+     * @param reviewedAt 학습 시각 (epoch millis)
+     */
+    void review(boolean correct, long reviewedAt) {
+        int quality = correct ? QUALITY_CORRECT : QUALITY_WRONG;
+
+        if (quality < 3) {
+            repetitions = 0;
+            intervalDays = 0;
+            dueAt = reviewedAt + RELEARN_DELAY_MS;
+        } else {
+            repetitions++;
+            if (repetitions == 1) {
+                intervalDays = 1;
+            } else if (repetitions == 2) {
+                intervalDays = 6;
+            } else {
+                intervalDays = Math.round(intervalDays * easiness);
+            }
+            dueAt = reviewedAt + intervalDays * DAY_MS;
+        }
+
+        // EF' = EF + (0.1 - (5 - q) * (0.08 + (5 - q) * 0.02))
+        int lapse = 5 - quality;
+        easiness = Math.max(MIN_EASINESS, easiness + (0.1 - lapse * (0.08 + lapse * 0.02)));
+        version++;
+    }
+
+    /**
+     * 출제는 했지만 아직 답하지 않은 카드를 잠시 뒤로 미룹니다.
+     *
+     * @param until 다시 출제 가능한 시각 (epoch millis)
+     */
+    void postpone(long until) {
+        dueAt = Math.max(dueAt, until);
+        version++;
+    }
+}
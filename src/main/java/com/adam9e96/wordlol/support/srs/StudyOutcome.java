@@ -0,0 +1,13 @@
+package com.adam9e96.wordlol.support.srs;
+
+import java.time.LocalDateTime;
+
+/**
+ * 학습 기록 한 건의 결과 (복습 일정 재구성용 프로젝션)
+ *
+ * @param wordId    단어 ID
+ * @param correct   정답 여부
+ * @param studyTime 학습 시각
+ */
+public record StudyOutcome(Long wordId, Boolean correct, LocalDateTime studyTime) {
+}
@@ -0,0 +1,14 @@
+package com.adam9e96.wordlol.support.stats;
+
+import java.time.LocalDate;
+
+/**
+ * 일일 통계에 더할 증가분 (사용자, 날짜 단위)
+ *
+ * @param userId   사용자 ID
+ * @param statDate 날짜
+ * @param answers  제출한 답 수
+ * @param correct  정답 수
+ */
+public record DailyStatDelta(Long userId, LocalDate statDate, int answers, int correct) {
+}
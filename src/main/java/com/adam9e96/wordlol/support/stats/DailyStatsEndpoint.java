@@ -0,0 +1,29 @@
+package com.adam9e96.wordlol.support.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 일일 학습 통계 관리용 actuator 엔드포인트
+ * <ul>
+ *     <li>POST /actuator/dailystats : 전체 사용자 통계 재구성</li>
+ *     <li>POST /actuator/dailystats {"userId": 1} : 한 사용자 통계 재구성</li>
+ * </ul>
+ */
+@Component
+@Endpoint(id = "dailystats")
+@RequiredArgsConstructor
+public class DailyStatsEndpoint {
+    private final DailyStatsRollup dailyStatsRollup;
+
+    @WriteOperation
+    public Map<String, Object> rebuild(@Nullable Long userId) {
+        int rows = dailyStatsRollup.rebuild(userId);
+        return Map.of("rows", rows);
+    }
+}
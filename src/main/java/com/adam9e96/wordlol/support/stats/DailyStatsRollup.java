@@ -0,0 +1,90 @@
+package com.adam9e96.wordlol.support.stats;
+
+import com.adam9e96.wordlol.repository.mybatis.DailyStatsMapper;
+import com.adam9e96.wordlol.support.history.StudyRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 사용자별 일일 학습 통계 집계
+ * <p>
+ * 학습 기록을 일괄 저장할 때 같은 트랜잭션에서 (사용자, 날짜) 단위 증가분을 반영하므로,
+ * 대시보드는 study_history 를 훑지 않고 사용자당 일 수만큼의 행만 읽습니다.
+ * 집계가 어긋나면 {@link #rebuild(Long)} 로 study_history 에서 다시 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyStatsRollup {
+
+    private final DailyStatsMapper dailyStatsMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 저장된 학습 기록을 일일 통계에 더합니다. 호출 측 트랜잭션 안에서 실행해야 합니다.
+     *
+     * @param records 방금 저장한 학습 기록
+     */
+    public void apply(List<StudyRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        // 1. (사용자, 날짜) 단위로 답 수, 정답 수 집계 및 학습 단어 중복 제거
+        Map<Day, int[]> totals = new LinkedHashMap<>();
+        Set<DailyWordKey> words = new LinkedHashSet<>();
+        for (StudyRecord record : records) {
+            LocalDate statDate = record.studyTime().toLocalDate();
+            int[] total = totals.computeIfAbsent(new Day(record.userId(), statDate), day -> new int[2]);
+            total[0]++;
+            if (record.correct()) {
+                total[1]++;
+            }
+            words.add(new DailyWordKey(record.userId(), statDate, record.wordId()));
+        }
+        List<DailyStatDelta> deltas = totals.entrySet().stream()
+                .map(entry -> new DailyStatDelta(entry.getKey().userId(), entry.getKey().statDate(),
+                        entry.getValue()[0], entry.getValue()[1]))
+                .toList();
+
+        // 2. 단어 기록 → 답 수 증가 → 서로 다른 단어 수 재계산
+        dailyStatsMapper.insertDailyWords(new ArrayList<>(words));
+        dailyStatsMapper.upsertStats(deltas);
+        dailyStatsMapper.refreshWordCounts(deltas);
+    }
+
+    /**
+     * 대시보드용 통계 합계를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 전체 답 수, 정답 수, 오늘 학습한 단어 수
+     */
+    public DashboardStats getDashboardStats(Long userId) {
+        DashboardStats stats = dailyStatsMapper.findDashboardStats(userId, LocalDate.now());
+        return stats != null ? stats : DashboardStats.EMPTY;
+    }
+
+    /**
+     * study_history 에서 일일 통계를 다시 만듭니다.
+     *
+     * @param userId 사용자 ID (null 이면 전체 사용자)
+     * @return 만들어진 일일 통계 행 수
+     */
+    public int rebuild(Long userId) {
+        Integer rows = transactionTemplate.execute(status -> {
+            dailyStatsMapper.deleteDailyWords(userId);
+            dailyStatsMapper.rebuildDailyWords(userId);
+            dailyStatsMapper.deleteDailyStats(userId);
+            return dailyStatsMapper.rebuildDailyStats(userId);
+        });
+        log.info("일일 학습 통계 재구성 완료: 사용자={}, 행 {}개", userId != null ? userId : "전체", rows);
+        return rows != null ? rows : 0;
+    }
+
+    private record Day(Long userId, LocalDate statDate) {
+    }
+}
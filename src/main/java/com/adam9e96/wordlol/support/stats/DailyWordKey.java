@@ -0,0 +1,13 @@
+package com.adam9e96.wordlol.support.stats;
+
+import java.time.LocalDate;
+
+/**
+ * 하루 동안 학습한 단어 한 건
+ *
+ * @param userId   사용자 ID
+ * @param statDate 날짜
+ * @param wordId   단어 ID
+ */
+public record DailyWordKey(Long userId, LocalDate statDate, Long wordId) {
+}
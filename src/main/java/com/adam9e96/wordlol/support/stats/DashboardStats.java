@@ -0,0 +1,17 @@
+package com.adam9e96.wordlol.support.stats;
+
+/**
+ * 대시보드용 사용자 학습 통계 (일일 통계 합계)
+ *
+ * @param totalAnswers 전체 제출한 답 수
+ * @param totalCorrect 전체 정답 수
+ * @param todayWords   오늘 학습한 서로 다른 단어 수
+ */
+public record DashboardStats(long totalAnswers, long totalCorrect, int todayWords) {
+
+    public static final DashboardStats EMPTY = new DashboardStats(0, 0, 0);
+
+    public double correctRate() {
+        return totalAnswers == 0 ? 0.0 : (double) totalCorrect / totalAnswers;
+    }
+}
@@ -0,0 +1,63 @@
+package com.adam9e96.wordlol.support.study;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 학습 세션 한 개의 카드 덱 (섞인 단어 ID 배열)
+ * <p>
+ * 단어 내용은 보관하지 않고 ID 만 long 배열로 보관하며, 카드는 요청된 구간만 PK 로 조회합니다.
+ * position 은 클라이언트가 마지막으로 알려준 학습 위치로, 재접속 시 이어서 학습하는 데 사용합니다.
+ */
+public final class StudyDeck {
+
+    private final String sessionId;
+    private final Long userId;
+    private final Long wordBookId;
+    private final long[] wordIds;
+    private volatile int position;
+
+    StudyDeck(String sessionId, Long userId, Long wordBookId, long[] wordIds) {
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.wordBookId = wordBookId;
+        this.wordIds = wordIds;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getWordBookId() {
+        return wordBookId;
+    }
+
+    public int size() {
+        return wordIds.length;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public void setPosition(int position) {
+        this.position = Math.max(0, Math.min(position, wordIds.length));
+    }
+
+    /**
+     * 덱의 [offset, offset + limit) 구간의 단어 ID 를 덱 순서대로 반환합니다.
+     */
+    public List<Long> slice(int offset, int limit) {
+        int from = Math.max(0, Math.min(offset, wordIds.length));
+        int to = (int) Math.min((long) from + Math.max(limit, 0), wordIds.length);
+        List<Long> ids = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            ids.add(wordIds[i]);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,21 @@
+package com.adam9e96.wordlol.support.study;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단어장 학습 세션(서버에서 섞은 카드 덱) 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "study.deck")
+@Getter
+@Setter
+public class StudyDeckProperties {
+    private int pageSize = 20; // 한 번에 보내는 카드 수 (요청에 limit 이 없을 때)
+    private int maxPageSize = 100; // 요청할 수 있는 최대 카드 수
+    private int prefetchDistance = 5; // 받은 카드가 이만큼 남았을 때 다음 페이지를 미리 요청하도록 안내
+    private long ttlMinutes = 120; // 마지막 접근 후 세션을 유지하는 시간 (재접속 후 이어서 학습)
+    private long maxCachedIds = 5_000_000; // 모든 세션이 보관하는 단어 ID 수 상한 (약 8바이트 * 5,000,000 = 40MB)
+}
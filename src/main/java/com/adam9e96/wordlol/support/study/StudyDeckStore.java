@@ -0,0 +1,68 @@
+package com.adam9e96.wordlol.support.study;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 단어장 학습 세션 저장소
+ * <p>
+ * 세션을 시작할 때 단어장의 단어 ID 를 한 번 섞어(Fisher-Yates) 덱으로 보관합니다.
+ * 마지막 접근 후 ttlMinutes 가 지나거나, 전체 ID 수가 maxCachedIds 를 넘으면 오래된 세션부터 제거됩니다.
+ * 세션은 만든 사용자만 조회할 수 있습니다.
+ */
+@Component
+public class StudyDeckStore {
+
+    private final Cache<String, StudyDeck> decks;
+
+    public StudyDeckStore(StudyDeckProperties properties) {
+        this.decks = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxCachedIds())
+                .weigher((String sessionId, StudyDeck deck) -> Math.max(1, deck.size()))
+                .expireAfterAccess(Duration.ofMinutes(properties.getTtlMinutes()))
+                .build();
+    }
+
+    /**
+     * 단어 ID 를 섞어 새 세션을 만듭니다.
+     *
+     * @param userId     사용자 ID
+     * @param wordBookId 단어장 ID
+     * @param wordIds    단어장의 단어 ID
+     * @return 새 세션의 덱
+     */
+    public StudyDeck create(Long userId, Long wordBookId, List<Long> wordIds) {
+        long[] ids = new long[wordIds.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = wordIds.get(i);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = ids.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = tmp;
+        }
+
+        StudyDeck deck = new StudyDeck(UUID.randomUUID().toString(), userId, wordBookId, ids);
+        decks.put(deck.getSessionId(), deck);
+        return deck;
+    }
+
+    /**
+     * 사용자의 세션을 찾습니다.
+     *
+     * @return 덱, 만료되었거나 다른 사용자의 세션이면 빈 값
+     */
+    public Optional<StudyDeck> find(Long userId, String sessionId) {
+        StudyDeck deck = decks.getIfPresent(sessionId);
+        return deck != null && deck.getUserId().equals(userId) ? Optional.of(deck) : Optional.empty();
+    }
+}
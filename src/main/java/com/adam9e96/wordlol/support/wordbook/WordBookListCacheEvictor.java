@@ -0,0 +1,32 @@
+package com.adam9e96.wordlol.support.wordbook;
+
+import com.adam9e96.wordlol.common.constants.Constants;
+import com.adam9e96.wordlol.event.WordChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 단어장 목록 쿼리 캐시 무효화
+ * <p>
+ * 단어장 목록(WordBookRepository.findListByUserId)은 단어 수를 word 테이블에서 집계하므로,
+ * word_book 뿐 아니라 word 가 바뀌어도 결과가 달라집니다.
+ * word_book 변경은 JPA 로만 하므로 Hibernate 가 알아서 무효화하지만, 단어는 MyBatis 로도 변경되어
+ * Hibernate 가 알 수 없으므로 {@link WordChangedEvent} 를 받아 영역을 비웁니다.
+ * (사용자별로 비울 수 없어 영역 전체를 비움, 단어 변경은 목록 조회보다 훨씬 드묾)
+ */
+@Component
+public class WordBookListCacheEvictor {
+
+    private final SessionFactory sessionFactory;
+
+    public WordBookListCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWordChanged(WordChangedEvent event) {
+        sessionFactory.getCache().evictQueryRegion(Constants.CacheRegion.WORD_BOOKS_BY_USER);
+    }
+}
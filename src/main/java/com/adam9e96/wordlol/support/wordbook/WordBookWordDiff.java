@@ -0,0 +1,95 @@
+package com.adam9e96.wordlol.support.wordbook;
+
+import com.adam9e96.wordlol.dto.request.WordRequest;
+import com.adam9e96.wordlol.entity.User;
+import com.adam9e96.wordlol.entity.Word;
+import com.adam9e96.wordlol.entity.WordBook;
+import com.adam9e96.wordlol.exception.validation.ValidationException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 단어장 수정 요청과 저장된 단어의 차이
+ * <p>
+ * 단어 ID 를 기준으로 비교합니다.
+ * <ul>
+ *     <li>ID 가 단어장에 있고 내용이 같으면 unchanged, 다르면 modified</li>
+ *     <li>ID 가 없거나 단어장에 없는 ID 이면 added (새 단어)</li>
+ *     <li>요청에 없는 기존 단어는 removed</li>
+ * </ul>
+ *
+ * @param modified   수정할 단어 (기존 ID, 새 내용)
+ * @param added      추가할 단어 (단어장, 사용자 연결됨)
+ * @param removedIds 삭제할 단어 ID
+ * @param unchanged  바뀌지 않은 단어 수
+ */
+public record WordBookWordDiff(List<Word> modified, List<Word> added, List<Long> removedIds, int unchanged) {
+
+    /**
+     * 차이를 계산합니다.
+     *
+     * @param wordBook 단어장 (추가할 단어에 연결)
+     * @param user     추가할 단어의 소유자
+     * @param existing 단어장에 저장된 단어
+     * @param requests 수정 요청의 단어 목록 (요청 순서대로 처리)
+     * @throws ValidationException 같은 단어 ID 가 요청에 두 번 이상 있는 경우
+     */
+    public static WordBookWordDiff compute(WordBook wordBook, User user, List<Word> existing, List<WordRequest> requests) {
+        Map<Long, Word> remaining = new LinkedHashMap<>();
+        for (Word word : existing) {
+            remaining.put(word.getId(), word);
+        }
+
+        List<Word> modified = new ArrayList<>();
+        List<Word> added = new ArrayList<>();
+        Set<Long> seenIds = new HashSet<>();
+        int unchanged = 0;
+
+        for (WordRequest request : requests) {
+            if (request.id() != null && !seenIds.add(request.id())) {
+                throw new ValidationException("같은 단어가 두 번 포함되어 있습니다. (ID: " + request.id() + ")");
+            }
+            Word current = request.id() != null ? remaining.remove(request.id()) : null;
+            if (current == null) {
+                added.add(Word.builder()
+                        .vocabulary(request.vocabulary())
+                        .meaning(request.meaning())
+                        .hint(request.hint())
+                        .difficulty(request.difficulty())
+                        .wordBook(wordBook)
+                        .user(user)
+                        .build());
+            } else if (isSame(current, request)) {
+                unchanged++;
+            } else {
+                modified.add(current.update(request.vocabulary(), request.meaning(), request.hint(), request.difficulty()));
+            }
+        }
+
+        return new WordBookWordDiff(modified, added, List.copyOf(remaining.keySet()), unchanged);
+    }
+
+    private static boolean isSame(Word word, WordRequest request) {
+        return Objects.equals(word.getVocabulary(), request.vocabulary())
+                && Objects.equals(word.getMeaning(), request.meaning())
+                && Objects.equals(word.getHint(), request.hint())
+                && Objects.equals(word.getDifficulty(), request.difficulty());
+    }
+
+    /**
+     * 변경 후 단어장의 단어 수
+     */
+    public int wordCount() {
+        return unchanged + modified.size() + added.size();
+    }
+
+    public boolean isEmpty() {
+        return modified.isEmpty() && added.isEmpty() && removedIds.isEmpty();
+    }
+}
@@ -55,7 +55,7 @@ public class WordValidator {
 
     // 난이도 유효성 검사
     public void validateDifficulty(Integer difficulty) {
-        if (difficulty == 0) {
+        if (difficulty == null || difficulty == 0) {
             throw new ValidationException(Constants.Validation.EMPTY_DIFFICULTY_MESSAGE);
         }
         if (difficulty < Constants.Validation.DIFFICULTY_MIN || difficulty > Constants.Validation.DIFFICULTY_MAX) {
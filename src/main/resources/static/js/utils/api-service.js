@@ -20,10 +20,20 @@ class ApiService {
         OAUTH_LOGIN: '/oauth2/authorization/google'
     };
 
+    /**
+     * ETag 캐시에 보관할 최대 응답 수
+     * @static
+     * @readonly
+     */
+    static ETAG_CACHE_SIZE = 100;
+
     constructor() {
         // 진행 중인 요청 수 관리
         this.pendingRequests = 0;
 
+        // 조건부 GET 응답 캐시 (URL -> {etag, data})
+        this.etagCache = new Map();
+
         // 인증 상태 초기 확인
         this.checkAuthStatus();
     }
@@ -70,6 +80,47 @@ class ApiService {
     }
 
 
+    /**
+     * 조건부 GET 요청
+     * 이전 응답의 ETag 를 If-None-Match 로 보내고, 304 응답이면 보관한 데이터를 반환합니다.
+     * 브라우저 HTTP 캐시가 끼어들지 않도록 cache: 'no-store' 로 요청합니다.
+     * @param {string} url - 요청 URL
+     * @param {string} errorMessage - 실패 시 오류 메시지
+     * @returns {Promise<Object>} 응답 데이터
+     */
+    async fetchWithETag(url, errorMessage) {
+        const cached = this.etagCache.get(url);
+        const headers = cached ? {'If-None-Match': cached.etag} : {};
+
+        const response = await fetch(url, {
+            credentials: 'include',
+            cache: 'no-store',
+            headers
+        });
+
+        if (response.status === 304 && cached) {
+            // 최근 사용한 항목이 뒤로 가도록 다시 넣음
+            this.etagCache.delete(url);
+            this.etagCache.set(url, cached);
+            return structuredClone(cached.data);
+        }
+        if (!response.ok) {
+            throw new Error(errorMessage);
+        }
+
+        const data = await response.json();
+        const etag = response.headers.get('ETag');
+        this.etagCache.delete(url);
+        if (etag) {
+            this.etagCache.set(url, {etag, data: structuredClone(data)});
+            if (this.etagCache.size > ApiService.ETAG_CACHE_SIZE) {
+                this.etagCache.delete(this.etagCache.keys().next().value);
+            }
+        }
+        return data;
+    }
+
+
     // ===========================
     /**
      * 인증 필요 이벤트 발생
@@ -192,6 +243,7 @@ class ApiService {
     async handleLogout(redirect = true, redirectUrl = '/') {
         try {
             this.startLoading();
+            this.etagCache.clear();
             await fetch(ApiService.API_ENDPOINTS.LOGOUT, {
                 method: 'POST',
                 credentials: 'include'
@@ -311,23 +363,48 @@ class ApiService {
     }
 
     /**
-     * 단어 상세 조회
-     * @param {number} id - 단어 ID
-     * @returns {Promise<Object>} 단어 상세 정보
+     * 단어 목록 커서 조회 (무한 스크롤용, 전체 개수 없음)
+     * @param {string|null} after - 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param {number} size - 페이지 크기
+     * @returns {Promise<Object>} { content, size, nextCursor, hasNext }
      */
-    async fetchWord(id) {
+    async fetchWordsCursor(after = null, size = 20) {
         this.startLoading();
 
         try {
-            const response = await fetch(`${ApiService.API_ENDPOINTS.WORDS}/${id}`, {
+            const url = new URL(`${ApiService.API_ENDPOINTS.WORDS}/list/cursor`, window.location.origin);
+            url.searchParams.append('size', size.toString());
+            if (after) {
+                url.searchParams.append('after', after);
+            }
+
+            const response = await fetch(url, {
                 credentials: 'include'
             });
 
             if (!response.ok) {
-                throw new Error('단어 정보를 불러오는데 실패했습니다.');
+                throw new Error('단어 목록을 불러오는데 실패했습니다.');
             }
 
             return await response.json();
+        } catch (error) {
+            this.handleError(error, 'fetchWordsCursor');
+            throw error;
+        } finally {
+            this.endLoading();
+        }
+    }
+
+    /**
+     * 단어 상세 조회
+     * @param {number} id - 단어 ID
+     * @returns {Promise<Object>} 단어 상세 정보
+     */
+    async fetchWord(id) {
+        this.startLoading();
+
+        try {
+            return await this.fetchWithETag(`${ApiService.API_ENDPOINTS.WORDS}/${id}`, '단어 정보를 불러오는데 실패했습니다.');
         } catch (error) {
             this.handleError(error, 'fetchWord');
             throw error;
@@ -398,13 +475,15 @@ class ApiService {
 
     /**
      * 랜덤 단어 조회
+     * @param {string} [mode] - 학습 모드 ('srs' 이면 간격 반복 복습 일정에 따라 조회)
      * @returns {Promise<Object>} 랜덤 단어 정보
      */
-    async randomWord() {
+    async randomWord(mode) {
         this.startLoading();
 
         try {
-            const response = await fetch(`${ApiService.API_ENDPOINTS.WORDS}/random`, {
+            const query = mode ? `?mode=${encodeURIComponent(mode)}` : '';
+            const response = await fetch(`${ApiService.API_ENDPOINTS.WORDS}/random${query}`, {
                 credentials: 'include'
             });
 
@@ -529,6 +608,43 @@ class ApiService {
         }
     }
 
+    /**
+     * 단어 커서 검색 (무한 스크롤용, 전체 개수 없음)
+     * @param {string} keyword - 검색 키워드
+     * @param {string|null} after - 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param {number} size - 페이지 크기
+     * @returns {Promise<Object>} { content, size, nextCursor, hasNext }
+     */
+    async searchWordsCursor(keyword, after = null, size = 20) {
+        this.startLoading();
+
+        try {
+            const url = new URL(`${ApiService.API_ENDPOINTS.WORDS}/search/cursor`, window.location.origin);
+            url.searchParams.append('size', size.toString());
+            if (keyword) {
+                url.searchParams.append('keyword', keyword);
+            }
+            if (after) {
+                url.searchParams.append('after', after);
+            }
+
+            const response = await fetch(url, {
+                credentials: 'include'
+            });
+
+            if (!response.ok) {
+                throw new Error('검색 결과를 불러오는데 실패했습니다.');
+            }
+
+            return await response.json();
+        } catch (error) {
+            this.handleError(error, 'searchWordsCursor');
+            throw error;
+        } finally {
+            this.endLoading();
+        }
+    }
+
 
     //** 단어장 관련 메서드 */
 
@@ -614,15 +730,7 @@ class ApiService {
         this.startLoading();
 
         try {
-            const response = await fetch(`${ApiService.API_ENDPOINTS.WORD_BOOKS}/${wordBookId}`, {
-                credentials: 'include'
-            });
-
-            if (!response.ok) {
-                throw new Error('단어장 정보를 불러오는데 실패했습니다.');
-            }
-
-            return await response.json();
+            return await this.fetchWithETag(`${ApiService.API_ENDPOINTS.WORD_BOOKS}/${wordBookId}`, '단어장 정보를 불러오는데 실패했습니다.');
         } catch (error) {
             this.handleError(error, 'fetchWordBook');
             throw error;
@@ -640,15 +748,7 @@ class ApiService {
         this.startLoading();
 
         try {
-            const response = await fetch(`${ApiService.API_ENDPOINTS.WORD_BOOKS}/${wordBookId}/words`, {
-                credentials: 'include'
-            });
-
-            if (!response.ok) {
-                throw new Error('단어장의 단어 목록을 불러오는데 실패했습니다.');
-            }
-
-            return await response.json();
+            return await this.fetchWithETag(`${ApiService.API_ENDPOINTS.WORD_BOOKS}/${wordBookId}/words`, '단어장의 단어 목록을 불러오는데 실패했습니다.');
         } catch (error) {
             this.handleError(error, 'fetchWordBookWords');
             throw error;
@@ -693,15 +793,7 @@ class ApiService {
         this.startLoading();
 
         try {
-            const response = await fetch(`${ApiService.API_ENDPOINTS.WORD_BOOKS}`, {
-                credentials: 'include'
-            });
-
-            if (!response.ok) {
-                throw new Error('단어장 목록을 불러오는데 실패했습니다.');
-            }
-
-            return await response.json();
+            return await this.fetchWithETag(`${ApiService.API_ENDPOINTS.WORD_BOOKS}`, '단어장 목록을 불러오는데 실패했습니다.');
         } catch (error) {
             this.handleError(error, 'getAllWordBooks');
             throw error;
@@ -763,6 +855,71 @@ class ApiService {
         }
     }
 
+    /**
+     * 단어장 학습 세션 시작 (서버에서 섞은 카드 덱)
+     * @param {number} wordBookId - 단어장 ID
+     * @param {number} [pageSize] - 한 번에 받을 카드 수
+     * @returns {Promise<Object>} 세션 ID 와 첫 페이지의 카드
+     */
+    async startWordBookStudySession(wordBookId, pageSize) {
+        this.startLoading();
+
+        try {
+            const params = new URLSearchParams();
+            if (pageSize) params.append('pageSize', pageSize);
+
+            const response = await fetch(`${ApiService.API_ENDPOINTS.WORD_BOOKS}/${wordBookId}/study/sessions?${params}`, {
+                method: 'POST',
+                credentials: 'include'
+            });
+
+            if (!response.ok) {
+                throw new Error('단어장 학습 세션을 시작하지 못했습니다.');
+            }
+
+            return await response.json();
+        } catch (error) {
+            this.handleError(error, 'startWordBookStudySession');
+            throw error;
+        } finally {
+            this.endLoading();
+        }
+    }
+
+    /**
+     * 단어장 학습 세션의 카드 조회
+     * 학습 중 다음 페이지를 미리 받아오는 용도이므로 로딩 화면은 표시하지 않습니다.
+     * @param {number} wordBookId - 단어장 ID
+     * @param {string} sessionId - 학습 세션 ID
+     * @param {number|null} offset - 페이지 시작 위치 (null 이면 마지막 학습 위치부터)
+     * @param {number} [position] - 현재 학습 위치 (재접속 시 이어서 학습하기 위해 기록)
+     * @returns {Promise<Object>} 요청한 구간의 카드 (세션이 만료되었으면 null)
+     */
+    async fetchWordBookStudyCards(wordBookId, sessionId, offset, position) {
+        try {
+            const params = new URLSearchParams();
+            if (offset !== null && offset !== undefined) params.append('offset', offset);
+            if (position !== null && position !== undefined) params.append('position', position);
+
+            const response = await fetch(
+                `${ApiService.API_ENDPOINTS.WORD_BOOKS}/${wordBookId}/study/sessions/${encodeURIComponent(sessionId)}?${params}`, {
+                    credentials: 'include'
+                });
+
+            if (response.status === 404) {
+                return null;
+            }
+            if (!response.ok) {
+                throw new Error('학습 카드를 불러오는데 실패했습니다.');
+            }
+
+            return await response.json();
+        } catch (error) {
+            this.handleError(error, 'fetchWordBookStudyCards');
+            throw error;
+        }
+    }
+
     /**
      * 단어장 수정
      * @param {number} wordBookId - 단어장 ID
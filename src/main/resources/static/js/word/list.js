@@ -8,7 +8,12 @@ class WordListApp {
             currentPage: 0,
             pageSize: 20,
             isProcessing: false,
-            isInitialLoad: true
+            isInitialLoad: true,
+            // 무한 스크롤 모드 (?view=scroll): 커서 기반 조회
+            infiniteScroll: false,
+            nextCursor: null,
+            hasNext: true,
+            isLoadingMore: false
         };
 
         this.elements = {
@@ -31,6 +36,7 @@ class WordListApp {
         const urlParams = new URLSearchParams(window.location.search);
         const pageParam = urlParams.get('page');
         this.state.currentPage = pageParam ? Math.max(0, parseInt(pageParam) - 1) : 0;
+        this.state.infiniteScroll = urlParams.get('view') === 'scroll';
 
         this.uiManager = new UIManager(this.elements);
         this.paginationManager = new PaginationManager(this.state);
@@ -121,6 +127,21 @@ class WordListApp {
         // 이벤트 리스너 설정
         this.setupEventListeners();
 
+        // 무한 스크롤 모드: 페이지네이션 대신 목록 끝에 닿으면 다음 커서 페이지 로드
+        if (this.state.infiniteScroll) {
+            this.elements.pagination.closest('nav')?.classList.add('d-none');
+            this.infiniteScrollManager = new InfiniteScrollManager(
+                this.elements.wordListContainer,
+                () => this.wordManager.loadMoreWords()
+            );
+            this.wordManager.loadMoreWords()
+                .finally(() => {
+                    this.state.isInitialLoad = false;
+                    this.infiniteScrollManager.observe();
+                });
+            return;
+        }
+
         // 초기 데이터 로드
         this.wordManager.loadWords(this.state.currentPage)
             .catch(error => {
@@ -198,6 +219,14 @@ class UIManager {
         });
     }
 
+    // 단어 목록 뒤에 추가 (무한 스크롤)
+    appendWordList(words) {
+        const offset = this.elements.wordList.children.length;
+        words.forEach((word, index) => {
+            this.elements.wordList.appendChild(this.createWordRow(word, offset + index));
+        });
+    }
+
     // 페이지네이션 업데이트
     updatePagination(paginationHTML) {
         this.elements.pagination.innerHTML = paginationHTML;
@@ -276,6 +305,29 @@ class PaginationManager {
     }
 }
 
+// 무한 스크롤 관리 클래스
+class InfiniteScrollManager {
+    /**
+     * InfiniteScrollManager 생성자
+     * @param {HTMLElement} container - 목록 컨테이너 (바로 뒤에 감시용 요소를 추가)
+     * @param {Function} onReachEnd - 목록 끝에 닿았을 때 호출할 함수
+     */
+    constructor(container, onReachEnd) {
+        this.sentinel = document.createElement('div');
+        this.sentinel.className = 'infinite-scroll-sentinel';
+        container.after(this.sentinel);
+        this.observer = new IntersectionObserver((entries) => {
+            if (entries.some(entry => entry.isIntersecting)) {
+                onReachEnd();
+            }
+        }, {rootMargin: '200px'});
+    }
+
+    observe() {
+        this.observer.observe(this.sentinel);
+    }
+}
+
 // 단어 관리 클래스
 class WordManager {
     /**
@@ -318,6 +370,47 @@ class WordManager {
         }
     }
 
+    /**
+     * 무한 스크롤: 다음 커서 페이지를 불러와 목록 뒤에 붙입니다
+     * @returns {Promise<void>}
+     */
+    async loadMoreWords() {
+        if (this.state.isLoadingMore || !this.state.hasNext) return;
+
+        this.state.isLoadingMore = true;
+        try {
+            const isFirstPage = this.state.nextCursor === null;
+            const data = await apiService.fetchWordsCursor(this.state.nextCursor, this.state.pageSize);
+            this.state.nextCursor = data.nextCursor;
+            this.state.hasNext = data.hasNext;
+
+            if (isFirstPage) {
+                this.uiManager.updateWordList(data.content);
+            } else {
+                this.uiManager.appendWordList(data.content);
+            }
+        } catch (error) {
+            console.error('단어 목록 로드 오류:', error);
+            window.showErrorToast('단어 목록을 불러오는데 실패했습니다.');
+        } finally {
+            this.state.isLoadingMore = false;
+        }
+    }
+
+    /**
+     * 현재 모드에 맞게 목록을 새로고침합니다
+     * @returns {Promise<void>}
+     */
+    async reloadWords() {
+        if (this.state.infiniteScroll) {
+            this.state.nextCursor = null;
+            this.state.hasNext = true;
+            await this.loadMoreWords();
+            return;
+        }
+        await this.loadWords(this.state.currentPage);
+    }
+
     async editWord(id) {
         try {
             const word = await apiService.fetchWord(id);
@@ -348,7 +441,7 @@ class WordManager {
                 modalService.closeAllModals();
 
                 // 목록 새로고침
-                await this.loadWords(this.state.currentPage);
+                await this.reloadWords();
             } catch (error) {
                 console.error('단어 삭제 오류:', error);
                 window.showErrorToast('단어 삭제에 실패했습니다.');
@@ -395,7 +488,7 @@ class WordManager {
             }
 
             // 목록 새로고침
-            await this.loadWords(this.state.currentPage);
+            await this.reloadWords();
         } catch (error) {
             console.error('단어 수정 오류:', error);
             window.showErrorToast('단어 수정에 실패했습니다.');
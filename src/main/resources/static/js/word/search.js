@@ -8,11 +8,17 @@ class SearchApp {
             currentPage: initialPage || 0,
             pageSize: 20,
             keyword: initialKeyword || '',
-            isProcessing: false
+            isProcessing: false,
+            // 무한 스크롤 모드 (?view=scroll): 커서 기반 조회, 전체 개수 없음
+            infiniteScroll: new URLSearchParams(window.location.search).get('view') === 'scroll',
+            nextCursor: null,
+            hasNext: true,
+            isLoadingMore: false
         };
         this.elements = {
             pagination: document.getElementById('pagination'),
             wordList: document.getElementById('wordList'),
+            wordListContainer: document.querySelector('.word-list-table-container'),
             resultCount: document.getElementById('resultCount')
         };
         this.uiManager = new UIManager(this.elements);
@@ -28,6 +34,18 @@ class SearchApp {
     initialize() {
         this.setupEventListeners();
 
+        // 무한 스크롤 모드: 페이지네이션 대신 목록 끝에 닿으면 다음 커서 페이지 로드
+        if (this.state.infiniteScroll) {
+            this.elements.pagination.closest('nav')?.classList.add('d-none');
+            this.infiniteScrollManager = new InfiniteScrollManager(
+                this.elements.wordListContainer,
+                () => this.wordManager.loadMoreResults()
+            );
+            this.wordManager.loadMoreResults()
+                .finally(() => this.infiniteScrollManager.observe());
+            return;
+        }
+
         // 초기 검색 결과 로드
         this.loadSearchResults(this.state.currentPage)
             .then(() => console.log('검색 결과 로드 완료'))
@@ -105,6 +123,9 @@ class SearchApp {
      * @returns {Promise<Object>} 검색 결과 데이터
      */
     async loadSearchResults(page) {
+        if (this.state.infiniteScroll) {
+            return this.wordManager.reloadResults();
+        }
         try {
             console.log('검색 결과 로드 시작: 페이지 ' + page);
             this.state.currentPage = page;
@@ -196,6 +217,30 @@ class UIManager {
         }
     }
 
+    /**
+     * 단어 목록 뒤에 추가 (무한 스크롤)
+     * @param {Array<Object>} words - 단어 객체 배열
+     * @param {boolean} hasNext - 다음 결과 존재 여부
+     */
+    appendWordList(words, hasNext) {
+        const offset = this.elements.wordList.children.length;
+        words.forEach((word, index) => {
+            this.elements.wordList.appendChild(this.createWordRow(word, index));
+        });
+        this.updateLoadedCount(offset + words.length, hasNext);
+    }
+
+    /**
+     * 무한 스크롤 모드의 결과 수 표시 (불러온 수, 더 있으면 +)
+     * @param {number} loaded - 불러온 항목 수
+     * @param {boolean} hasNext - 다음 결과 존재 여부
+     */
+    updateLoadedCount(loaded, hasNext) {
+        if (this.elements.resultCount) {
+            this.elements.resultCount.textContent = hasNext ? `${loaded}+` : loaded;
+        }
+    }
+
     /**
      * 페이지네이션 업데이트
      * @param {number} totalPages - 전체 페이지 수
@@ -296,6 +341,31 @@ class PaginationManager {
     }
 }
 
+/**
+ * 무한 스크롤 관리 클래스
+ */
+class InfiniteScrollManager {
+    /**
+     * 생성자
+     * @param {HTMLElement} container - 목록 컨테이너 (바로 뒤에 감시용 요소를 추가)
+     * @param {Function} onReachEnd - 목록 끝에 닿았을 때 호출할 함수
+     */
+    constructor(container, onReachEnd) {
+        this.sentinel = document.createElement('div');
+        this.sentinel.className = 'infinite-scroll-sentinel';
+        container.after(this.sentinel);
+        this.observer = new IntersectionObserver((entries) => {
+            if (entries.some(entry => entry.isIntersecting)) {
+                onReachEnd();
+            }
+        }, {rootMargin: '200px'});
+    }
+
+    observe() {
+        this.observer.observe(this.sentinel);
+    }
+}
+
 /**
  * 단어 관리 클래스
  */
@@ -366,11 +436,58 @@ class WordManager {
         });
     }
 
+    /**
+     * 무한 스크롤: 다음 커서 페이지를 불러와 목록 뒤에 붙입니다
+     * @returns {Promise<void>}
+     */
+    async loadMoreResults() {
+        if (this.state.isLoadingMore || !this.state.hasNext) return;
+
+        this.state.isLoadingMore = true;
+        try {
+            const isFirstPage = this.state.nextCursor === null;
+            const data = await apiService.searchWordsCursor(
+                this.state.keyword,
+                this.state.nextCursor,
+                this.state.pageSize
+            );
+            this.state.nextCursor = data.nextCursor;
+            this.state.hasNext = data.hasNext;
+
+            if (isFirstPage) {
+                this.uiManager.updateWordList(data.content, data.content.length);
+                if (data.content.length > 0) {
+                    this.uiManager.updateLoadedCount(data.content.length, data.hasNext);
+                }
+            } else {
+                this.uiManager.appendWordList(data.content, data.hasNext);
+            }
+        } catch (error) {
+            console.error('검색 결과 로드 오류:', error);
+            window.showErrorToast('검색 결과를 불러오는데 실패했습니다.');
+        } finally {
+            this.state.isLoadingMore = false;
+        }
+    }
+
+    /**
+     * 무한 스크롤 목록을 처음부터 다시 불러옵니다
+     * @returns {Promise<void>}
+     */
+    async reloadResults() {
+        this.state.nextCursor = null;
+        this.state.hasNext = true;
+        await this.loadMoreResults();
+    }
+
     /**
      * 검색 결과 로드
      * @param {number} page - 페이지 번호
      */
     async loadSearchResults(page) {
+        if (this.state.infiniteScroll) {
+            return this.reloadResults();
+        }
         try {
             this.paginationManager.updateUrl(page);
             const data = await apiService.searchWords(
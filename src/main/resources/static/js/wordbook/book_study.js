@@ -5,8 +5,9 @@ class WordBookStudyApp {
     constructor() {
         // 단어장 ID 설정
         this.state = {
-            currentWords: [],       // 현재 학습할 단어 목록
+            currentWords: [],       // 받아 온 카드 목록 (서버에서 섞은 순서)
             currentIndex: 0,        // 현재 학습 중인 단어 인덱스
+            session: null,          // 학습 세션 {id, total, nextOffset, prefetchAt, loading}
             isProcessing: false,    // 정답 확인 중복 방지
             showingHint: false,     // 힌트 표시 여부
             speaking: false,        // TTS 재생 중인지 여부
@@ -130,8 +131,8 @@ class WordBookStudyApp {
 
         // P 키로 발음 듣기
         document.addEventListener('keydown', (event) => {
-            if (event.key.toLowerCase() === 'p' && this.state.currentWords.length > 0) {
-                const word = this.state.currentWords[this.state.currentIndex];
+            const word = this.state.currentWords[this.state.currentIndex];
+            if (event.key.toLowerCase() === 'p' && word) {
                 this.speechManager.speak(word.vocabulary);
             }
         });
@@ -146,8 +147,8 @@ class WordBookStudyApp {
         // 발음 듣기 버튼
         if (this.elements.speakButton) {
             this.elements.speakButton.addEventListener('click', () => {
-                if (this.state.currentWords.length > 0) {
-                    const word = this.state.currentWords[this.state.currentIndex];
+                const word = this.state.currentWords[this.state.currentIndex];
+                if (word) {
                     this.speechManager.speak(word.vocabulary);
                 }
             });
@@ -290,11 +291,14 @@ class UIManager {
     }
 
     /**
-     * 진행 상태 업데이트
+     * 진행 상태 업데이트 (학습 세션의 전체 카드 기준)
      */
     updateProgress() {
         if (this.elements.progress) {
-            this.elements.progress.textContent = `${this.state.currentIndex + 1} / ${this.state.currentWords.length}`;
+            const word = this.state.currentWords[this.state.currentIndex];
+            const current = word ? word.position + 1 : this.state.currentIndex + 1;
+            const total = this.state.session ? this.state.session.total : this.state.currentWords.length;
+            this.elements.progress.textContent = `${current} / ${total}`;
         }
     }
 
@@ -339,32 +343,73 @@ class StudyManager {
     }
 
     /**
-     * 단어 목록 섞기 (Fisher-Yates 알고리즘)
+     * 재접속 시 이어서 학습하기 위한 세션 저장 키
+     * @returns {string} sessionStorage 키
+     */
+    storageKey() {
+        return `wordbook-study:${this.state.wordBookId}`;
+    }
+
+    /**
+     * 저장된 학습 세션 읽기
+     * @returns {Object|null} {sessionId, position}
      */
-    shuffleWords() {
-        for (let i = this.state.currentWords.length - 1; i > 0; i--) {
-            const j = Math.floor(Math.random() * (i + 1));
-            [this.state.currentWords[i], this.state.currentWords[j]] =
-                [this.state.currentWords[j], this.state.currentWords[i]];
+    readSavedSession() {
+        try {
+            const saved = sessionStorage.getItem(this.storageKey());
+            return saved ? JSON.parse(saved) : null;
+        } catch (error) {
+            return null;
+        }
+    }
+
+    /**
+     * 현재 학습 위치 저장
+     * @param {Object} word - 현재 카드
+     */
+    saveProgress(word) {
+        if (!this.state.session || !word) return;
+        try {
+            sessionStorage.setItem(this.storageKey(), JSON.stringify({
+                sessionId: this.state.session.id,
+                position: word.position
+            }));
+        } catch (error) {
+            // 저장소를 쓸 수 없으면 이어서 학습만 되지 않음
+        }
+    }
+
+    /**
+     * 저장된 학습 세션 삭제
+     */
+    clearSavedSession() {
+        try {
+            sessionStorage.removeItem(this.storageKey());
+        } catch (error) {
+            // 무시
         }
     }
 
     /**
      * 단어 데이터 로드
+     * 저장된 학습 세션이 있으면 마지막 위치부터 이어서, 없거나 만료되었으면 새 세션을 시작합니다.
+     * 단어 순서는 서버에서 섞습니다.
      */
     async loadWords() {
         this.uiManager.showMessage('단어를 불러오는 중입니다...', 0);
         this.state.isProcessing = true;
 
         try {
-            // API 서비스를 통해 단어 데이터 로드
-            this.state.currentWords = await apiService.fetchWordBookStudyData(this.state.wordBookId);
+            const page = await this.resumeSession()
+                || await apiService.startWordBookStudySession(this.state.wordBookId);
+
+            this.state.currentWords = [];
+            this.applyPage(page);
 
-            if (!this.state.currentWords || this.state.currentWords.length === 0) {
+            if (this.state.currentWords.length === 0) {
                 throw new Error('학습할 단어가 없습니다.');
             }
 
-            this.shuffleWords();
             this.state.currentIndex = 0;
             this.showCurrentWord();
             this.uiManager.showMessage('');
@@ -391,13 +436,121 @@ class StudyManager {
         }
     }
 
+    /**
+     * 저장된 학습 세션을 마지막 위치부터 이어서 받기
+     * @returns {Promise<Object|null>} 카드 페이지 (이어서 학습할 수 없으면 null)
+     */
+    async resumeSession() {
+        const saved = this.readSavedSession();
+        if (!saved || !saved.sessionId) return null;
+
+        try {
+            const page = await apiService.fetchWordBookStudyCards(
+                this.state.wordBookId, saved.sessionId, null, saved.position);
+            if (page && page.cards.length > 0) {
+                return page;
+            }
+        } catch (error) {
+            console.warn('학습 세션을 이어서 불러오지 못했습니다:', error);
+        }
+        this.clearSavedSession();
+        return null;
+    }
+
+    /**
+     * 받은 카드 페이지를 학습 목록에 추가
+     * @param {Object} page - 학습 세션 응답
+     */
+    applyPage(page) {
+        if (!this.state.session || this.state.session.id !== page.sessionId) {
+            this.state.session = {id: page.sessionId, total: page.total, loading: null};
+        }
+        this.state.session.nextOffset = page.nextOffset;
+        this.state.session.prefetchAt = page.prefetchAt;
+        this.state.currentWords.push(...page.cards);
+    }
+
+    /**
+     * 아직 받지 않은 카드가 있는지 확인
+     * @returns {boolean} 남은 카드 여부
+     */
+    hasMoreCards() {
+        return !!this.state.session && this.state.session.nextOffset !== null;
+    }
+
+    /**
+     * 다음 카드 페이지 받기 (진행 중인 요청이 있으면 그 결과를 기다림)
+     * @returns {Promise<boolean>} 성공 여부
+     */
+    loadNextPage() {
+        const session = this.state.session;
+        if (!this.hasMoreCards()) return Promise.resolve(false);
+        if (session.loading) return session.loading;
+
+        const word = this.state.currentWords[this.state.currentIndex];
+        session.loading = apiService.fetchWordBookStudyCards(
+            this.state.wordBookId, session.id, session.nextOffset, word ? word.position : null)
+            .then(page => {
+                if (session !== this.state.session) return false;
+                if (!page) {
+                    // 세션 만료: 받아 둔 카드까지만 학습
+                    session.nextOffset = null;
+                    this.clearSavedSession();
+                    this.uiManager.showMessage('학습 세션이 만료되었습니다. 남은 단어는 다시 시작해 주세요.', 3000);
+                    return false;
+                }
+                this.applyPage(page);
+                return true;
+            })
+            .catch(() => false)
+            .finally(() => {
+                session.loading = null;
+            });
+        return session.loading;
+    }
+
+    /**
+     * 현재 카드가 다음 페이지 요청 위치에 도달했으면 미리 받기
+     */
+    prefetchIfNeeded() {
+        const session = this.state.session;
+        const word = this.state.currentWords[this.state.currentIndex];
+        if (!word || !this.hasMoreCards() || session.loading) return;
+
+        if (session.prefetchAt === null || word.position >= session.prefetchAt) {
+            this.loadNextPage();
+        }
+    }
+
+    /**
+     * 다음 카드가 받아질 때까지 대기 (삭제된 단어만 있는 페이지는 건너뜀)
+     */
+    async ensureNextCard() {
+        while (this.state.currentIndex >= this.state.currentWords.length - 1 && this.hasMoreCards()) {
+            if (!await this.loadNextPage()) return;
+        }
+    }
+
+    /**
+     * 새 학습 세션 시작 (반복 모드에서 단어 순서를 다시 섞음)
+     */
+    async restartSession() {
+        const page = await apiService.startWordBookStudySession(this.state.wordBookId);
+        this.state.session = null;
+        this.state.currentWords = [];
+        this.applyPage(page);
+        this.state.currentIndex = 0;
+    }
+
     /**
      * 현재 단어 표시
      */
     showCurrentWord() {
-        if (!this.state.currentWords || this.state.currentWords.length === 0) return;
-
         const word = this.state.currentWords[this.state.currentIndex];
+        if (!word) return;
+
+        this.saveProgress(word);
+        this.prefetchIfNeeded();
 
         // 완전히 초기화를 먼저 수행
         this.uiManager.resetCard();
@@ -438,12 +591,12 @@ class StudyManager {
 
         this.state.isProcessing = true;
 
-        if (!this.state.currentWords || this.state.currentWords.length === 0) {
+        const word = this.state.currentWords[this.state.currentIndex];
+        if (!word) {
             this.state.isProcessing = false;
             return;
         }
 
-        const word = this.state.currentWords[this.state.currentIndex];
         const isCorrect = this.validateAnswer(word.meaning, userAnswer);
 
         if (isCorrect) {
@@ -489,7 +642,7 @@ class StudyManager {
 
             // 약간의 지연 후 다음 단어 처리
             setTimeout(() => {
-                if (this.state.currentIndex === this.state.currentWords.length - 1) {
+                if (this.state.currentIndex === this.state.currentWords.length - 1 && !this.hasMoreCards()) {
                     this.handleLastWord();
                 } else {
                     this.nextWord();
@@ -504,12 +657,16 @@ class StudyManager {
      */
     handleLastWord() {
         if (this.elements.repeatMode && this.elements.repeatMode.checked) {
-            this.shuffleWords();
-            this.state.currentIndex = 0;
-            this.showCurrentWord();
-            this.uiManager.showMessage('모든 단어를 학습했습니다. 다시 시작합니다.', 2000);
-            window.showInfoToast('모든 단어를 학습했습니다. 다시 시작합니다.', {title: '학습 완료'});
+            this.restartSession()
+                .then(() => {
+                    this.showCurrentWord();
+                    this.uiManager.showMessage('모든 단어를 학습했습니다. 다시 시작합니다.', 2000);
+                    window.showInfoToast('모든 단어를 학습했습니다. 다시 시작합니다.', {title: '학습 완료'});
+                })
+                .catch(() => window.showErrorToast('학습을 다시 시작하지 못했습니다.', {title: '오류'}));
         } else {
+            this.clearSavedSession();
+
             // 애니메이션 서비스 활용
             animationService.fadeOut(this.elements.contentContainer, {
                 duration: 800,
@@ -563,7 +720,7 @@ class StudyManager {
     }
 
 // StudyManager 클래스의 nextWord 메서드 수정
-    nextWord() {
+    async nextWord() {
         if (this.state.isProcessing) return;
 
         // 카드 뒤집기 상태 초기화
@@ -571,6 +728,9 @@ class StudyManager {
             this.elements.card.classList.remove('flip');
         }
 
+        // 받아 둔 카드를 다 봤으면 다음 페이지를 기다림
+        await this.ensureNextCard();
+
         if (this.state.currentIndex < this.state.currentWords.length - 1) {
             this.state.currentIndex++;
 
@@ -583,8 +743,12 @@ class StudyManager {
                 }
             });
         } else if (this.elements.repeatMode && this.elements.repeatMode.checked) {
-            this.shuffleWords();
-            this.state.currentIndex = 0;
+            try {
+                await this.restartSession();
+            } catch (error) {
+                window.showErrorToast('학습을 다시 시작하지 못했습니다.', {title: '오류'});
+                return;
+            }
 
             // 애니메이션 서비스 활용
             animationService.slideOut(this.elements.card, 'left', {
@@ -632,7 +796,9 @@ class StudyManager {
      */
     showHint() {
         if (this.state.isProcessing) return;
-        if (!this.state.currentWords || this.state.currentWords.length === 0) return;
+
+        const word = this.state.currentWords[this.state.currentIndex];
+        if (!word) return;
 
         if (this.state.showingHint) {
             this.uiManager.showMessage('');
@@ -640,7 +806,6 @@ class StudyManager {
             return;
         }
 
-        const word = this.state.currentWords[this.state.currentIndex];
         if (word.hint) {
             this.uiManager.showMessage(`힌트: ${word.hint}`);
 
@@ -0,0 +1,129 @@
+package com.adam9e96.wordlol.config;
+
+import com.adam9e96.wordlol.common.constants.Constants;
+import com.adam9e96.wordlol.config.security.jwt.AuthUser;
+import com.adam9e96.wordlol.dto.request.WordBookRequest;
+import com.adam9e96.wordlol.dto.request.WordRequest;
+import com.adam9e96.wordlol.dto.response.WordBookListResponse;
+import com.adam9e96.wordlol.entity.User;
+import com.adam9e96.wordlol.enums.Category;
+import com.adam9e96.wordlol.enums.Role;
+import com.adam9e96.wordlol.repository.jpa.UserRepository;
+import com.adam9e96.wordlol.repository.jpa.WordBookRepository;
+import com.adam9e96.wordlol.service.interfaces.WordBookService;
+import com.adam9e96.wordlol.service.interfaces.WordService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WordBookServiceImpl, WordServiceImpl 을 통한 변경이 2차 캐시와 단어장 목록 쿼리 캐시를 올바르게 무효화하는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest") // H2 인메모리 DB 설정 재사용
+class EntityCacheConfigTest {
+
+    @Autowired
+    private WordBookService wordBookService;
+
+    @Autowired
+    private WordService wordService;
+
+    @Autowired
+    private WordBookRepository wordBookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.save(User.builder()
+                .email("cache-" + UUID.randomUUID() + "@wordlol.com")
+                .name("cache")
+                .role(Role.USER)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthUser(user.getId(), user.getEmail(), Role.USER.getKey()), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void wordBookListIsCachedUntilWordBooksChange() {
+        Long firstId = wordBookService.createWordBook(request("첫 단어장")).id();
+
+        assertEquals(List.of("첫 단어장"), names(wordBookService.findAllWordBookList()));
+        long hits = statistics.getQueryCacheHitCount();
+        assertEquals(List.of("첫 단어장"), names(wordBookService.findAllWordBookList()));
+        assertEquals(hits + 1, statistics.getQueryCacheHitCount());
+
+        // 생성: 쿼리 캐시 무효화
+        Long secondId = wordBookService.createWordBook(request("두 번째 단어장")).id();
+        assertEquals(List.of("첫 단어장", "두 번째 단어장"), names(wordBookService.findAllWordBookList()));
+
+        // 수정: 쿼리 캐시 무효화
+        wordBookService.updateWordBookById(secondId, request("수정된 단어장"));
+        assertEquals(List.of("첫 단어장", "수정된 단어장"), names(wordBookService.findAllWordBookList()));
+
+        // 삭제: 쿼리 캐시와 엔티티 캐시 무효화
+        wordBookService.deleteWordBookById(firstId);
+        assertEquals(List.of("수정된 단어장"), names(wordBookService.findAllWordBookList()));
+        assertTrue(wordBookRepository.findById(firstId).isEmpty());
+    }
+
+    @Test
+    public void wordBookListIsInvalidatedWhenWordsChangeThroughMyBatis() {
+        Long id = wordBookService.createWordBook(request("단어 삭제")).id();
+        assertEquals(1, wordBookService.findAllWordBookList().get(0).wordCount());
+
+        // 단어 삭제는 MyBatis 로 실행되므로 WordChangedEvent 로 무효화되어야 함
+        wordService.deleteWord(wordBookService.findWordsByWordBookId(id).get(0).id());
+
+        assertEquals(0, wordBookService.findAllWordBookList().get(0).wordCount());
+    }
+
+    @Test
+    public void updatedWordBookIsServedFromCacheWithNewValues() {
+        Long id = wordBookService.createWordBook(request("수정 전")).id();
+        assertEquals("수정 전", wordBookRepository.findById(id).orElseThrow().getName());
+
+        wordBookService.updateWordBookById(id, request("수정 후"));
+
+        long hits = statistics.getDomainDataRegionStatistics(Constants.CacheRegion.WORD_BOOK).getHitCount();
+        assertEquals("수정 후", wordBookRepository.findById(id).orElseThrow().getName());
+        // DB 가 아니라 갱신된 캐시 항목에서 읽음
+        assertEquals(hits + 1, statistics.getDomainDataRegionStatistics(Constants.CacheRegion.WORD_BOOK).getHitCount());
+    }
+
+    private static List<String> names(List<WordBookListResponse> wordBooks) {
+        return wordBooks.stream().map(WordBookListResponse::name).toList();
+    }
+
+    private static WordBookRequest request(String name) {
+        return new WordBookRequest(name, "캐시 테스트", Category.TOEIC,
+                List.of(new WordRequest(null, "apple", "사과", null, 1)));
+    }
+}
@@ -0,0 +1,199 @@
+package com.adam9e96.wordlol.controller;
+
+import com.adam9e96.wordlol.common.constants.Constants;
+import com.adam9e96.wordlol.config.security.jwt.JwtTokenProvider;
+import com.adam9e96.wordlol.dto.request.AnswerRequest;
+import com.adam9e96.wordlol.dto.request.WordBookRequest;
+import com.adam9e96.wordlol.dto.request.WordRequest;
+import com.adam9e96.wordlol.entity.User;
+import com.adam9e96.wordlol.entity.Word;
+import com.adam9e96.wordlol.enums.Category;
+import com.adam9e96.wordlol.enums.Role;
+import com.adam9e96.wordlol.event.WordChangedEvent;
+import com.adam9e96.wordlol.repository.jpa.UserRepository;
+import com.adam9e96.wordlol.repository.mybatis.WordMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단어 API 한 번에 실행되는 SQL 구문 수를 확인합니다.
+ * <p>
+ * JPA 는 Hibernate 통계의 PreparedStatement 수, MyBatis 는 mybatis.statement 타이머의 실행 횟수로 셉니다.
+ * 사용자 ID 는 JWT 의 uid 클레임에서 읽으므로 users 테이블 조회가 없어야 합니다.
+ */
+@ActiveProfiles("loadtest") // H2 인메모리 DB 설정 재사용
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        // 주기 작업(학습 기록/연속 정답 수 저장, 단어 수 점검, 오늘의 단어 생성)이 측정 도중 실행되지 않도록 함
+        properties = {
+                "study.history.write-behind.flush-interval-ms=3600000",
+                "study.progress.flush-interval-ms=3600000",
+                "word.count.reconcile-interval-ms=3600000",
+                "word.daily.cron=-"
+        })
+class WordStatementCountTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private WordMapper wordMapper;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+    private Statistics statistics;
+    private String baseUrl;
+    private String token;
+    private Long wordId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        baseUrl = "http://localhost:" + port + Constants.ApiPath.WORDS;
+
+        User user = userRepository.save(User.builder()
+                .email("statements-" + UUID.randomUUID() + "@wordlol.com")
+                .name("statements")
+                .role(Role.USER)
+                .build());
+        List<Word> words = List.of(Word.builder()
+                .vocabulary("apple")
+                .meaning("사과")
+                .difficulty(1)
+                .user(user)
+                .build());
+        transactionTemplate.executeWithoutResult(status -> {
+            wordMapper.batchSave(words);
+            eventPublisher.publishEvent(WordChangedEvent.created(user.getId(), words.size()));
+        });
+        wordId = wordMapper.findIdsByUserId(user.getId()).get(0);
+        token = jwtTokenProvider.createTokenFromEmail(user.getId(), user.getEmail(), Role.USER).getAccessToken();
+    }
+
+    @Test
+    public void getWordRunsOneQuery() throws Exception {
+        StatementCounts counts = measure(() -> assertEquals(200, send(get(baseUrl + "/" + wordId))));
+
+        assertEquals(0, counts.jpa());
+        assertEquals(1, counts.mybatis());
+    }
+
+    @Test
+    public void checkAnswerRunsOneQuery() throws Exception {
+        String json = objectMapper.writeValueAsString(new AnswerRequest("사과", wordId));
+        // 첫 요청은 연속 정답 수를 DB 에서 복원하므로 두 번째 요청을 측정
+        assertEquals(200, send(post(baseUrl + Constants.ApiPath.WORD_CHECK, json)));
+
+        StatementCounts counts = measure(() -> assertEquals(200, send(post(baseUrl + Constants.ApiPath.WORD_CHECK, json))));
+
+        assertEquals(0, counts.jpa());
+        assertEquals(1, counts.mybatis());
+    }
+
+    @Test
+    public void createWordsRunsTwoQueriesPerChunk() throws Exception {
+        String json = objectMapper.writeValueAsString(List.of(
+                new WordRequest(null, "banana", "바나나", null, 1),
+                new WordRequest(null, "cherry", "체리", null, 1),
+                new WordRequest(null, "grape", "포도", null, 1)));
+
+        StatementCounts counts = measure(() -> assertEquals(200, send(post(baseUrl + "/batch", json))));
+
+        // 중복 확인 IN 조회 한 번 + 다중 행 INSERT 한 번 (단어 수와 무관)
+        assertEquals(0, counts.jpa());
+        assertEquals(2, counts.mybatis());
+    }
+
+    @Test
+    public void wordBooksByCategoryRunsOneQuery() throws Exception {
+        String wordBooksUrl = "http://localhost:" + port + Constants.ApiPath.WORD_BOOKS;
+        for (int i = 0; i < 3; i++) {
+            String json = objectMapper.writeValueAsString(new WordBookRequest("단어장" + i, "카테고리 조회", Category.TOEIC,
+                    List.of(new WordRequest(null, "first" + i, "첫째", null, 1),
+                            new WordRequest(null, "second" + i, "둘째", null, 1))));
+            assertEquals(200, send(post(wordBooksUrl, json)));
+        }
+
+        StatementCounts counts = measure(
+                () -> assertEquals(200, send(get(wordBooksUrl + "/category?category=" + Category.TOEIC))));
+
+        // 단어장 수와 무관하게 단어 수를 GROUP BY 로 함께 집계하는 쿼리 한 번
+        assertEquals(1, counts.jpa());
+        assertEquals(0, counts.mybatis());
+    }
+
+    // 요청 직전에 Hibernate 통계를 비우고 MyBatis 실행 횟수를 기록
+    // (MyBatis 타이머는 인터셉터가 참조를 들고 있어 지울 수 없으므로 차이로 계산)
+    private StatementCounts measure(Request request) throws Exception {
+        statistics.clear();
+        long mybatisBefore = mybatisStatementCount();
+        request.run();
+        return new StatementCounts(statistics.getPrepareStatementCount(), mybatisStatementCount() - mybatisBefore);
+    }
+
+    private long mybatisStatementCount() {
+        return meterRegistry.find("mybatis.statement").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    private int send(HttpRequest request) throws Exception {
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Cookie", "access_token=" + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Cookie", "access_token=" + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private record StatementCounts(long jpa, long mybatis) {
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void run() throws Exception;
+    }
+}
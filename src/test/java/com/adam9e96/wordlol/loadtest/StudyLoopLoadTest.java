@@ -0,0 +1,267 @@
+package com.adam9e96.wordlol.loadtest;
+
+import com.adam9e96.wordlol.common.constants.Constants;
+import com.adam9e96.wordlol.config.security.jwt.JwtTokenProvider;
+import com.adam9e96.wordlol.dto.request.AnswerRequest;
+import com.adam9e96.wordlol.dto.response.WordStudyResponse;
+import com.adam9e96.wordlol.entity.User;
+import com.adam9e96.wordlol.entity.Word;
+import com.adam9e96.wordlol.enums.Role;
+import com.adam9e96.wordlol.event.WordChangedEvent;
+import com.adam9e96.wordlol.repository.jpa.UserRepository;
+import com.adam9e96.wordlol.repository.mybatis.WordMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 학습 루프 부하 테스트
+ * <p>
+ * H2 인메모리 DB(MariaDB 호환 모드)에 사용자와 단어를 넣고 앱을 띄운 뒤,
+ * 가상 스레드 클라이언트가 실제 학습 흐름(GET /random -> GET /{id}/hint -> POST /check -> GET /streak)을 반복합니다.
+ * 클라이언트는 사용자별로 발급한 JWT 를 access_token 쿠키로 보냅니다.
+ * <p>
+ * 워밍업 이후 구간의 엔드포인트별 처리량과 p50/p99/p999 응답 시간을 출력하고 JSON 으로 저장합니다.
+ * 기본 test 작업에서는 제외되며 {@code ./gradlew loadTest} 로 실행합니다. 설정은 -Ploadtest.* 로 바꿉니다.
+ * <p>
+ * -Ploadtest.threads=platform|virtual 로 서버의 스레드 모드를 고르면 결과가 study-loop-{모드}.json 에 저장되고,
+ * 두 모드의 결과가 모두 있으면 platform 대비 virtual 의 처리량과 p99 변화를 함께 출력합니다.
+ */
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class StudyLoopLoadTest {
+
+    private static final String RANDOM = "GET /random";
+    private static final String HINT = "GET /{id}/hint";
+    private static final String CHECK = "POST /check";
+    private static final String STREAK = "GET /streak";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private WordMapper wordMapper;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void threading(DynamicPropertyRegistry registry) {
+        String threads = System.getProperty("loadtest.threads", "");
+        if (!threads.isEmpty()) {
+            registry.add("spring.threads.virtual.enabled", () -> "virtual".equals(threads));
+        }
+    }
+
+    @Test
+    void studyLoop() throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        List<String> tokens = seed(settings);
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        StudyLoopStats stats = new StudyLoopStats(List.of(RANDOM, HINT, CHECK, STREAK));
+        long endAt = System.nanoTime()
+                + TimeUnit.SECONDS.toNanos(settings.warmupSeconds() + settings.durationSeconds());
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.clients(); i++) {
+                String token = tokens.get(i % tokens.size());
+                clients.submit(() -> runClient(http, token, settings, stats, endAt));
+            }
+            // 워밍업 이후 구간만 측정
+            Thread.sleep(TimeUnit.SECONDS.toMillis(settings.warmupSeconds()));
+            stats.start();
+            Thread.sleep(TimeUnit.SECONDS.toMillis(settings.durationSeconds()));
+            stats.stop();
+        }
+
+        System.out.println("학습 루프 부하 테스트 결과 " + settings.toMap() + stats.format());
+        stats.writeJson(Path.of(settings.report()), settings.toMap(), objectMapper);
+        printThreadingComparison(Path.of(settings.report()));
+
+        assertThat(stats.totalRequests()).isPositive();
+        assertThat(stats.errorRate()).isLessThanOrEqualTo(settings.maxErrorRate());
+    }
+
+    // 같은 폴더에 두 스레드 모드의 결과가 모두 있으면 비교 출력
+    private void printThreadingComparison(Path report) throws IOException {
+        Path platform = report.resolveSibling("study-loop-platform.json");
+        Path virtual = report.resolveSibling("study-loop-virtual.json");
+        if (Files.exists(platform) && Files.exists(virtual)) {
+            System.out.println("스레드 모드 비교 (platform -> virtual)"
+                    + StudyLoopStats.formatComparison(platform, virtual, objectMapper));
+        }
+    }
+
+    private void runClient(HttpClient http, String token, Settings settings, StudyLoopStats stats, long endAt) {
+        String baseUrl = "http://localhost:" + port + Constants.ApiPath.WORDS;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < endAt && !Thread.currentThread().isInterrupted()) {
+            try {
+                // 1. 학습할 단어
+                String randomUrl = baseUrl + Constants.ApiPath.WORD_RANDOM
+                        + (settings.mode().isEmpty() ? "" : "?mode=" + settings.mode());
+                String body = send(http, stats, RANDOM, get(randomUrl, token));
+                if (body == null) {
+                    continue;
+                }
+                WordStudyResponse word = objectMapper.readValue(body, WordStudyResponse.class);
+
+                // 2. 힌트
+                send(http, stats, HINT, get(baseUrl + "/" + word.id() + "/hint", token));
+
+                // 3. 정답 확인 (correctRate 비율만큼 첫 번째 뜻으로 정답 제출)
+                String answer = random.nextDouble() < settings.correctRate() ? word.meaning().split(",")[0] : "오답";
+                String json = objectMapper.writeValueAsString(new AnswerRequest(answer, word.id()));
+                send(http, stats, CHECK, HttpRequest.newBuilder(URI.create(baseUrl + Constants.ApiPath.WORD_CHECK))
+                        .header("Cookie", "access_token=" + token)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(json))
+                        .build());
+
+                // 4. 연속 정답 수
+                send(http, stats, STREAK, get(baseUrl + "/streak", token));
+            } catch (IOException e) {
+                // 응답 본문 해석 실패는 이미 요청 단위로 기록되므로 다음 반복으로 진행
+            }
+        }
+    }
+
+    private static HttpRequest get(String url, String token) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Cookie", "access_token=" + token)
+                .GET()
+                .build();
+    }
+
+    // 응답 본문을 반환하고, 실패하면 오류로 기록한 뒤 null 반환
+    private static String send(HttpClient http, StudyLoopStats stats, String endpoint, HttpRequest request) {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() == 200;
+            stats.record(endpoint, System.nanoTime() - started, success);
+            return success ? response.body() : null;
+        } catch (IOException e) {
+            stats.record(endpoint, System.nanoTime() - started, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * 사용자와 단어를 저장하고 사용자별 액세스 토큰을 발급합니다.
+     * 단어는 가져오기와 같은 경로(다중 행 INSERT + 변경 이벤트)로 저장하여 메모리 카운터와 샘플러에 반영합니다.
+     */
+    private List<String> seed(Settings settings) {
+        List<User> users = new ArrayList<>(settings.users());
+        for (int i = 0; i < settings.users(); i++) {
+            users.add(User.builder()
+                    .email("loadtest" + i + "@wordlol.com")
+                    .name("loadtest" + i)
+                    .role(Role.USER)
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+
+        List<String> tokens = new ArrayList<>(users.size());
+        for (User user : users) {
+            for (int from = 0; from < settings.wordsPerUser(); from += 1000) {
+                int to = Math.min(from + 1000, settings.wordsPerUser());
+                List<Word> words = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    words.add(Word.builder()
+                            .vocabulary("vocabulary" + i)
+                            .meaning("뜻" + i + ", 의미" + i)
+                            .hint("힌트" + i)
+                            .difficulty(i % 5 + 1)
+                            .user(user)
+                            .build());
+                }
+                transactionTemplate.executeWithoutResult(status -> {
+                    wordMapper.batchSave(words);
+                    eventPublisher.publishEvent(WordChangedEvent.created(user.getId(), words.size()));
+                });
+            }
+            tokens.add(jwtTokenProvider.createTokenFromEmail(user.getId(), user.getEmail(), Role.USER).getAccessToken());
+        }
+        return tokens;
+    }
+
+    /**
+     * 부하 테스트 설정 (-Dloadtest.* 시스템 속성, Gradle 에서는 -Ploadtest.*)
+     */
+    private record Settings(int users, int wordsPerUser, int clients, int warmupSeconds, int durationSeconds,
+                            double correctRate, String mode, String threads, double maxErrorRate, String report) {
+
+        static Settings fromSystemProperties() {
+            String threads = System.getProperty("loadtest.threads", "");
+            return new Settings(
+                    Integer.getInteger("loadtest.users", 100),
+                    Integer.getInteger("loadtest.wordsPerUser", 500),
+                    Integer.getInteger("loadtest.clients", 200),
+                    Integer.getInteger("loadtest.warmupSeconds", 10),
+                    Integer.getInteger("loadtest.durationSeconds", 30),
+                    Double.parseDouble(System.getProperty("loadtest.correctRate", "0.7")),
+                    System.getProperty("loadtest.mode", ""),
+                    threads,
+                    Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01")),
+                    System.getProperty("loadtest.report", threads.isEmpty()
+                            ? "build/reports/loadtest/study-loop.json"
+                            : "build/reports/loadtest/study-loop-" + threads + ".json"));
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("users", users);
+            map.put("wordsPerUser", wordsPerUser);
+            map.put("clients", clients);
+            map.put("warmupSeconds", warmupSeconds);
+            map.put("durationSeconds", durationSeconds);
+            map.put("correctRate", correctRate);
+            map.put("mode", mode.isEmpty() ? Constants.StudyMode.RANDOM : mode);
+            map.put("threads", threads.isEmpty() ? "default" : threads);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.adam9e96.wordlol.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트의 엔드포인트별 처리량과 응답 시간 분포
+ * <p>
+ * 측정 구간(start ~ stop) 안의 요청만 기록합니다. 응답 시간은 1µs ~ 60s 범위를 유효숫자 3자리로 기록합니다.
+ */
+final class StudyLoopStats {
+
+    private static final long MAX_LATENCY_NS = TimeUnit.SECONDS.toNanos(60);
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final List<String> order;
+    private volatile boolean measuring;
+    private long startedAt;
+    private long stoppedAt;
+
+    StudyLoopStats(List<String> endpointNames) {
+        this.order = List.copyOf(endpointNames);
+        endpointNames.forEach(name -> endpoints.put(name, new EndpointStats()));
+    }
+
+    void start() {
+        startedAt = System.nanoTime();
+        measuring = true;
+    }
+
+    void stop() {
+        measuring = false;
+        stoppedAt = System.nanoTime();
+    }
+
+    void record(String endpoint, long elapsedNs, boolean success) {
+        if (!measuring) {
+            return;
+        }
+        EndpointStats stats = endpoints.get(endpoint);
+        if (success) {
+            stats.latency.recordValue(Math.min(Math.max(elapsedNs, 1_000), MAX_LATENCY_NS));
+        } else {
+            stats.errors.increment();
+        }
+    }
+
+    long totalRequests() {
+        return endpoints.values().stream().mapToLong(EndpointStats::requests).sum();
+    }
+
+    double errorRate() {
+        long total = totalRequests();
+        long errors = endpoints.values().stream().mapToLong(stats -> stats.errors.sum()).sum();
+        return total == 0 ? 0 : (double) errors / total;
+    }
+
+    /**
+     * 엔드포인트별 결과 (요청 수, 오류 수, 초당 처리량, 응답 시간 백분위 ms)
+     */
+    Map<String, Map<String, Object>> summary() {
+        double seconds = (stoppedAt - startedAt) / 1e9;
+        Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+        for (String name : order) {
+            EndpointStats stats = endpoints.get(name);
+            Histogram latency = stats.latency.copy();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", stats.requests());
+            row.put("errors", stats.errors.sum());
+            row.put("throughput", round(stats.requests() / seconds));
+            row.put("p50", millis(latency.getValueAtPercentile(50)));
+            row.put("p99", millis(latency.getValueAtPercentile(99)));
+            row.put("p999", millis(latency.getValueAtPercentile(99.9)));
+            row.put("max", millis(latency.getMaxValue()));
+            summary.put(name, row);
+        }
+        return summary;
+    }
+
+    String format() {
+        StringBuilder builder = new StringBuilder(String.format("%n%-18s %10s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+        summary().forEach((name, row) -> builder.append(String.format("%-18s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name, row.get("requests"), row.get("errors"), row.get("throughput"),
+                row.get("p50"), row.get("p99"), row.get("p999"), row.get("max"))));
+        return builder.toString();
+    }
+
+    void writeJson(Path path, Map<String, Object> settings, ObjectMapper objectMapper) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("durationSeconds", round((stoppedAt - startedAt) / 1e9));
+        report.put("endpoints", summary());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+    }
+
+    /**
+     * 두 실행 결과(JSON)의 엔드포인트별 처리량과 p99 를 나란히 보여줍니다.
+     *
+     * @param before 기준 결과 파일
+     * @param after  비교할 결과 파일
+     */
+    static String formatComparison(Path before, Path after, ObjectMapper objectMapper) throws IOException {
+        JsonNode base = objectMapper.readTree(before.toFile()).path("endpoints");
+        JsonNode target = objectMapper.readTree(after.toFile()).path("endpoints");
+        StringBuilder builder = new StringBuilder(String.format("%n%s -> %s%n%-18s %12s %12s %8s %10s %10s %8s%n",
+                before.getFileName(), after.getFileName(),
+                "endpoint", "req/s(전)", "req/s(후)", "변화", "p99(전)", "p99(후)", "변화"));
+        target.fieldNames().forEachRemaining(name -> {
+            JsonNode b = base.path(name);
+            JsonNode a = target.path(name);
+            builder.append(String.format("%-18s %12.1f %12.1f %7.1f%% %10.2f %10.2f %7.1f%%%n", name,
+                    b.path("throughput").asDouble(), a.path("throughput").asDouble(),
+                    change(b.path("throughput").asDouble(), a.path("throughput").asDouble()),
+                    b.path("p99").asDouble(), a.path("p99").asDouble(),
+                    change(b.path("p99").asDouble(), a.path("p99").asDouble())));
+        });
+        return builder.toString();
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : round((after - before) / before * 100);
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static final class EndpointStats {
+        private final Histogram latency = new ConcurrentHistogram(1_000, MAX_LATENCY_NS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        long requests() {
+            return latency.getTotalCount() + errors.sum();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.adam9e96.wordlol.support.answer;
+
+import com.adam9e96.wordlol.entity.Word;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnswerMatcherTest {
+
+    @Test
+    public void recompilesWhenMeaningChangesWithoutNewTimestamp() {
+        AnswerMatcher matcher = new AnswerMatcher(new AnswerMatcherProperties());
+        Word original = Word.builder().id(1L).vocabulary("apple").meaning("사과").build();
+        assertTrue(matcher.matches(original, "사과"));
+
+        // 같은 초 안에 수정되어 updated_at 이 같아도 바뀐 뜻으로 비교해야 함
+        Word edited = original.update("apple", "능금", null, null);
+        assertTrue(matcher.matches(edited, "능금"));
+        assertFalse(matcher.matches(edited, "사과"));
+    }
+}
@@ -0,0 +1,49 @@
+package com.adam9e96.wordlol.support.answer;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnswerSetTest {
+
+    @Test
+    public void normalizesWhitespacePunctuationAndParentheticals() {
+        AnswerSet answers = AnswerSet.compile("달리다(뛰다, 걷다), 운영하다; ice-cream");
+
+        assertTrue(answers.matches(AnswerNormalizer.normalize(" 달리다 "), 0, 4));
+        assertTrue(answers.matches(AnswerNormalizer.normalize("달리다 (뛰다)"), 0, 4));
+        assertTrue(answers.matches(AnswerNormalizer.normalize("달리다뛰다걷다"), 0, 4));
+        assertTrue(answers.matches(AnswerNormalizer.normalize("운영 하다!"), 0, 4));
+        assertTrue(answers.matches(AnswerNormalizer.normalize("Ice Cream"), 0, 4));
+        assertFalse(answers.matches(AnswerNormalizer.normalize("뛰다"), 0, 4));
+    }
+
+    @Test
+    public void composesDecomposedHangul() {
+        AnswerSet answers = AnswerSet.compile("사과");
+        String decomposed = Normalizer.normalize("사과", Normalizer.Form.NFD);
+
+        assertTrue(answers.matches(AnswerNormalizer.normalize(decomposed), 0, 4));
+    }
+
+    @Test
+    public void fuzzyMatchOnlyForLongAnswers() {
+        AnswerSet answers = AnswerSet.compile("사과, 운영하다");
+
+        assertTrue(answers.matches(AnswerNormalizer.normalize("운영하디"), 1, 4));
+        assertFalse(answers.matches(AnswerNormalizer.normalize("운영허디"), 1, 4));
+        // 짧은 정답은 한 글자 차이도 오답
+        assertFalse(answers.matches(AnswerNormalizer.normalize("사자"), 1, 4));
+    }
+
+    @Test
+    public void bandedDistanceMatchesFullDistance() {
+        assertEquals(3, BandedLevenshtein.distance("kitten", "sitting", 3));
+        assertEquals(3, BandedLevenshtein.distance("kitten", "sitting", 2));
+        assertEquals(1, BandedLevenshtein.distance("abc", "abxc", 1));
+        assertEquals(0, BandedLevenshtein.distance("", "", 0));
+        assertEquals(2, BandedLevenshtein.distance("abcdef", "a", 1));
+    }
+}
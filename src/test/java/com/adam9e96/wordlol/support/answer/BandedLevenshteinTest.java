@@ -0,0 +1,25 @@
+package com.adam9e96.wordlol.support.answer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BandedLevenshteinTest {
+
+    @Test
+    public void distanceWithinBand() {
+        assertEquals(0, BandedLevenshtein.distance("운영하다", "운영하다", 1));
+        assertEquals(1, BandedLevenshtein.distance("운영하다", "운영하디", 1));
+        assertEquals(1, BandedLevenshtein.distance("운영하다", "운영다", 1));
+        assertEquals(1, BandedLevenshtein.distance("운영다", "운영하다", 1));
+        assertEquals(3, BandedLevenshtein.distance("kitten", "sitting", 3));
+    }
+
+    @Test
+    public void distanceBeyondBandIsCapped() {
+        // max 를 넘으면 max + 1
+        assertEquals(2, BandedLevenshtein.distance("운영하다", "작동하다", 1));
+        assertEquals(2, BandedLevenshtein.distance("abcdef", "zzzzzz", 1));
+        assertEquals(2, BandedLevenshtein.distance("ab", "abcd", 1));
+    }
+}
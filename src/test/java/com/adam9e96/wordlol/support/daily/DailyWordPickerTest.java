@@ -0,0 +1,46 @@
+package com.adam9e96.wordlol.support.daily;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyWordPickerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 4, 1);
+    private final List<Long> ids = LongStream.rangeClosed(1, 100).boxed().toList();
+
+    @Test
+    public void sameUserAndDateGiveSameWords() {
+        List<Long> first = DailyWordPicker.pick(1L, DATE, ids, Set.of(), 5);
+
+        assertEquals(5, first.size());
+        assertEquals(5, new HashSet<>(first).size());
+        assertEquals(first, DailyWordPicker.pick(1L, DATE, ids, Set.of(), 5));
+        assertNotEquals(first, DailyWordPicker.pick(1L, DATE.plusDays(1), ids, Set.of(), 5));
+        assertNotEquals(first, DailyWordPicker.pick(2L, DATE, ids, Set.of(), 5));
+    }
+
+    @Test
+    public void prefersWordsNotRecentlyStudied() {
+        Set<Long> recent = new HashSet<>(ids.subList(0, 97));
+
+        List<Long> picked = DailyWordPicker.pick(1L, DATE, ids, recent, 5);
+
+        // 최근 학습하지 않은 3개를 먼저 고르고 나머지를 최근 학습한 단어로 채움
+        assertEquals(Set.of(98L, 99L, 100L), new HashSet<>(picked.subList(0, 3)));
+        assertTrue(recent.containsAll(picked.subList(3, 5)));
+    }
+
+    @Test
+    public void returnsEveryWordWhenFewerThanSize() {
+        List<Long> picked = DailyWordPicker.pick(1L, DATE, List.of(3L, 7L), Set.of(), 5);
+
+        assertEquals(Set.of(3L, 7L), new HashSet<>(picked));
+    }
+}
@@ -0,0 +1,53 @@
+package com.adam9e96.wordlol.support.db;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitedDataSource dataSource =
+            new ConcurrencyLimitedDataSource(stubDataSource(), 1, 50, registry);
+
+    @Test
+    public void rejectsWhenAllPermitsAreInUse() throws Exception {
+        Connection first = dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(1, registry.get("jdbc.concurrency.rejected").counter().count());
+
+        first.close();
+        dataSource.getConnection().close();
+    }
+
+    @Test
+    public void closingTwiceReleasesOnePermit() throws Exception {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertEquals(0, registry.get("jdbc.concurrency.active").gauge().value());
+        Connection next = dataSource.getConnection();
+        assertEquals(1, registry.get("jdbc.concurrency.active").gauge().value());
+        // 허가가 하나만 반환되었으므로 두 번째 커넥션은 거절
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        next.close();
+    }
+
+    private static DataSource stubDataSource() {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> method.getName().equals("getConnection") ? stubConnection() : null);
+    }
+
+    private static Connection stubConnection() {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> null);
+    }
+}
@@ -0,0 +1,42 @@
+package com.adam9e96.wordlol.support.etag;
+
+import com.adam9e96.wordlol.event.WordBookChangedEvent;
+import com.adam9e96.wordlol.event.WordChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserDataVersionsTest {
+
+    private final UserDataVersions versions = new UserDataVersions();
+
+    @Test
+    public void versionIsStableUntilChanged() {
+        String first = versions.current(1L);
+
+        assertEquals(first, versions.current(1L));
+
+        versions.onWordChanged(WordChangedEvent.updated(1L, List.of(10L)));
+        String afterWordChange = versions.current(1L);
+        assertNotEquals(first, afterWordChange);
+
+        versions.onWordBookChanged(new WordBookChangedEvent(1L, 5L));
+        assertNotEquals(afterWordChange, versions.current(1L));
+    }
+
+    @Test
+    public void changesDoNotAffectOtherUsers() {
+        String other = versions.current(2L);
+
+        versions.bump(1L);
+
+        assertEquals(other, versions.current(2L));
+    }
+
+    @Test
+    public void instancesNeverShareVersions() {
+        assertNotEquals(versions.current(1L), new UserDataVersions().current(1L));
+    }
+}
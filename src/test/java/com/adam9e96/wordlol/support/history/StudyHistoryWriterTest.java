@@ -0,0 +1,128 @@
+package com.adam9e96.wordlol.support.history;
+
+import com.adam9e96.wordlol.repository.mybatis.DailyStatsMapper;
+import com.adam9e96.wordlol.repository.mybatis.StudyHistoryMapper;
+import com.adam9e96.wordlol.support.stats.DailyStatsRollup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudyHistoryWriterTest {
+
+    // 삭제된 단어 (외래 키 위반)
+    private static final long DELETED_WORD_ID = 13L;
+
+    // 쓰기 지연 스레드와 테스트 스레드가 함께 접근
+    private final List<StudyRecord> saved = Collections.synchronizedList(new ArrayList<>());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger transientFailures = new AtomicInteger();
+
+    private final StudyHistoryMapper mapper = records -> {
+        if (transientFailures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            throw new QueryTimeoutException("timeout");
+        }
+        if (records.stream().anyMatch(record -> record.wordId() == DELETED_WORD_ID)) {
+            throw new DataIntegrityViolationException("fk_study_history_word");
+        }
+        saved.addAll(records);
+        return records.size();
+    };
+
+    private StudyHistoryWriter newWriter() {
+        StudyHistoryWriterProperties properties = new StudyHistoryWriterProperties();
+        properties.setRetryBackoffMs(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+        DailyStatsMapper dailyStatsMapper = (DailyStatsMapper) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[]{DailyStatsMapper.class}, (proxy, method, args) -> 0);
+        return new StudyHistoryWriter(mapper, properties,
+                new DailyStatsRollup(dailyStatsMapper, transactionTemplate), transactionTemplate, meterRegistry);
+    }
+
+    @Test
+    public void dropsOnlyRecordsThatCannotBeSaved() {
+        StudyHistoryWriter writer = newWriter();
+        List<StudyRecord> batch = new ArrayList<>();
+        for (long wordId = 1; wordId <= 20; wordId++) {
+            batch.add(StudyRecord.of(1L, wordId, true));
+        }
+
+        writer.flush(batch);
+
+        assertEquals(19, saved.size());
+        assertTrue(saved.stream().noneMatch(record -> record.wordId() == DELETED_WORD_ID));
+        assertEquals(1, meterRegistry.counter("study.history.flush.failures").count());
+    }
+
+    @Test
+    public void retriesTransientFailures() {
+        StudyHistoryWriter writer = newWriter();
+        transientFailures.set(2);
+
+        writer.record(StudyRecord.of(1L, 1L, true));
+
+        assertEquals(1, saved.size());
+        assertEquals(2, meterRegistry.counter("study.history.flush.retries").count());
+        assertEquals(0, meterRegistry.counter("study.history.flush.failures").count());
+    }
+
+    @Test
+    public void savesBatchThatFailsTransientlyDuringShutdown() {
+        StudyHistoryWriter writer = newWriter();
+        writer.start();
+        // 재시도를 모두 소진할 만큼 실패 -> 큐에 되돌린 배치를 종료 시 다시 저장
+        transientFailures.set(4);
+        for (long wordId = 1; wordId <= 5; wordId++) {
+            writer.record(StudyRecord.of(1L, wordId, true));
+        }
+
+        // 첫 배치를 모으는 동안(flushIntervalMs) 종료
+        writer.stop();
+
+        assertEquals(5, saved.size());
+        assertEquals(0, meterRegistry.counter("study.history.flush.failures").count());
+    }
+
+    @Test
+    public void shutdownGivesUpWhenDatabaseDoesNotRecover() {
+        StudyHistoryWriter writer = newWriter();
+        writer.start();
+        transientFailures.set(Integer.MAX_VALUE);
+        for (long wordId = 1; wordId <= 5; wordId++) {
+            writer.record(StudyRecord.of(1L, wordId, true));
+        }
+
+        writer.stop();
+
+        assertTrue(saved.isEmpty());
+        assertEquals(5, meterRegistry.counter("study.history.flush.failures").count());
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.adam9e96.wordlol.support.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvWordImportReaderTest {
+
+    @Test
+    public void skipsHeaderAndReadsQuotedFields() throws IOException {
+        String csv = "vocabulary,meaning,hint,difficulty\r\n"
+                + "apple,사과,,1\r\n"
+                + "\"ice cream\",\"아이스, 크림\",\"say \"\"cold\"\"\",2\n";
+        CsvWordImportReader reader = new CsvWordImportReader(new StringReader(csv));
+
+        ImportRow first = reader.next();
+        assertEquals(1, first.row());
+        assertEquals("apple", first.request().vocabulary());
+        assertNull(first.request().hint());
+        assertEquals(1, first.request().difficulty());
+
+        ImportRow second = reader.next();
+        assertEquals("ice cream", second.request().vocabulary());
+        assertEquals("아이스, 크림", second.request().meaning());
+        assertEquals("say \"cold\"", second.request().hint());
+
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void malformedRowDoesNotStopReading() throws IOException {
+        String csv = "apple,사과,,hard\n\nbanana,바나나\n";
+        CsvWordImportReader reader = new CsvWordImportReader(new StringReader(csv));
+
+        ImportRow first = reader.next();
+        assertNull(first.request());
+        assertNotNull(first.error());
+
+        ImportRow second = reader.next();
+        assertEquals(2, second.row());
+        assertEquals("banana", second.request().vocabulary());
+        assertNull(second.request().difficulty());
+
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void longFieldIsTruncated() throws IOException {
+        String csv = "a".repeat(CsvWordImportReader.MAX_FIELD_LENGTH * 2) + ",뜻,,1\n";
+        CsvWordImportReader reader = new CsvWordImportReader(new StringReader(csv));
+
+        assertEquals(CsvWordImportReader.MAX_FIELD_LENGTH, reader.next().request().vocabulary().length());
+    }
+}
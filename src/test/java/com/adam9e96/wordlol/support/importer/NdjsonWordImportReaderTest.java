@@ -0,0 +1,51 @@
+package com.adam9e96.wordlol.support.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonWordImportReaderTest {
+
+    private NdjsonWordImportReader reader(String ndjson) {
+        return new NdjsonWordImportReader(new BufferedReader(new StringReader(ndjson)), new ObjectMapper());
+    }
+
+    @Test
+    public void nullAndNonObjectLinesAreMalformed() throws IOException {
+        NdjsonWordImportReader reader = reader("null\r\n[1,2]\n\n{\"vocabulary\":\"apple\",\"meaning\":\"사과\"}\n");
+
+        ImportRow nullLine = reader.next();
+        assertNull(nullLine.request());
+        assertNotNull(nullLine.error());
+
+        ImportRow arrayLine = reader.next();
+        assertNull(arrayLine.request());
+        assertNotNull(arrayLine.error());
+
+        ImportRow word = reader.next();
+        assertEquals(3, word.row());
+        assertEquals("apple", word.request().vocabulary());
+
+        assertNull(reader.next());
+    }
+
+    @Test
+    public void overlongLineIsSkippedWithoutStoppingReading() throws IOException {
+        String longLine = "{\"vocabulary\":\"" + "a".repeat(NdjsonWordImportReader.MAX_LINE_LENGTH) + "\"}";
+        NdjsonWordImportReader reader = reader(longLine + "\n{\"vocabulary\":\"pear\",\"meaning\":\"배\"}");
+
+        ImportRow first = reader.next();
+        assertNull(first.request());
+        assertTrue(first.error().contains("너무 깁니다"));
+
+        ImportRow second = reader.next();
+        assertEquals(2, second.row());
+        assertEquals("pear", second.request().vocabulary());
+        assertNull(reader.next());
+    }
+}
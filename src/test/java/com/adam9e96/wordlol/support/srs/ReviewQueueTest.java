@@ -0,0 +1,61 @@
+package com.adam9e96.wordlol.support.srs;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewQueueTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long POSTPONE_MS = 5 * 60 * 1000L;
+
+    @Test
+    public void nextReturnsEarliestDueCard() {
+        ReviewQueue queue = new ReviewQueue();
+        queue.add(1L, NOW);
+        queue.add(2L, NOW);
+
+        // 1번은 정답으로 1일 뒤, 2번은 오답으로 10분 뒤 복습
+        queue.review(1L, true, NOW);
+        queue.review(2L, false, NOW);
+
+        assertEquals(2L, queue.next(NOW, POSTPONE_MS));
+    }
+
+    @Test
+    public void correctAnswersGrowInterval() {
+        SrsCard card = new SrsCard(1L, NOW);
+
+        card.review(true, NOW);
+        assertEquals(1, card.getIntervalDays());
+        card.review(true, NOW);
+        assertEquals(6, card.getIntervalDays());
+        card.review(true, NOW);
+        assertTrue(card.getIntervalDays() > 6);
+
+        card.review(false, NOW);
+        assertEquals(0, card.getRepetitions());
+        assertEquals(NOW + SrsCard.RELEARN_DELAY_MS, card.getDueAt());
+    }
+
+    @Test
+    public void removedCardIsNeverReturned() {
+        ReviewQueue queue = new ReviewQueue();
+        queue.add(1L, NOW);
+        queue.add(2L, NOW + 1);
+        queue.remove(1L);
+
+        assertEquals(2L, queue.next(NOW, POSTPONE_MS));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void unansweredCardIsPostponed() {
+        ReviewQueue queue = new ReviewQueue();
+        queue.add(1L, NOW);
+        queue.add(2L, NOW + 1000);
+
+        assertEquals(1L, queue.next(NOW, POSTPONE_MS));
+        assertEquals(2L, queue.next(NOW, POSTPONE_MS));
+    }
+}
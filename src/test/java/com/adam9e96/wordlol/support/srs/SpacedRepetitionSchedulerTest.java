@@ -0,0 +1,78 @@
+package com.adam9e96.wordlol.support.srs;
+
+import com.adam9e96.wordlol.repository.jpa.StudyHistoryRepository;
+import com.adam9e96.wordlol.repository.mybatis.WordMapper;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpacedRepetitionSchedulerTest {
+
+    private static final long USER_ID = 1L;
+
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private SpacedRepetitionScheduler newScheduler() {
+        WordMapper wordMapper = (WordMapper) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{WordMapper.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findIdsByUserId")) {
+                        return List.of(1L, 2L);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        // 학습 기록 조회에서 멈춰 재구성이 진행 중인 상태를 만듦
+        StudyHistoryRepository studyHistoryRepository = (StudyHistoryRepository) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[]{StudyHistoryRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findOutcomesByUserId")) {
+                        loading.countDown();
+                        assertTrue(release.await(5, TimeUnit.SECONDS));
+                        return List.of();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new SpacedRepetitionScheduler(wordMapper, studyHistoryRepository);
+    }
+
+    @Test
+    public void answerDuringRebuildIsReplayed() throws Exception {
+        SpacedRepetitionScheduler scheduler = newScheduler();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Long> next = CompletableFuture.supplyAsync(() -> scheduler.nextWordId(USER_ID), executor);
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // 1번 단어를 맞혀 다음 복습이 하루 뒤로 밀림 (재구성이 끝나기 전에 도착)
+            scheduler.recordAnswer(USER_ID, 1L, true);
+            release.countDown();
+
+            assertEquals(2L, next.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void invalidateDuringRebuildDiscardsQueue() throws Exception {
+        SpacedRepetitionScheduler scheduler = newScheduler();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Long> next = CompletableFuture.supplyAsync(() -> scheduler.nextWordId(USER_ID), executor);
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            scheduler.invalidate(USER_ID);
+            release.countDown();
+            next.get(5, TimeUnit.SECONDS);
+
+            // 무효화된 대기열은 캐시에 남지 않으므로 이후 정답은 반영되지 않음 (다음 요청 때 다시 재구성)
+            scheduler.recordAnswer(USER_ID, 1L, true);
+            assertEquals(1L, scheduler.nextWordId(USER_ID));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.adam9e96.wordlol.support.study;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudyDeckStoreTest {
+
+    private final StudyDeckStore store = new StudyDeckStore(new StudyDeckProperties());
+
+    @Test
+    public void shufflesEveryWordExactlyOnce() {
+        List<Long> ids = LongStream.rangeClosed(1, 500).boxed().toList();
+
+        StudyDeck deck = store.create(1L, 10L, ids);
+
+        List<Long> dealt = new ArrayList<>();
+        for (int offset = 0; offset < deck.size(); offset += 20) {
+            dealt.addAll(deck.slice(offset, 20));
+        }
+        assertEquals(500, deck.size());
+        assertNotEquals(ids, dealt);
+        assertEquals(ids, dealt.stream().sorted().toList());
+    }
+
+    @Test
+    public void slicesAreClampedToDeck() {
+        StudyDeck deck = store.create(1L, 10L, List.of(1L, 2L, 3L));
+
+        assertEquals(1, deck.slice(2, 20).size());
+        assertTrue(deck.slice(3, 20).isEmpty());
+        assertTrue(deck.slice(0, 0).isEmpty());
+
+        deck.setPosition(99);
+        assertEquals(3, deck.getPosition());
+    }
+
+    @Test
+    public void sessionIsVisibleOnlyToOwner() {
+        StudyDeck deck = store.create(1L, 10L, List.of(1L, 2L));
+
+        assertSame(deck, store.find(1L, deck.getSessionId()).orElseThrow());
+        assertTrue(store.find(2L, deck.getSessionId()).isEmpty());
+        assertTrue(store.find(1L, "unknown").isEmpty());
+    }
+}
@@ -0,0 +1,72 @@
+package com.adam9e96.wordlol.support.wordbook;
+
+import com.adam9e96.wordlol.dto.request.WordRequest;
+import com.adam9e96.wordlol.entity.User;
+import com.adam9e96.wordlol.entity.Word;
+import com.adam9e96.wordlol.entity.WordBook;
+import com.adam9e96.wordlol.exception.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordBookWordDiffTest {
+
+    private final WordBook wordBook = WordBook.builder().id(10L).build();
+    private final User user = User.builder().id(1L).build();
+
+    @Test
+    public void classifiesWordsById() {
+        List<Word> existing = List.of(word(1L, "apple", "사과"), word(2L, "banana", "바나나"), word(3L, "cherry", "체리"));
+
+        WordBookWordDiff diff = WordBookWordDiff.compute(wordBook, user, existing, List.of(
+                request(1L, "apple", "사과"),
+                request(2L, "banana", "바나나, 파초"),
+                request(null, "grape", "포도"),
+                request(99L, "melon", "멜론")));
+
+        assertEquals(1, diff.unchanged());
+        assertEquals(List.of(2L), diff.modified().stream().map(Word::getId).toList());
+        assertEquals("바나나, 파초", diff.modified().get(0).getMeaning());
+        // 단어장에 없는 ID 는 새 단어로 추가
+        assertEquals(List.of("grape", "melon"), diff.added().stream().map(Word::getVocabulary).toList());
+        assertTrue(diff.added().stream().allMatch(word -> word.getId() == null && word.getWordBook() == wordBook));
+        assertEquals(List.of(3L), diff.removedIds());
+        assertEquals(4, diff.wordCount());
+    }
+
+    @Test
+    public void singleEditInLargeBookTouchesOneRow() {
+        List<Word> existing = new ArrayList<>();
+        List<WordRequest> requests = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            existing.add(word(id, "word", "뜻" + id));
+            requests.add(request(id, "word", id == 1000 ? "새 뜻" : "뜻" + id));
+        }
+
+        WordBookWordDiff diff = WordBookWordDiff.compute(wordBook, user, existing, requests);
+
+        assertEquals(1999, diff.unchanged());
+        assertEquals(1, diff.modified().size());
+        assertTrue(diff.added().isEmpty());
+        assertTrue(diff.removedIds().isEmpty());
+    }
+
+    @Test
+    public void rejectsDuplicateIds() {
+        List<Word> existing = List.of(word(1L, "apple", "사과"));
+
+        assertThrows(ValidationException.class, () -> WordBookWordDiff.compute(wordBook, user, existing,
+                List.of(request(1L, "apple", "사과"), request(1L, "apple", "능금"))));
+    }
+
+    private Word word(Long id, String vocabulary, String meaning) {
+        return Word.builder().id(id).vocabulary(vocabulary).meaning(meaning).difficulty(1).wordBook(wordBook).user(user).build();
+    }
+
+    private static WordRequest request(Long id, String vocabulary, String meaning) {
+        return new WordRequest(id, vocabulary, meaning, null, 1);
+    }
+}